@@ -42,10 +42,35 @@ public class BungeeMain extends Plugin {
 
 		}
 
+		// Write buffered statistics while the executor is still running, v1.0.19
+		if (Core.getInstance().getStatSystem() != null) {
+			Core.getInstance().getStatSystem().getBuffer().shutdown();
+		}
+
+		// Write queued chat messages, v1.0.19
+		if (Core.getInstance().getModerationSystem() != null) {
+			Core.getInstance().getModerationSystem().getChatMessageLogger().shutdown();
+		}
+
+		// Write queued balances and ledger entries, v1.0.19
+		if (Core.getInstance().getEconomySystem() != null) {
+			Core.getInstance().getEconomySystem().shutdown();
+		}
+
+		// Finish queued database tasks before closing the pool, v1.0.19
+		if (Core.getInstance().getDatabaseExecutor() != null) {
+			Core.getInstance().getDatabaseExecutor().shutdown(10_000L);
+		}
+
 		if (Core.getInstance().getMySQL().isConnected()) {
 			Core.getInstance().getMySQL().close();
 		}
 
+		// v1.0.19
+		if (Core.getInstance().getSettingsManager() != null) {
+			Core.getInstance().getSettingsManager().shutdown();
+		}
+
 	}
 
 	public static BungeeMain getInstance() {
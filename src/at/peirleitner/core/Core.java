@@ -11,8 +11,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -39,6 +41,7 @@ import at.peirleitner.core.util.DiscordWebhook;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.RunMode;
 import at.peirleitner.core.util.database.CredentialsFile;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.MySQL;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.SaveType.WorldType;
@@ -47,6 +50,7 @@ import at.peirleitner.core.util.local.RankType;
 import at.peirleitner.core.util.user.Language;
 import at.peirleitner.core.util.user.LanguagePhrase;
 import at.peirleitner.core.util.user.Rank;
+import at.peirleitner.core.util.user.RankTable;
 import at.peirleitner.core.util.user.User;
 
 /**
@@ -60,9 +64,12 @@ public final class Core {
 	private final RunMode runMode;
 	public static Core instance;
 	private final MySQL mysql;
+	private DatabaseExecutor databaseExecutor;
 	private final Gson gson;
 	private Collection<SaveType> saveTypes;
 	private final Collection<Rank> ranks;
+	private volatile RankTable rankTable;
+	private final ConcurrentHashMap<UUID, Rank> resolvedRanks;
 	private File ranksFile;
 
 	private final String DISCORD_WEBHOOK_START_URL = "https://discord.com/api/webhooks/";
@@ -102,6 +109,8 @@ public final class Core {
 		this.saveTypes = new ArrayList<>();
 		this.ranks = new ArrayList<>();
 		this.ranksFile = new File(this.getDataFolder().getPath() + "/ranks.json");
+		this.rankTable = new RankTable(this.ranks);
+		this.resolvedRanks = new ConcurrentHashMap<>();
 		this.loadRanks();
 
 		// Manager
@@ -122,6 +131,11 @@ public final class Core {
 
 		this.createTables();
 		this.loadSaveTypes();
+
+		// One worker per pooled connection, v1.0.19
+		this.databaseExecutor = new DatabaseExecutor(this.getPluginName(), this.mysql.getPool().getMaxSize(),
+				this.getSettingsManager().getDatabaseQueueSize(),
+				this.getSettingsManager().getSlowDatabaseTaskThreshold());
 //		this.settingsManager.setDefaultDatabaseSettings();
 
 		// System
@@ -183,6 +197,17 @@ public final class Core {
 		return this.mysql;
 	}
 
+	/**
+	 * 
+	 * @return Executor for asynchronous database tasks or <code>null</code> if no
+	 *         database connection could be established
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final DatabaseExecutor getDatabaseExecutor() {
+		return this.databaseExecutor;
+	}
+
 	/**
 	 * @deprecated See {@link TableType}
 	 * @return {@link #table_saveType}
@@ -320,6 +345,10 @@ public final class Core {
 			return;
 		}
 
+		// Lookups are served from a precomputed table, v1.0.19
+		this.rankTable = new RankTable(this.ranks);
+		this.invalidateRanks();
+
 		Core.getInstance().log(this.getClass(), LogType.DEBUG, "Loaded " + this.ranks.size() + " Ranks");
 
 	}
@@ -328,43 +357,82 @@ public final class Core {
 		return this.ranks;
 	}
 
+	/**
+	 * 
+	 * @return Table of all Ranks, built once the ranks file has been loaded
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final RankTable getRankTable() {
+		return this.rankTable;
+	}
+
 	public final Rank getRankByPriority(@Nonnull int id) {
-		return this.ranks.stream().filter(rank -> rank.getPriority() == id).findAny().orElse(null);
+		return this.getRankTable().getByPriority(id);
 	}
 
+	/**
+	 * 
+	 * @return All Ranks starting with the highest priority
+	 * @apiNote As of v1.0.19 the returned list is immutable
+	 */
 	public final List<Rank> getInRightOrder() {
+		return this.getRankTable().getRanks();
+	}
 
-		List<Integer> list = new ArrayList<>();
+	public final Rank getDefaultRank() {
+		return this.getRankTable().getDefaultRank();
+	}
 
-		for (Rank rank : this.ranks) {
-			list.add(rank.getPriority());
-		}
+	/**
+	 * 
+	 * @param uuid          - UUID of the online User
+	 * @param hasPermission - Permission check of the User
+	 * @return Rank of the User, resolved on the first call and cached until
+	 *         {@link #invalidateRank(UUID)} is called
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Rank getRank(@Nonnull UUID uuid, @Nonnull Predicate<String> hasPermission) {
+
+		Rank rank = this.resolvedRanks.get(uuid);
 
-		Collections.sort(list, Collections.reverseOrder());
+		if (rank == null) {
+			rank = this.getRankTable().resolve(hasPermission);
 
-		List<Rank> ranks = new ArrayList<>();
+			if (rank != null) {
+				this.resolvedRanks.put(uuid, rank);
+			}
 
-		for (int i : list) {
-			Rank rank = this.getRankByPriority(i);
-			ranks.add(rank);
 		}
 
-		return ranks;
+		return rank;
 	}
 
-	public final Rank getDefaultRank() {
-
-		for (Rank rank : this.ranks) {
-			if (rank.isDefault())
-				return rank;
-		}
+	/**
+	 * Resolve the Rank of a User again on the next access, should be called
+	 * whenever the permissions of the User change and on disconnect
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void invalidateRank(@Nonnull UUID uuid) {
+		this.resolvedRanks.remove(uuid);
+	}
 
-		return null;
+	/**
+	 * Resolve the Rank of all Users again on the next access
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void invalidateRanks() {
+		this.resolvedRanks.clear();
 	}
 
 	private final void createTables() {
 
-		final Connection connection = this.getMySQL().getConnection();
 		final String prefix = this.getMySQL().getTablePrefix();
 
 		final Collection<String> statements = new ArrayList<>();
@@ -380,7 +448,8 @@ public final class Core {
 				+ "lastLogin BIGINT(255) NOT NULL DEFAULT '-1', " + "lastLogout BIGINT(255) NOT NULL DEFAULT '-1', "
 				+ "enabled BOOLEAN NOT NULL DEFAULT '1', " + "language VARCHAR(50) NOT NULL DEFAULT '"
 				+ this.getDefaultLanguage().toString() + "', " + "immune BOOLEAN NOT NULL DEFAULT '0', "
-				+ "freepass BOOLEAN NOT NULL DEFAULT '0', " + "PRIMARY KEY (uuid));");
+				+ "freepass BOOLEAN NOT NULL DEFAULT '0', " + "PRIMARY KEY (uuid), "
+				+ "INDEX idx_lastKnownName (lastKnownName));");
 
 		statements.add("CREATE TABLE IF NOT EXISTS " + prefix + TableType.MAPS.getTableName(false) + " ("
 				+ "id INT AUTO_INCREMENT NOT NULL, " + "name VARCHAR(50) NOT NULL, " + "saveType INT NOT NULL, "
@@ -414,7 +483,7 @@ public final class Core {
 				+ "PRIMARY KEY (uuid, license), " + "FOREIGN KEY (license) REFERENCES " + prefix
 				+ TableType.LICENSES_MASTER.getTableName(false) + "(id));");
 
-		try {
+		try (Connection connection = this.getMySQL().lease()) {
 
 			for (String s : statements) {
 
@@ -423,6 +492,18 @@ public final class Core {
 
 			}
 
+			// Tables created before v1.0.19 don't have the name index yet
+			PreparedStatement stmt = connection.prepareStatement("SELECT 1 FROM information_schema.statistics"
+					+ " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'idx_lastKnownName'");
+			stmt.setString(1, prefix + TableType.USERS.getTableName(false));
+
+			if (!stmt.executeQuery().next()) {
+				connection.prepareStatement("ALTER TABLE " + prefix + TableType.USERS.getTableName(false)
+						+ " ADD INDEX idx_lastKnownName (lastKnownName)").execute();
+				this.log(this.getClass(), LogType.INFO,
+						"Added name index towards " + prefix + TableType.USERS.getTableName(false) + ".");
+			}
+
 		} catch (SQLException e) {
 			this.log(this.getClass(), LogType.ERROR, "Could not create MySQL Data Tables: " + e.getMessage());
 		}
@@ -451,9 +532,9 @@ public final class Core {
 
 		for (SaveType st : defaultSaveTypes) {
 
-			try {
+			try (Connection connection = this.getMySQL().lease()) {
 
-				PreparedStatement stmt = this.getMySQL().getConnection().prepareStatement("INSERT INTO "
+				PreparedStatement stmt = connection.prepareStatement("INSERT INTO "
 						+ TableType.SAVE_TYPE.getTableName(true) + " (name, icon, worldType) VALUES (?, ?, ?);");
 				stmt.setString(1, st.getName());
 				stmt.setString(2, st.getIconName());
@@ -477,9 +558,9 @@ public final class Core {
 
 		this.saveTypes.clear();
 
-		try {
+		try (Connection connection = this.getMySQL().lease()) {
 
-			PreparedStatement stmt = this.getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.SAVE_TYPE.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -697,6 +778,9 @@ public final class Core {
 	 */
 	private final void registerMessages() {
 
+		// Write the language file once all messages have been merged
+		this.getLanguageManager().startRegistration(this.getPluginName());
+
 		// All
 		for (LanguagePhrase phrase : LanguagePhrase.values()) {
 			this.getLanguageManager().registerNewMessage(this.getPluginName(),
@@ -740,6 +824,8 @@ public final class Core {
 
 		}
 
+		this.getLanguageManager().finishRegistration(this.getPluginName());
+
 	}
 
 	// | System | \\
@@ -1,6 +1,7 @@
 package at.peirleitner.core;
 
 import java.util.Arrays;
+import java.util.UUID;
 
 import javax.annotation.Nonnull;
 
@@ -108,6 +109,13 @@ public class SpigotMain extends JavaPlugin {
 		new VoteListener();
 		new GuiClickListener();
 
+		// Cache Statistics of Players that are already online (ex. reload), v1.0.19
+		for (Player player : Bukkit.getOnlinePlayers()) {
+			final UUID uuid = player.getUniqueId();
+			Core.getInstance().getDatabaseExecutor().run("StatSystem#loadUser",
+					() -> Core.getInstance().getStatSystem().loadUser(uuid));
+		}
+
 		// Run
 		this.startTabHeaderRunnable();
 
@@ -127,10 +135,35 @@ public class SpigotMain extends JavaPlugin {
 
 		}
 
+		// Write buffered statistics while the executor is still running, v1.0.19
+		if (Core.getInstance().getStatSystem() != null) {
+			Core.getInstance().getStatSystem().getBuffer().shutdown();
+		}
+
+		// Write queued chat messages, v1.0.19
+		if (Core.getInstance().getModerationSystem() != null) {
+			Core.getInstance().getModerationSystem().getChatMessageLogger().shutdown();
+		}
+
+		// Write queued balances and ledger entries, v1.0.19
+		if (Core.getInstance().getEconomySystem() != null) {
+			Core.getInstance().getEconomySystem().shutdown();
+		}
+
+		// Finish queued database tasks before closing the pool, v1.0.19
+		if (Core.getInstance().getDatabaseExecutor() != null) {
+			Core.getInstance().getDatabaseExecutor().shutdown(10_000L);
+		}
+
 		if (Core.getInstance().getMySQL() != null && Core.getInstance().getMySQL().isConnected()) {
 			Core.getInstance().getMySQL().close();
 		}
 
+		// v1.0.19
+		if (Core.getInstance().getSettingsManager() != null) {
+			Core.getInstance().getSettingsManager().shutdown();
+		}
+
 	}
 
 	public static SpigotMain getInstance() {
@@ -154,6 +187,9 @@ public class SpigotMain extends JavaPlugin {
 		LanguageManager languageManager = Core.getInstance().getLanguageManager();
 		String pluginName = Core.getInstance().getPluginName();
 
+		// Write the language file once all messages have been merged
+		languageManager.startRegistration(pluginName);
+
 		// Notify
 		languageManager.registerNewMessage(pluginName, "notify.motd.update",
 				"&7[&9+&7] &9{0} &7updated the MOTD&8:\n" + "&7[&9+&7] &9{1}\n" + "&7[&9+&7] &9{2}");
@@ -181,9 +217,17 @@ public class SpigotMain extends JavaPlugin {
 
 		// Command
 		languageManager.registerNewMessage(pluginName, "command.core.syntax", "&fCore Management\n" + "&f/core\n"
-				+ "  &9loadDefaultSaveTypes &7- &fLoad default SaveTypes\n" + "  &9reload &7- &fReload Configuration");
+				+ "  &9loadDefaultSaveTypes &7- &fLoad default SaveTypes\n" + "  &9reload &7- &fReload Configuration\n"
+				+ "  &9database &7- &fShow database statistics");
 		languageManager.registerNewMessage(pluginName, "command.core.loadDefaultSaveTypes.info",
 				"&7Loading of default SaveTypes has been finished, see console for further details.");
+		languageManager.registerNewMessage(pluginName, "command.core.database.info",
+				"&7Connection Pool&8: &9{0}\n&7Executor&8: &9{1}\n&7Statistic Buffer&8: &9{2}\n&7Offline Users&8: &9{3}");
+		languageManager.registerNewMessage(pluginName, "command.stats.syntax", "&7Syntax&8: &9/stats [top <Statistic>]");
+		languageManager.registerNewMessage(pluginName, "command.stats.top.invalid-statistic",
+				"&7Could not find an enabled Statistic named &9{0}&7.");
+		languageManager.registerNewMessage(pluginName, "command.stats.top.could-not-be-loaded",
+				"&cThe Leaderboard of &e{0} &ccould not be loaded. Please contact the staff - This incident has been logged.");
 
 		languageManager.registerNewMessage(pluginName, "command.language.current-language",
 				"&7Current language&8: &9{0}&7. Use &9/language <New Language> &7to change it. Available&8: &9{1}&7.");
@@ -298,6 +342,15 @@ public class SpigotMain extends JavaPlugin {
 				"&cCould not revert license &e{1} &cfor player &e{0}&c, see console for details.");
 
 		languageManager.registerNewMessage(pluginName, "command.money.own-balance", "&7Your Balance&8: &9{0}{1}");
+		languageManager.registerNewMessage(pluginName, "command.money.top.pre-text",
+				"&7Highest balances on SaveType &9{0} &8(&7Page &9{1}&8/&9{2}&8):");
+		languageManager.registerNewMessage(pluginName, "command.money.top.entry", "&8#&9{0} &7{1}&8: &9{2}{3}");
+		languageManager.registerNewMessage(pluginName, "command.money.top.error.no-entries",
+				"&7There are no balances on page &9{0}&7. Available pages&8: &9{1}");
+		languageManager.registerNewMessage(pluginName, "command.money.top.error.invalid-page",
+				"&cInvalid page &e{0}&c.");
+		languageManager.registerNewMessage(pluginName, "command.money.top.error.could-not-be-loaded",
+				"&cThe Leaderboard could not be loaded. Please contact the staff - This incident has been logged.");
 
 		languageManager.registerNewMessage(pluginName, "command.economy.syntax",
 				"&7Syntax&8: &9/economy\n" + "  &9get <Player> [SaveType] &f- &7Get Economy\n"
@@ -432,7 +485,7 @@ public class SpigotMain extends JavaPlugin {
 		languageManager.registerNewMessage(pluginName, "command.vote.text", "&7Vote for daily rewards&8: &9{0}");
 
 		languageManager.registerNewMessage(pluginName, "command.chatlog.syntax",
-				"&7Syntax&8: &9/chatlog <review/ID> [ID] [Result]");
+				"&7Syntax&8: &9/chatlog <review/history/ID> [ID/Player] [Result]");
 		languageManager.registerNewMessage(pluginName, "command.chatlog.error.none-found-with-given-id",
 				"&7A ChatLog with the ID of &9{0} &7does not exist.");
 		languageManager.registerNewMessage(pluginName, "command.chatlog.info",
@@ -449,6 +502,11 @@ public class SpigotMain extends JavaPlugin {
 				"&cCould not review the ChatLog &e{0}&c. Please contact the server developers.");
 		languageManager.registerNewMessage(pluginName, "command.chatlog.error.invalid-review-result",
 				"&7The Review &9{0} &7is invalid. Available Reviews&8: &9{1}&7.");
+		languageManager.registerNewMessage(pluginName, "command.chatlog.history.empty",
+				"&9{0} &7did not send any messages since joining.");
+		languageManager.registerNewMessage(pluginName, "command.chatlog.history.header",
+				"&7Latest &9{1} &7messages of &9{0}&8:");
+		languageManager.registerNewMessage(pluginName, "command.chatlog.history.entry", "&8[&7{0}&8] &8#&7{1}&8: &f{2}");
 
 		languageManager.registerNewMessage(pluginName, "command.mod.active-tasks",
 				"&7The following Tasks &7(&f{0}&7) require moderative action&8:\n"
@@ -517,9 +575,14 @@ public class SpigotMain extends JavaPlugin {
 		languageManager.registerNewMessage(pluginName, "gui.statistics.item.statistic.description",
 				"&7&o{0}\n" + "&7First Available&8: &9{1}\n" + "&7Last Change&8: &9{2}\n" + "&7Unlocked&8: &9{3}\n"
 						+ "&7Current Statistic&8: &9{4}");
+		languageManager.registerNewMessage(pluginName, "gui.statistics.leaderboard.item.name", "&9#{0} &7{1}");
+		languageManager.registerNewMessage(pluginName, "gui.statistics.leaderboard.item.description",
+				"&7{0}&8: &9{1}");
 		
 		languageManager.registerNewMessage(pluginName, "system.cooldown.has-cooldown-main-message", "&7This action may be performed again on &9{0}&7.");
 
+		languageManager.finishRegistration(pluginName);
+
 	}
 
 	private final void startTabHeaderRunnable() {
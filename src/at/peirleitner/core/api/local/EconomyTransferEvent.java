@@ -7,6 +7,7 @@ import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 
 import at.peirleitner.core.command.local.CommandPay;
+import at.peirleitner.core.util.economy.Money;
 import at.peirleitner.core.util.user.User;
 
 /**
@@ -23,9 +24,9 @@ public class EconomyTransferEvent extends Event implements Cancellable {
 	private boolean cancelled;
 	private final User sender;
 	private final User target;
-	private final double amount;
+	private final Money amount;
 
-	public EconomyTransferEvent(@Nonnull User sender, @Nonnull User target, @Nonnull double amount) {
+	public EconomyTransferEvent(@Nonnull User sender, @Nonnull User target, @Nonnull Money amount) {
 		this.cancelled = false;
 		this.sender = sender;
 		this.target = target;
@@ -59,7 +60,15 @@ public class EconomyTransferEvent extends Event implements Cancellable {
 		return target;
 	}
 
-	public final double getAmount() {
+	/**
+	 * 
+	 * @return Amount that should be sent
+	 * @since 1.0.6
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this returns the exact amount as {@link Money}, use
+	 *          {@link Money#toDouble()} for the previous value
+	 */
+	public final Money getAmount() {
 		return amount;
 	}
 
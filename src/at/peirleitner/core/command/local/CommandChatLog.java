@@ -4,6 +4,7 @@ import java.util.Arrays;
 
 import javax.annotation.Nonnull;
 
+import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -13,6 +14,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.SpigotMain;
 import at.peirleitner.core.util.DiscordWebHookType;
 import at.peirleitner.core.util.GlobalUtils;
+import at.peirleitner.core.util.moderation.ChatHistory;
 import at.peirleitner.core.util.moderation.ChatLog;
 import at.peirleitner.core.util.moderation.ChatLogReviewResult;
 import at.peirleitner.core.util.moderation.UserChatMessage;
@@ -91,6 +93,42 @@ public class CommandChatLog implements CommandExecutor {
 				return true;
 			}
 			
+		} else if (args.length == 2 && args[0].equalsIgnoreCase("history")) {
+
+			// v1.0.19
+			if (!cs.hasPermission(CorePermission.COMMAND_CHATLOG_CHECK.getPermission())) {
+				cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.NO_PERMISSION));
+				return true;
+			}
+
+			Player target = Bukkit.getPlayer(args[1]);
+
+			if (target == null) {
+				cs.sendMessage(
+						Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.TARGET_PLAYER_NOT_FOUND));
+				return true;
+			}
+
+			ChatHistory history = Core.getInstance().getModerationSystem().getChatHistory(target.getUniqueId());
+
+			if (history == null || history.size() == 0) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.chatlog.history.empty",
+						Arrays.asList(target.getName()), true);
+				return true;
+			}
+
+			user.sendMessage(Core.getInstance().getPluginName(), "command.chatlog.history.header",
+					Arrays.asList(target.getName(), "" + history.size()), true);
+
+			for (ChatHistory.Entry entry : history.getEntries()) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.chatlog.history.entry",
+						Arrays.asList(GlobalUtils.getFormatedDate(entry.getSent()), "" + entry.getID(),
+								entry.getMessage()),
+						false);
+			}
+
+			return true;
+
 		} else if(args.length == 3) {
 			
 			if(args[0].equalsIgnoreCase("review")) {
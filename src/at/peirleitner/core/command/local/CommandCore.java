@@ -1,5 +1,7 @@
 package at.peirleitner.core.command.local;
 
+import java.util.Arrays;
+
 import javax.annotation.Nonnull;
 
 import org.bukkit.command.Command;
@@ -52,6 +54,17 @@ public class CommandCore implements CommandExecutor {
 
 				return true;
 
+			} else if (args[0].equalsIgnoreCase("database")) {
+
+				// v1.0.19
+				cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(Core.getInstance().getPluginName(),
+						Language.ENGLISH, "command.core.database.info",
+						Arrays.asList("" + Core.getInstance().getMySQL().getPool(),
+								"" + Core.getInstance().getDatabaseExecutor(),
+								"" + Core.getInstance().getStatSystem().getBuffer(),
+								"" + Core.getInstance().getUserSystem().getOfflineUserCache())));
+				return true;
+
 			} else {
 				this.sendHelp(cs);
 				return true;
@@ -14,6 +14,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.SpigotMain;
 import at.peirleitner.core.system.EconomySystem;
 import at.peirleitner.core.util.database.SaveType;
+import at.peirleitner.core.util.economy.Money;
 import at.peirleitner.core.util.user.CorePermission;
 import at.peirleitner.core.util.user.Language;
 import at.peirleitner.core.util.user.PredefinedMessage;
@@ -50,7 +51,7 @@ public class CommandEconomy implements CommandExecutor {
 
 			if (args[0].equalsIgnoreCase("get")) {
 
-				HashMap<SaveType, Double> economy = this.getEconomySystem().getEconomy(targetUser.getUUID());
+				HashMap<SaveType, Money> economy = this.getEconomySystem().getBalances(targetUser.getUUID());
 
 				if (economy.isEmpty()) {
 					Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
@@ -60,7 +61,7 @@ public class CommandEconomy implements CommandExecutor {
 
 				Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
 						"command.economy.get.list.pre-text", Arrays.asList(targetUser.getDisplayName()), true);
-				for (Map.Entry<SaveType, Double> entry : economy.entrySet()) {
+				for (Map.Entry<SaveType, Money> entry : economy.entrySet()) {
 					cs.sendMessage(ChatColor.DARK_GRAY + "- " + ChatColor.GRAY + entry.getKey().getName() + ": "
 							+ entry.getValue() + this.getEconomySystem().getChar());
 				}
@@ -85,7 +86,7 @@ public class CommandEconomy implements CommandExecutor {
 						return true;
 					}
 
-					double economy = this.getEconomySystem().getEconomy(targetUser.getUUID(), saveType);
+					Money economy = this.getEconomySystem().getBalance(targetUser.getUUID(), saveType);
 
 					Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
 							"command.economy.get.list-economy", Arrays.asList(targetUser.getDisplayName(), "" + economy,
@@ -106,12 +107,12 @@ public class CommandEconomy implements CommandExecutor {
 		} else if (args.length == 4) {
 
 			SaveType saveType = null;
-			double amount = -1;
+			Money amount = null;
 
 			try {
 
 				int id = Integer.valueOf(args[2]);
-				amount = Double.valueOf(args[3]);
+				amount = Money.parse(args[3]); // v1.0.19
 				saveType = Core.getInstance().getSaveTypeByID(id);
 
 				if (saveType == null) {
@@ -120,7 +121,7 @@ public class CommandEconomy implements CommandExecutor {
 					return true;
 				}
 
-			} catch (NumberFormatException ex) {
+			} catch (NumberFormatException | ArithmeticException ex) {
 				Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
 						"command.economy.main.error.invalid-id-or-amount", Arrays.asList(args[2], args[3]), true);
 				return true;
@@ -303,11 +303,13 @@ public class CommandLicense implements CommandExecutor {
 					return true;
 				}
 
-				boolean granted = this.getLicenseSystem().grantLicense(targetUser.getUUID(), masterLicense, -1);
+				// v1.0.19
+				final List<String> replacements = Arrays.asList(masterLicense.getName(), targetUser.getDisplayName());
 
-				user.sendMessage(Core.getInstance().getPluginName(),
-						"command.license.grant." + (granted ? "success.permanent" : "error.sql"),
-						Arrays.asList(masterLicense.getName(), targetUser.getDisplayName()), true);
+				this.getLicenseSystem().grantLicenseAsync(targetUser.getUUID(), masterLicense, -1)
+						.thenAcceptAsync(granted -> user.sendMessage(Core.getInstance().getPluginName(),
+								"command.license.grant." + (granted ? "success.permanent" : "error.sql"), replacements,
+								true), Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
 				return true;
 
 			} else if (args[0].equalsIgnoreCase("has")) {
@@ -406,12 +408,16 @@ public class CommandLicense implements CommandExecutor {
 					return true;
 				}
 
-				boolean granted = this.getLicenseSystem().grantLicense(targetUser.getUUID(), masterLicense, hours);
 				long expire = System.currentTimeMillis() + (1000L * 60 * 60 * hours);
 
-				user.sendMessage(Core.getInstance().getPluginName(),
-						"command.license.grant." + (granted ? "success.temporary" : "error.sql"),
-						Arrays.asList(masterLicense.getName(), targetUser.getDisplayName(), GlobalUtils.getFormatedDate(expire)), true);
+				// v1.0.19
+				final List<String> replacements = Arrays.asList(masterLicense.getName(), targetUser.getDisplayName(),
+						GlobalUtils.getFormatedDate(expire));
+
+				this.getLicenseSystem().grantLicenseAsync(targetUser.getUUID(), masterLicense, hours)
+						.thenAcceptAsync(granted -> user.sendMessage(Core.getInstance().getPluginName(),
+								"command.license.grant." + (granted ? "success.temporary" : "error.sql"), replacements,
+								true), Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
 				return true;
 
 			} else {
@@ -2,6 +2,8 @@ package at.peirleitner.core.command.local;
 
 import java.util.Arrays;
 
+import javax.annotation.Nonnull;
+
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -9,6 +11,11 @@ import org.bukkit.entity.Player;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.SpigotMain;
+import at.peirleitner.core.system.EconomySystem;
+import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.SaveType;
+import at.peirleitner.core.util.economy.BalanceLeaderboard;
+import at.peirleitner.core.util.economy.Money;
 import at.peirleitner.core.util.user.PredefinedMessage;
 import at.peirleitner.core.util.user.User;
 
@@ -21,6 +28,12 @@ public class CommandMoney implements CommandExecutor {
 	@Override
 	public boolean onCommand(CommandSender cs, Command cmd, String arg, String[] args) {
 
+		// v1.0.19
+		if (args.length >= 1 && args[0].equalsIgnoreCase("top")) {
+			this.sendLeaderboard(cs, args);
+			return true;
+		}
+
 		if (!(cs instanceof Player)) {
 			cs.sendMessage(
 					Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.ACTION_REQUIRES_PLAYER));
@@ -29,7 +42,7 @@ public class CommandMoney implements CommandExecutor {
 
 		final Player p = (Player) cs;
 		final User user = Core.getInstance().getUserSystem().getUser(p.getUniqueId());
-		final double economy = Core.getInstance().getEconomySystem().getEconomy(p.getUniqueId(),
+		final Money economy = Core.getInstance().getEconomySystem().getBalance(p.getUniqueId(),
 				Core.getInstance().getSettingsManager().getSaveType());
 
 		user.sendMessage(Core.getInstance().getPluginName(), "command.money.own-balance",
@@ -38,4 +51,81 @@ public class CommandMoney implements CommandExecutor {
 		return true;
 	}
 
+	/**
+	 * Display a page of the highest balances of the current SaveType. The
+	 * Leaderboard is loaded without blocking the main thread.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see EconomySystem#getLeaderboardAsync(SaveType, int)
+	 */
+	private final void sendLeaderboard(@Nonnull CommandSender cs, @Nonnull String[] args) {
+
+		final EconomySystem economySystem = Core.getInstance().getEconomySystem();
+		final SaveType saveType = Core.getInstance().getSettingsManager().getSaveType();
+		int page = 1;
+
+		if (args.length >= 2) {
+
+			try {
+				page = Integer.valueOf(args[1]);
+			} catch (NumberFormatException ex) {
+				page = -1;
+			}
+
+			if (page < 1) {
+				Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
+						"command.money.top.error.invalid-page", Arrays.asList(args[1]), true);
+				return;
+			}
+
+		}
+
+		final int requestedPage = page;
+
+		economySystem.getLeaderboardAsync(saveType, requestedPage).thenAcceptAsync(entries -> {
+
+			final BalanceLeaderboard leaderboard = economySystem.getLeaderboard(saveType);
+			final int pageSize = economySystem.getLeaderboardPageSize();
+			final int pages = leaderboard == null ? 0 : (leaderboard.getSize() + pageSize - 1) / pageSize;
+
+			if (entries.isEmpty()) {
+				Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
+						"command.money.top.error.no-entries", Arrays.asList("" + requestedPage, "" + pages), true);
+				return;
+			}
+
+			Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
+					"command.money.top.pre-text",
+					Arrays.asList(saveType.getName(), "" + requestedPage, "" + pages), true);
+
+			int rank = (requestedPage - 1) * pageSize;
+
+			for (BalanceLeaderboard.Entry entry : entries) {
+
+				rank++;
+
+				Core.getInstance().getLanguageManager().sendMessage(cs, Core.getInstance().getPluginName(),
+						"command.money.top.entry",
+						Arrays.asList("" + rank, entry.getName() == null ? entry.getUUID().toString() : entry.getName(),
+								entry.getBalance().toString(), "" + economySystem.getChar()),
+						false);
+			}
+
+		}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor()).exceptionally(throwable -> {
+
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not load Leaderboard of SaveType " + saveType.getName() + ": " + throwable.toString());
+
+			// May complete on a worker thread if the task has failed or been rejected
+			Core.getInstance().getDatabaseExecutor().getMainThreadExecutor()
+					.execute(() -> Core.getInstance().getLanguageManager().sendMessage(cs,
+							Core.getInstance().getPluginName(), "command.money.top.error.could-not-be-loaded",
+							null, true));
+
+			return null;
+		});
+
+	}
+
 }
@@ -1,9 +1,9 @@
 package at.peirleitner.core.command.local;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
@@ -18,6 +18,7 @@ import at.peirleitner.core.manager.SettingsManager;
 import at.peirleitner.core.system.EconomySystem;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.database.SaveType;
+import at.peirleitner.core.util.economy.Money;
 import at.peirleitner.core.util.user.CorePermission;
 import at.peirleitner.core.util.user.PredefinedMessage;
 import at.peirleitner.core.util.user.User;
@@ -76,105 +77,160 @@ public class CommandPay implements CommandExecutor {
 			return true;
 		}
 
-		final User targetUser = Core.getInstance().getUserSystem().getByLastKnownName(args[0]);
+		final Money amount = this.parseAmount(user, args[1]);
 
-		if (targetUser == null) {
-			cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.NOT_REGISTERED));
+		if (amount == null) {
 			return true;
 		}
 
-		if (targetUser == user) {
-			cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.CANT_TARGET_YOURSELF));
-			return true;
+		// Look up the target without blocking the main thread, v1.0.19
+		Core.getInstance().getUserSystem().getByLastKnownNameAsync(args[0]).thenAcceptAsync(
+				targetUser -> this.transfer(cs, user, targetUser, saveType, amount),
+				Core.getInstance().getDatabaseExecutor().getMainThreadExecutor())
+				.exceptionally(throwable -> this.failed(user, throwable));
+
+		return true;
+
+	}
+
+	/**
+	 * 
+	 * @param user  - User that entered the amount
+	 * @param input - Entered amount
+	 * @return Amount or <code>null</code> if the entered amount is invalid. The
+	 *         User will be notified in this case.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final Money parseAmount(@Nonnull User user, @Nonnull String input) {
+
+		// Replace comma value for European countries
+		String[] s = input.replace(",", ".").split("\\.");
+
+		final int enteredValues = s.length == 0 ? 0 : s[0].length();
+		final int commaValues = (s.length < 2 ? 0 : s[1].length());
+
+		if (enteredValues > EconomySystem.MAX_DIGITS) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.too-many-digits",
+					Arrays.asList("" + enteredValues, "" + EconomySystem.MAX_DIGITS), true);
+			return null;
+		}
+
+		if (commaValues > EconomySystem.MAX_COMMA) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.too-many-commas",
+					Arrays.asList("" + commaValues, "" + EconomySystem.MAX_COMMA), true);
+			return null;
 		}
 
 		try {
 
-			String entered = args[1];
-			entered = entered.replace(",", ".");
-			final double value = Double.valueOf(entered); // Replace comma value for European countries
-			final BigDecimal amount = new BigDecimal(value);
+			final Money amount = Money.parse(input);
 
-			if (amount.doubleValue() < 0.1 || amount.doubleValue() > Double.MAX_VALUE) {
+			if (!Core.getInstance().getEconomySystem().isValid(amount)) {
 				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.negative-input",
-						Arrays.asList("" + amount.doubleValue()), true);
-				return true;
+						Arrays.asList(amount.toString()), true);
+				return null;
 			}
 
-			String[] s = entered.split("\\.");
+			return amount;
 
-			final int enteredValues = Integer.valueOf(s[0].length());
-			final int commaValues = (s.length == 1 ? 0 : Integer.valueOf(s[1].length()));
+		} catch (NumberFormatException | ArithmeticException ex) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.invalid-amount",
+					Arrays.asList(input), true);
+			return null;
+		}
 
-			if (enteredValues > EconomySystem.MAX_DIGITS) {
-				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.too-many-digits",
-						Arrays.asList("" + enteredValues, "" + EconomySystem.MAX_DIGITS), true);
-				return true;
-			}
+	}
 
-			if (commaValues > EconomySystem.MAX_COMMA) {
-				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.too-many-commas",
-						Arrays.asList("" + commaValues, "" + EconomySystem.MAX_COMMA), true);
-				return true;
-			}
+	/**
+	 * Validate and perform the transaction once the target has been loaded. Has
+	 * to be called on the main thread. The balance of the sender is checked by
+	 * the transfer itself.
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see EconomySystem#transfer(java.util.UUID, java.util.UUID, SaveType, Money)
+	 */
+	private final void transfer(@Nonnull CommandSender cs, @Nonnull User user, @Nullable User targetUser,
+			@Nonnull SaveType saveType, @Nonnull Money amount) {
 
-			final double currentBalance = user.getEconomy(saveType);
+		if (targetUser == null) {
+			cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.NOT_REGISTERED));
+			return;
+		}
 
-			if (currentBalance < amount.doubleValue()) {
-				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.invalid-balance",
-						Arrays.asList("" + currentBalance, "" + amount.doubleValue()), true);
-				return true;
-			}
+		if (targetUser.getUUID().equals(user.getUUID())) {
+			cs.sendMessage(Core.getInstance().getLanguageManager().getMessage(PredefinedMessage.CANT_TARGET_YOURSELF));
+			return;
+		}
 
-			EconomyTransferEvent event = new EconomyTransferEvent(user, targetUser, currentBalance);
-			SpigotMain.getInstance().getServer().getPluginManager().callEvent(event);
+		EconomyTransferEvent event = new EconomyTransferEvent(user, targetUser, amount);
+		SpigotMain.getInstance().getServer().getPluginManager().callEvent(event);
 
-			if (event.isCancelled()) {
-				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.event-cancelled", null, true);
-				return true;
-			}
+		if (event.isCancelled()) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.event-cancelled", null, true);
+			return;
+		}
 
-			boolean success1 = user.removeEconomy(saveType, amount.doubleValue());
+		Core.getInstance().getEconomySystem().transferAsync(user.getUUID(), targetUser.getUUID(), saveType, amount)
+				.thenAcceptAsync(result -> {
 
-			// Do not add economy if it can't be removed in the first place
-			if (!success1) {
-				Core.getInstance().log(getClass(), LogType.WARNING,
-						"Did not proceed transaction because the money could not be removed from User '"
-								+ user.getUUID().toString() + ".");
-				return true;
-			}
+					switch (result) {
+					case SUCCESS:
 
-			boolean success2 = targetUser.addEconomy(saveType, amount.doubleValue());
-
-			if (success1 && success2) {
-
-				user.sendMessage(Core.getInstance().getPluginName(), "command.pay.success.sender",
-						Arrays.asList(targetUser.getDisplayName(), "" + amount.doubleValue(),
-								"" + Core.getInstance().getEconomySystem().getChar()),
-						true);
-
-				targetUser.sendMessage(Core.getInstance().getPluginName(), "command.pay.success.target",
-						Arrays.asList(user.getDisplayName(), "" + amount.doubleValue(),
-								"" + Core.getInstance().getEconomySystem().getChar()),
-						true);
-				
-				return true;
-			} else {
-//				this.disallowPayments = true;
-				user.sendMessage(Core.getInstance().getPluginName(),
-						"command.pay.error.transaction-could-not-be-completed",
-						Arrays.asList("" + success1, "" + success2), true);
-				Core.getInstance().log(getClass(), LogType.ERROR, "Could not complete Transaction " + event.toString()
-						+ ". Removed from sender: " + success1 + ", Added to target: " + success2);
-				return true;
-			}
+						user.sendMessage(Core.getInstance().getPluginName(), "command.pay.success.sender",
+								Arrays.asList(targetUser.getDisplayName(), amount.toString(),
+										"" + Core.getInstance().getEconomySystem().getChar()),
+								true);
 
-		} catch (NumberFormatException ex) {
-			user.sendMessage(Core.getInstance().getPluginName(), "command.pay.error.invalid-amount",
-					Arrays.asList(args[1]), true);
-			return true;
-		}
+						targetUser.sendMessage(Core.getInstance().getPluginName(), "command.pay.success.target",
+								Arrays.asList(user.getDisplayName(), amount.toString(),
+										"" + Core.getInstance().getEconomySystem().getChar()),
+								true);
+						break;
+
+					case INSUFFICIENT_BALANCE:
+
+						// Only load the balance for the message if the transfer has been denied
+						Core.getInstance().getEconomySystem().getBalanceAsync(user.getUUID(), saveType)
+								.thenAccept(currentBalance -> user.sendAsyncMessage(
+										Core.getInstance().getPluginName(), "command.pay.error.invalid-balance",
+										Arrays.asList("" + currentBalance, amount.toString()), true))
+								.exceptionally(throwable -> this.failed(user, throwable));
+						break;
+
+					default:
+						user.sendMessage(Core.getInstance().getPluginName(),
+								"command.pay.error.transaction-could-not-be-completed",
+								Arrays.asList("" + false, "" + false), true);
+						Core.getInstance().log(getClass(), LogType.ERROR,
+								"Could not complete Transaction " + event.toString() + ", nothing has been changed.");
+					}
+
+				}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor())
+				.exceptionally(throwable -> this.failed(user, throwable));
+
+	}
+
+	/**
+	 * Notify the User that the transaction could not be completed because a
+	 * database task has failed or has been rejected. Can be called from any
+	 * thread.
+	 * 
+	 * @param user      - User that initiated the transaction
+	 * @param throwable - Cause
+	 * @return <code>null</code>
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final Void failed(@Nonnull User user, @Nonnull Throwable throwable) {
+
+		user.sendAsyncMessage(Core.getInstance().getPluginName(),
+				"command.pay.error.transaction-could-not-be-completed", Arrays.asList("" + false, "" + false), true);
+		Core.getInstance().log(getClass(), LogType.ERROR,
+				"Could not complete Transaction of User '" + user.getUUID() + "': " + throwable.toString());
 
+		return null;
 	}
 
 	private final void sendHelp(@Nonnull User user) {
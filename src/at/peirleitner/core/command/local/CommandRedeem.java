@@ -38,11 +38,6 @@ public class CommandRedeem implements CommandExecutor {
 		Player p = (Player) cs;
 		User user = Core.getInstance().getUserSystem().getUser(p.getUniqueId());
 
-		if (Core.getInstance().getCooldownSystem().hasCooldown(user.getUUID(), COOLDOWN_NAME,
-				Core.getInstance().getSettingsManager().getSaveType().getID(), true)) {
-			return true;
-		}
-
 		if (args.length != 1) {
 			user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.syntax", null, true);
 			return true;
@@ -55,11 +50,23 @@ public class CommandRedeem implements CommandExecutor {
 			return true;
 		}
 
-		Core.getInstance().getVoucherSystem().redeem(user, args[0]);
+		final String code = args[0];
+		final int saveType = Core.getInstance().getSettingsManager().getSaveType().getID();
+
+		// Don't block the main thread while checking and redeeming, v1.0.19
+		Core.getInstance().getDatabaseExecutor().supply("CommandRedeem#hasCooldown",
+				() -> Core.getInstance().getCooldownSystem().hasCooldown(user.getUUID(), COOLDOWN_NAME, saveType, true))
+				.thenAcceptAsync(hasCooldown -> {
+
+					if (hasCooldown) {
+						return;
+					}
+
+					Core.getInstance().getVoucherSystem().redeemAsync(user, code);
+					Core.getInstance().getCooldownSystem().addCooldownAsync(user.getUUID(), COOLDOWN_NAME, saveType,
+							Core.getInstance().getVoucherSystem().getCommandRedeemCooldown());
 
-		Core.getInstance().getCooldownSystem().addCooldown(user.getUUID(), COOLDOWN_NAME,
-				Core.getInstance().getSettingsManager().getSaveType().getID(),
-				Core.getInstance().getVoucherSystem().getCommandRedeemCooldown());
+				}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
 
 		return true;
 
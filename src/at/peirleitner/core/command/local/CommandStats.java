@@ -1,5 +1,9 @@
 package at.peirleitner.core.command.local;
 
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -7,6 +11,8 @@ import org.bukkit.entity.Player;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.SpigotMain;
+import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.user.PredefinedMessage;
 import at.peirleitner.core.util.user.User;
 
@@ -35,10 +41,47 @@ public class CommandStats implements CommandExecutor {
 		Player p = (Player) cs;
 		User user = Core.getInstance().getUserSystem().getUser(p.getUniqueId());
 
+		// Leaderboard, v1.0.19
+		if (args.length > 0) {
+
+			if (args.length != 2 || !args[0].equalsIgnoreCase("top")) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.stats.syntax", null, true);
+				return true;
+			}
+
+			final String devName = args[1];
+			final SaveType saveType = Core.getInstance().getSettingsManager().getSaveType();
+
+			Core.getInstance().getDatabaseExecutor()
+					.supply("CommandStats#getStatistic",
+							() -> Core.getInstance().getStatSystem().getAvailableUserStatistic(devName, saveType))
+					.thenAcceptAsync(statistic -> {
+
+						if (statistic == null || !statistic.isEnabled()) {
+							user.sendMessage(Core.getInstance().getPluginName(),
+									"command.stats.top.invalid-statistic", Arrays.asList(devName), true);
+							return;
+						}
+
+						Core.getInstance().getStatSystem().getLeaderboardAsync(statistic)
+								.thenAcceptAsync(
+										entries -> SpigotMain.getInstance().getLocalGuiManager()
+												.getLeaderboardGUI(user, statistic, entries).open(p),
+										Core.getInstance().getDatabaseExecutor().getMainThreadExecutor())
+								.exceptionally(throwable -> this.failed(user, devName, throwable));
+
+					}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor())
+					.exceptionally(throwable -> this.failed(user, devName, throwable));
+
+			return true;
+		}
+
 		boolean showDirectly = Core.getInstance().getSettingsManager().isSetting(Core.getInstance().getPluginName(), "system.stats.show-stats-of-current-saveType-directly");
 		
 		if(showDirectly) {
-			SpigotMain.getInstance().getLocalGuiManager().getStatisticsGUI(user, Core.getInstance().getSettingsManager().getSaveType()).open(p);
+			SpigotMain.getInstance().getLocalGuiManager()
+					.getStatisticsGUIAsync(user, Core.getInstance().getSettingsManager().getSaveType())
+					.thenAccept(gui -> gui.open(p));
 		} else {
 			SpigotMain.getInstance().getLocalGuiManager().getStatisticMainGUI(user).open(p);
 		}
@@ -47,4 +90,25 @@ public class CommandStats implements CommandExecutor {
 
 	}
 
+	/**
+	 * Notify the User that the Leaderboard could not be loaded because a database
+	 * task has failed or has been rejected. Can be called from any thread.
+	 * 
+	 * @param user      - User that requested the Leaderboard
+	 * @param devName   - Requested Statistic
+	 * @param throwable - Cause
+	 * @return <code>null</code>
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final Void failed(@Nonnull User user, @Nonnull String devName, @Nonnull Throwable throwable) {
+
+		user.sendAsyncMessage(Core.getInstance().getPluginName(), "command.stats.top.could-not-be-loaded",
+				Arrays.asList(devName), true);
+		Core.getInstance().log(getClass(), LogType.ERROR,
+				"Could not load Leaderboard of Statistic '" + devName + "': " + throwable.toString());
+
+		return null;
+	}
+
 }
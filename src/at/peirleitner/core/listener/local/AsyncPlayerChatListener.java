@@ -15,6 +15,7 @@ import at.peirleitner.core.SpigotMain;
 import at.peirleitner.core.util.DiscordWebHookType;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.moderation.ChatLog;
+import at.peirleitner.core.util.moderation.ChatMessageAnalysis;
 import at.peirleitner.core.util.moderation.UserChatMessage;
 import at.peirleitner.core.util.moderation.UserChatMessageFlag;
 import at.peirleitner.core.util.moderation.UserChatMessageType;
@@ -58,12 +59,14 @@ public class AsyncPlayerChatListener implements Listener {
 		userChatMessage.setRecipient(null);
 		userChatMessage.setMetaData(null);
 
-		int messageID = Core.getInstance().getModerationSystem().logChatMessageToDatabase(userChatMessage);
+		// Written in batches, the ID is reserved right away (v1.0.19)
+		int messageID = Core.getInstance().getModerationSystem().logChatMessage(userChatMessage);
 		userChatMessage.setID(messageID);
 
 		// Checks
+		ChatMessageAnalysis analysis = new ChatMessageAnalysis(userChatMessage.getMessage());
 		Collection<UserChatMessageFlag> flags = Core.getInstance().getModerationSystem().checkMessage(user.getUUID(),
-				userChatMessage.getMessage());
+				analysis, p.hasPermission(CorePermission.BYPASS_CHAT_COOLDOWN.getPermission()));
 
 //		Core.getInstance().log(getClass(), LogType.DEBUG, "Flags: " + flags.toString());
 
@@ -118,8 +121,7 @@ public class AsyncPlayerChatListener implements Listener {
 					continue;
 				}
 
-				if (flag == UserChatMessageFlag.COOLDOWN
-						&& !p.hasPermission(CorePermission.BYPASS_CHAT_COOLDOWN.getPermission())) {
+				if (flag == UserChatMessageFlag.COOLDOWN) {
 					user.sendAsyncMessage(Core.getInstance().getPluginName(), "system.moderation.chat-cooldown",
 							Arrays.asList("" + Core.getInstance().getModerationSystem().getChatCooldown()), true);
 					continue;
@@ -163,7 +165,7 @@ public class AsyncPlayerChatListener implements Listener {
 							.replace("{player}", rank.getChatColor() + p.getDisplayName())
 							.replace("{message}", rank.getRankType().getTextColor() + message));
 
-			Core.getInstance().getModerationSystem().getLastMessage().put(user.getUUID(), userChatMessage.getID());
+			Core.getInstance().getModerationSystem().recordChatMessage(userChatMessage, analysis);
 
 			Core.getInstance().createWebhook("[" + rank.getName() + "] " + user.getLastKnownName() + ": " + message,
 					DiscordWebHookType.USER_CHAT_MESSAGE);
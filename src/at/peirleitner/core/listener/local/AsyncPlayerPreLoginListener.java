@@ -12,6 +12,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.SpigotMain;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.user.User;
+import at.peirleitner.core.util.user.UserSession;
 
 public class AsyncPlayerPreLoginListener implements Listener {
 
@@ -22,12 +23,17 @@ public class AsyncPlayerPreLoginListener implements Listener {
 	@EventHandler
 	public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent e) {
 
+		final boolean network = Core.getInstance().isNetwork();
+		UUID uuid = e.getUniqueId();
+
+		// Load everything required on joining while still being asynchronous, v1.0.19
+		UserSession session = Core.getInstance().getUserSystem().loadSession(uuid, e.getName(), !network);
+
 		// Tasks will only be performed if network-mode is disabled
-		if (Core.getInstance().isNetwork())
+		if (network)
 			return;
 
-		UUID uuid = e.getUniqueId();
-		User user = Core.getInstance().getUserSystem().getUser(uuid);
+		User user = session != null ? session.getUser() : Core.getInstance().getUserSystem().getUser(uuid);
 
 		// Maintenance
 		if (Core.getInstance().getMaintenanceSystem().isMaintenance()
@@ -41,6 +47,7 @@ public class AsyncPlayerPreLoginListener implements Listener {
 							Core.getInstance().getSettingsManager().getServerWebsite()));
 
 			e.setKickMessage(message);
+			Core.getInstance().getUserSystem().removeSession(uuid);
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Disallowed connection for UUID '" + uuid.toString() + "': Not whitelisted on maintenance list.");
 			return;
@@ -58,6 +65,7 @@ public class AsyncPlayerPreLoginListener implements Listener {
 
 			e.setLoginResult(Result.KICK_OTHER);
 			e.setKickMessage("Account disabled"); // TODO:
+			Core.getInstance().getUserSystem().removeSession(uuid);
 			Core.getInstance().log(this.getClass(), LogType.DEBUG, "Disallowed connection for User '"
 					+ user.getUUID().toString() + "/" + user.getLastKnownName() + "': Account is disabled.");
 			return;
@@ -44,7 +44,8 @@ public class GuiClickListener implements Listener {
 			SaveType saveType = Core.getInstance().getSaveTypeByName(name);
 
 			if (saveType != null) {
-				SpigotMain.getInstance().getLocalGuiManager().getStatisticsGUI(user, saveType).open(p);
+				SpigotMain.getInstance().getLocalGuiManager().getStatisticsGUIAsync(user, saveType)
+						.thenAccept(statisticsGUI -> statisticsGUI.open(p));
 				return;
 			}
 			
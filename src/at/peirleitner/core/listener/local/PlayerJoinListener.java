@@ -2,6 +2,9 @@ package at.peirleitner.core.listener.local;
 
 import java.util.Arrays;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -16,6 +19,7 @@ import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.local.OperatorJoinAction;
 import at.peirleitner.core.util.user.CorePermission;
 import at.peirleitner.core.util.user.User;
+import at.peirleitner.core.util.user.UserSession;
 import net.md_5.bungee.api.ChatColor;
 
 public class PlayerJoinListener implements Listener {
@@ -29,18 +33,50 @@ public class PlayerJoinListener implements Listener {
 	@EventHandler
 	public void onPlayerJoin(PlayerJoinEvent e) {
 
-		Player p = e.getPlayer();
+		final Player p = e.getPlayer();
+		final boolean network = Core.getInstance().isNetwork();
 
-		// Register User and check for Maintenance if Network-Mode is disabled
-		if (!Core.getInstance().isNetwork()) {
+		// Permissions may have changed while being offline, v1.0.19
+		Core.getInstance().invalidateRank(p.getUniqueId());
 
-			// Create Player Object if none exists
-			Core.getInstance().getUserSystem().register(p.getUniqueId(), p.getName());
+		// Everything has already been loaded on login, v1.0.19
+		final UserSession session = Core.getInstance().getUserSystem().joinSession(p.getUniqueId());
 
+		if (session != null) {
+			this.onUserLoaded(p, session.getUser(), session.isLoginRecorded());
+			return;
 		}
 
-		// Define User
-		User user = Core.getInstance().getUserSystem().getUser(p.getUniqueId());
+		// Load the User without blocking the main thread, v1.0.19
+		Core.getInstance().getDatabaseExecutor().supply("PlayerJoinListener#loadUser", () -> {
+
+			// Register User and check for Maintenance if Network-Mode is disabled
+			if (!network) {
+
+				// Create Player Object if none exists
+				Core.getInstance().getUserSystem().register(p.getUniqueId(), p.getName());
+
+			}
+
+			// Only online Users have their Statistics and Economy cached
+			Core.getInstance().getStatSystem().loadUser(p.getUniqueId());
+			Core.getInstance().getEconomySystem().loadAccount(p.getUniqueId());
+
+			return Core.getInstance().getUserSystem().getUser(p.getUniqueId());
+		}).thenAcceptAsync(user -> this.onUserLoaded(p, user, false),
+				Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
+
+	}
+
+	private final void onUserLoaded(@Nonnull Player p, @Nullable User user, boolean loginRecorded) {
+
+		// Player left while the User has been loaded
+		if (!p.isOnline()) {
+			Core.getInstance().getUserSystem().removeSession(p.getUniqueId());
+			Core.getInstance().getStatSystem().unloadUser(p.getUniqueId());
+			Core.getInstance().getEconomySystem().unloadAccount(p.getUniqueId());
+			return;
+		}
 
 		// Cancel connection if the User can't be validated
 		if (user == null) {
@@ -103,10 +139,13 @@ public class PlayerJoinListener implements Listener {
 		}
 
 		if (!Core.getInstance().isNetwork()) {
-			Core.getInstance().getUserSystem().setLastLogin(user, System.currentTimeMillis());
+
+			if (!loginRecorded) {
+				Core.getInstance().getUserSystem().setLastLoginAsync(user, System.currentTimeMillis());
+			}
 
 			if (Core.getInstance().getUserSystem().isCachingEnabled()) {
-				Core.getInstance().getUserSystem().getCachedUsers().add(user);
+				Core.getInstance().getUserSystem().cacheUser(user);
 			}
 
 		}
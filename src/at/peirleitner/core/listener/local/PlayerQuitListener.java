@@ -1,5 +1,7 @@
 package at.peirleitner.core.listener.local;
 
+import java.util.UUID;
+
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -35,7 +37,7 @@ public class PlayerQuitListener implements Listener {
 			Core.getInstance().getUserSystem().setLastLogout(user, System.currentTimeMillis());
 
 			if (Core.getInstance().getUserSystem().isCachingEnabled()) {
-				Core.getInstance().getUserSystem().getCachedUsers().remove(user);
+				Core.getInstance().getUserSystem().uncacheUser(user.getUUID());
 			}
 			
 			// v1.0.18
@@ -45,6 +47,19 @@ public class PlayerQuitListener implements Listener {
 
 		}
 
+		// v1.0.19
+		Core.getInstance().getModerationSystem().clearChatHistory(p.getUniqueId());
+		Core.getInstance().getModerationSystem().getChatRateLimiter().remove(p.getUniqueId());
+		Core.getInstance().getUserSystem().removeSession(p.getUniqueId());
+		Core.getInstance().invalidateRank(p.getUniqueId());
+
+		// Statistics are buffered on every server, v1.0.19
+		final UUID uuid = user.getUUID();
+		Core.getInstance().getStatSystem().unloadUser(uuid);
+		Core.getInstance().getEconomySystem().unloadAccount(uuid);
+		Core.getInstance().getDatabaseExecutor().run("StatisticBuffer#flush",
+				() -> Core.getInstance().getStatSystem().getBuffer().flush(uuid));
+
 	}
 
 }
@@ -67,7 +67,7 @@ public class LoginListener implements Listener {
 			Core.getInstance().getUserSystem().setLastLogin(user, System.currentTimeMillis());
 
 			if (Core.getInstance().getUserSystem().isCachingEnabled()) {
-				Core.getInstance().getUserSystem().getCachedUsers().add(user);
+				Core.getInstance().getUserSystem().cacheUser(user);
 			}
 
 		}
@@ -1,5 +1,7 @@
 package at.peirleitner.core.listener.network;
 
+import java.util.UUID;
+
 import at.peirleitner.core.Core;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.user.User;
@@ -32,7 +34,7 @@ public class PlayerDisconnectListener implements Listener {
 		Core.getInstance().getUserSystem().setLastLogout(user, System.currentTimeMillis());
 
 		if (Core.getInstance().getUserSystem().isCachingEnabled()) {
-			Core.getInstance().getUserSystem().getCachedUsers().remove(user);
+			Core.getInstance().getUserSystem().uncacheUser(user.getUUID());
 		}
 
 		// v1.0.18
@@ -41,6 +43,12 @@ public class PlayerDisconnectListener implements Listener {
 			Core.getInstance().getExperienceSystem().updateCacheToDatabase(user.getUUID());
 		}
 
+		// Write buffered statistics, v1.0.19
+		final UUID uuid = user.getUUID();
+		Core.getInstance().getStatSystem().unloadUser(uuid);
+		Core.getInstance().getDatabaseExecutor().run("StatisticBuffer#flush",
+				() -> Core.getInstance().getStatSystem().getBuffer().flush(uuid));
+
 	}
 
 }
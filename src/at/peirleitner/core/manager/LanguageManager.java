@@ -5,13 +5,20 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,11 +65,43 @@ public class LanguageManager {
 	private final String POWERED_BY_NAME = "Nayola.net";
 	private Collection<LanguageMessage> messages;
 
+	/**
+	 * Messages indexed by (plugin, language, key) with all names being lower
+	 * case. Every language already contains the messages of
+	 * {@link #getDefaultLanguage()} that have not been translated, so a lookup
+	 * never has to fall back manually.
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final ConcurrentHashMap<String, EnumMap<Language, ConcurrentHashMap<String, LanguageMessage>>> catalog;
+
+	/**
+	 * Messages that could neither be found inside the {@link #catalog} nor inside
+	 * the default language file. Prevents reading the file again on every request.
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final Set<String> missingMessages;
+
+	/**
+	 * Default language files of plugins that are currently inside a registration
+	 * session, see {@link #startRegistration(String)}
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final ConcurrentHashMap<String, Properties> registrationSessions;
+
 	public LanguageManager() {
 
 		// Create default data
 		this.createDirectory();
-		this.messages = new ArrayList<>();
+		this.messages = Collections.synchronizedList(new ArrayList<>());
+		this.catalog = new ConcurrentHashMap<>();
+		this.missingMessages = ConcurrentHashMap.newKeySet();
+		this.registrationSessions = new ConcurrentHashMap<>();
 
 		// Load Messages
 		this.loadMessages();
@@ -115,9 +154,9 @@ public class LanguageManager {
 				Properties p = new Properties();
 				String pluginName = f.getName().split(".properties")[0];
 
-				try {
+				try (InputStream in = new FileInputStream(f)) {
 
-					p.load(new FileInputStream(f));
+					p.load(in);
 
 					for (Map.Entry<Object, Object> entry : p.entrySet()) {
 
@@ -125,7 +164,7 @@ public class LanguageManager {
 						String value = entry.getValue().toString();
 
 						LanguageMessage message = new LanguageMessage(pluginName, language, key, value);
-						this.getMessages().add(message);
+						this.cacheMessage(message);
 
 //						Core.getInstance().log(this.getClass(), LogType.DEBUG, "Cached message " + message.toString());
 
@@ -192,14 +231,65 @@ public class LanguageManager {
 		return this.messages;
 	}
 
+	/**
+	 * Add a message to {@link #getMessages()} and the catalog
+	 * 
+	 * @param message - Message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final void cacheMessage(@Nonnull LanguageMessage message) {
+
+		this.getMessages().add(message);
+
+		final Language defaultLanguage = this.getDefaultLanguage();
+		final String key = this.normalize(message.getKey());
+		EnumMap<Language, ConcurrentHashMap<String, LanguageMessage>> plugin = this.catalog
+				.computeIfAbsent(this.normalize(message.getPluginName()), k -> {
+
+					EnumMap<Language, ConcurrentHashMap<String, LanguageMessage>> map = new EnumMap<>(
+							Language.class);
+
+					for (Language language : Language.values()) {
+						map.put(language, new ConcurrentHashMap<>());
+					}
+
+					return map;
+				});
+
+		if (message.getLanguage() == defaultLanguage) {
+
+			// Fallback for every language that does not offer a translation
+			for (ConcurrentHashMap<String, LanguageMessage> cached : plugin.values()) {
+				cached.compute(key, (k, existing) -> existing == null || existing.getLanguage() == defaultLanguage
+						? message
+						: existing);
+			}
+
+		} else {
+			plugin.get(message.getLanguage()).put(key, message);
+		}
+
+		this.missingMessages.remove(this.getMissingKey(message.getPluginName(), key));
+
+	}
+
+	private final String normalize(@Nonnull String s) {
+		return s.toLowerCase(Locale.ROOT);
+	}
+
+	private final String getMissingKey(@Nonnull String pluginName, @Nonnull String key) {
+		return this.normalize(pluginName) + ":" + this.normalize(key);
+	}
+
 	private final File getFile(@Nonnull String pluginName, @Nonnull Language language) {
 		return new File(this.getDirectory(language) + "/" + pluginName + ".properties");
 	}
 
 	private final Properties getProperties(@Nonnull String pluginName, @Nonnull Language language) {
 		Properties p = new Properties();
-		try {
-			p.load(new FileInputStream(this.getFile(pluginName, language)));
+		try (InputStream in = new FileInputStream(this.getFile(pluginName, language))) {
+			p.load(in);
 		} catch (FileNotFoundException e) {
 
 			if (language != this.getDefaultLanguage()) {
@@ -316,7 +406,7 @@ public class LanguageManager {
 
 		for (Map.Entry<String, String> entry : this.getDefaultValues().entrySet()) {
 
-			if (!this.isMessageRegistered(pluginName, defaultLanguage, entry.getKey())) {
+			if (p.getProperty(entry.getKey()) == null) {
 				p.setProperty(entry.getKey(), entry.getValue());
 //				Core.getInstance().log(this.getClass(), LogType.DEBUG, "Messages: Added default key '" + entry.getKey()
 //						+ "' with value '" + entry.getValue() + "' (Main Default Values).");
@@ -332,9 +422,8 @@ public class LanguageManager {
 
 		Language language = this.getDefaultLanguage();
 
-		try {
-			properties.store(new FileWriter(this.getFile(pluginName, language)),
-					"Last update on " + new Date(System.currentTimeMillis()));
+		try (Writer writer = new FileWriter(this.getFile(pluginName, language))) {
+			properties.store(writer, "Last update on " + new Date(System.currentTimeMillis()));
 			return true;
 		} catch (IOException e) {
 			Core.getInstance().log(this.getClass(), LogType.ERROR, "Could not save Messages file: " + e.getMessage());
@@ -357,16 +446,101 @@ public class LanguageManager {
 	 */
 	public final boolean registerNewMessage(@Nonnull String pluginName, @Nonnull String key, @Nonnull String value) {
 
-		if (this.isMessageRegistered(pluginName, this.getDefaultLanguage(), key))
+		Properties session = this.registrationSessions.get(this.normalize(pluginName));
+		Properties p = session == null ? this.getProperties(pluginName, this.getDefaultLanguage()) : session;
+
+		if (p.getProperty(key) != null)
 			return false;
 
-		Properties p = this.getProperties(pluginName, this.getDefaultLanguage());
 		p.setProperty(key, value);
 
 		// Cache message if not registered
 		if (this.getLanguageMessage(pluginName, getDefaultLanguage(), key, null) == null) {
 			LanguageMessage message = new LanguageMessage(pluginName, getDefaultLanguage(), key, value);
-			this.getMessages().add(message);
+			this.cacheMessage(message);
+		}
+
+		// The file will be written once the session has been finished
+		return session == null ? this.save(pluginName, p) : true;
+	}
+
+	/**
+	 * Register multiple messages for the {@link #getDefaultLanguage()} while
+	 * reading and writing the language file only once.
+	 * 
+	 * @param pluginName - Name of the plugin
+	 * @param messages   - Messages with the key being the unique identifier
+	 * @return Amount of messages that have been registered
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #registerNewMessage(String, String, String)
+	 */
+	public final int registerNewMessages(@Nonnull String pluginName, @Nonnull Map<String, String> messages) {
+
+		final boolean started = this.startRegistration(pluginName);
+		int registered = 0;
+
+		for (Map.Entry<String, String> entry : messages.entrySet()) {
+			if (this.registerNewMessage(pluginName, entry.getKey(), entry.getValue())) {
+				registered++;
+			}
+		}
+
+		// Don't finish a session that has been started by the caller
+		if (started) {
+			this.finishRegistration(pluginName);
+		}
+
+		return registered;
+	}
+
+	/**
+	 * Start a registration session for the given plugin. Until
+	 * {@link #finishRegistration(String)} is called, all messages registered using
+	 * {@link #registerNewMessage(String, String, String)} will only be merged in
+	 * memory.
+	 * 
+	 * @param pluginName - Name of the plugin
+	 * @return If a new session has been started, <code>false</code> if one is
+	 *         already active or the language file could not be read
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean startRegistration(@Nonnull String pluginName) {
+
+		final String name = this.normalize(pluginName);
+
+		if (this.registrationSessions.containsKey(name)) {
+			return false;
+		}
+
+		Properties p = this.getProperties(pluginName, this.getDefaultLanguage());
+
+		if (p == null) {
+			return false;
+		}
+
+		return this.registrationSessions.putIfAbsent(name, p) == null;
+	}
+
+	/**
+	 * Finish the registration session of the given plugin and write all
+	 * registered messages to the language file
+	 * 
+	 * @param pluginName - Name of the plugin
+	 * @return If the language file has been saved
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #startRegistration(String)
+	 */
+	public final boolean finishRegistration(@Nonnull String pluginName) {
+
+		Properties p = this.registrationSessions.remove(this.normalize(pluginName));
+
+		if (p == null) {
+			Core.getInstance().log(this.getClass(), LogType.DEBUG,
+					"Could not finish message registration for plugin '" + pluginName + "': No active session.");
+			return false;
 		}
 
 		return this.save(pluginName, p);
@@ -374,6 +548,13 @@ public class LanguageManager {
 
 	public final boolean isMessageRegistered(@Nonnull String pluginName, @Nonnull Language language,
 			@Nonnull String key) {
+
+		Properties session = this.registrationSessions.get(this.normalize(pluginName));
+
+		if (session != null && language == this.getDefaultLanguage()) {
+			return session.getProperty(key) != null;
+		}
+
 		return this.getProperties(pluginName, language).getProperty(key) == null ? false : true;
 	}
 
@@ -395,38 +576,26 @@ public class LanguageManager {
 		
 	}
 
+	/**
+	 * 
+	 * @param pluginName   - Name of the plugin
+	 * @param language     - Language
+	 * @param key          - Unique identifier
+	 * @param replacements - Unused
+	 * @return Cached message for the given language, the message of
+	 *         {@link #getDefaultLanguage()} if it has not been translated or
+	 *         <code>null</code> if it does not exist
+	 * @since 1.0.5
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Plugin name and key are case-insensitive
+	 */
 	public final LanguageMessage getLanguageMessage(@Nonnull String pluginName, @Nonnull Language language,
 			@Nonnull String key, @Nullable List<String> replacements) {
 
-		LanguageMessage message = null;
-
-		// Try to get it for main language
-		for (LanguageMessage lm : this.getMessages()) {
-
-			if (lm.getPluginName().equalsIgnoreCase(pluginName) && lm.getLanguage() == language
-					&& lm.getKey().equalsIgnoreCase(key)) {
-				message = lm;
-				break;
-			}
-
-		}
-
-		// Set to default system language if message is null here
-		if (message == null) {
-
-			for (LanguageMessage lm : this.getMessages()) {
-
-				if (lm.getPluginName().equalsIgnoreCase(pluginName) && lm.getLanguage() == this.getDefaultLanguage()
-						&& lm.getKey().equalsIgnoreCase(key)) {
-					message = lm;
-					break;
-				}
-
-			}
-		}
-
-		return message;
+		EnumMap<Language, ConcurrentHashMap<String, LanguageMessage>> plugin = this.catalog
+				.get(this.normalize(pluginName));
 
+		return plugin == null ? null : plugin.get(language).get(this.normalize(key));
 	}
 
 	public final String getMessage(@Nonnull String pluginName, @Nonnull Language language, @Nonnull String key,
@@ -435,14 +604,16 @@ public class LanguageManager {
 		LanguageMessage message = this.getLanguageMessage(pluginName, language, key, replacements);
 
 		// Attempt to load from default file if not existing in here
-		if (message == null) {
+		if (message == null && !this.missingMessages.contains(this.getMissingKey(pluginName, key))) {
 
 			Properties p = this.getProperties(pluginName, this.getDefaultLanguage());
 			String m = p.getProperty(key);
 
 			if (m != null) {
 				message = new LanguageMessage(pluginName, this.getDefaultLanguage(), key, m);
-				this.getMessages().add(message);
+				this.cacheMessage(message);
+			} else {
+				this.missingMessages.add(this.getMissingKey(pluginName, key));
 			}
 
 		}
@@ -452,7 +623,7 @@ public class LanguageManager {
 			return this.getMessageNotFoundString(pluginName, key);
 		}
 
-		return ChatColor.translateAlternateColorCodes('&', message.getMessage(replacements));
+		return message.getColoredMessage(replacements);
 
 	}
 
@@ -5,14 +5,26 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,6 +35,7 @@ import at.peirleitner.core.command.local.CommandVote;
 import at.peirleitner.core.util.DiscordWebHookType;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.PredefinedDatabaseSetting;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.CorePermission;
@@ -37,10 +50,24 @@ import at.peirleitner.core.util.user.PredefinedMessage;
  */
 public class SettingsManager {
 
+	/**
+	 * Immutable in-memory copy of every settings file that has been read so far,
+	 * keyed by the name of the plugin. A snapshot is never modified, it is
+	 * replaced as a whole whenever the file changes.
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final ConcurrentHashMap<String, Map<String, String>> snapshots;
+	private WatchService watchService;
+	private Thread watchThread;
+
 	public SettingsManager() {
+		this.snapshots = new ConcurrentHashMap<>();
 		this.createSettingsDirectory();
 		this.createProperties(Core.getInstance().getPluginName());
 		this.setDefaultValues(Core.getInstance().getPluginName());
+		this.startWatchService();
 	}
 
 	private final File getSettingsDirectory() {
@@ -130,9 +157,52 @@ public class SettingsManager {
 		map.put(path + "vote-url", "ENTER_VOTE_URL");
 		map.put("system.moderation.chat-cooldown", "3");
 
+		// v1.0.19
+		map.put(path + "database.queue-size", "1000");
+		map.put(path + "database.slow-task-threshold", "250");
+		map.put("system.moderation.chatlog-sync-interval", "60");
+		map.put("system.moderation.chat-history-size", "10");
+		map.put("system.moderation.chat-repeat-window", "0");
+		map.put("system.moderation.chat-burst", "1");
+		map.put("system.user.offline-cache.size", "500");
+		map.put("system.user.offline-cache.ttl", "300");
+		map.put("system.moderation.chat-log.queue-size", "10000");
+		map.put("system.moderation.chat-log.batch-size", "200");
+		map.put("system.moderation.chat-log.id-block-size", "100");
+		map.put("system.moderation.chat-log.flush-interval", "1000");
+		map.put("system.economy.ledger.queue-size", "10000");
+		map.put("system.economy.ledger.batch-size", "200");
+		map.put("system.economy.ledger.flush-interval", "1000");
+		map.put("system.economy.bulk.batch-size", "500");
+
 		return map;
 	}
 	
+	/**
+	 * 
+	 * @return Maximum amount of asynchronous database tasks that may wait for
+	 *         execution
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final int getDatabaseQueueSize() {
+		return Integer.valueOf(this.getSetting(Core.getInstance().getPluginName(), "manager.settings.database.queue-size"));
+	}
+
+	/**
+	 * 
+	 * @return Amount of milliseconds after which an asynchronous database task will
+	 *         be logged as slow, <code>0</code> to disable
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final long getSlowDatabaseTaskThreshold() {
+		return Long.valueOf(this.getSetting(Core.getInstance().getPluginName(),
+				"manager.settings.database.slow-task-threshold"));
+	}
+
 	/**
 	 * 
 	 * @return Vote URL to be displayed on {@link CommandVote}
@@ -238,8 +308,9 @@ public class SettingsManager {
 
 	private final boolean save(String pluginName, Properties p) {
 
-		try {
-			p.store(new FileWriter(this.getFile(pluginName)), "Last update on " + new Date(System.currentTimeMillis()));
+		try (Writer writer = new FileWriter(this.getFile(pluginName))) {
+			p.store(writer, "Last update on " + new Date(System.currentTimeMillis()));
+			this.snapshots.put(pluginName, this.toSnapshot(p));
 			return true;
 		} catch (IOException e) {
 			Core.getInstance().log(this.getClass(), LogType.ERROR, "Could not save Settings file: " + e.getMessage());
@@ -259,8 +330,8 @@ public class SettingsManager {
 	private final Properties getProperties(@Nonnull String pluginName) {
 
 		Properties p = new Properties();
-		try {
-			p.load(new FileInputStream(this.getFile(pluginName)));
+		try (InputStream in = new FileInputStream(this.getFile(pluginName))) {
+			p.load(in);
 		} catch (FileNotFoundException e) {
 			this.createProperties(pluginName);
 			return this.getProperties(pluginName);
@@ -287,21 +358,182 @@ public class SettingsManager {
 		return this.getSetting(pluginName, key) == null ? this.setSetting(pluginName, key, value) : false;
 	}
 
-	public final boolean setSetting(@Nonnull String pluginName, @Nonnull String key, @Nonnull String value) {
+	public final synchronized boolean setSetting(@Nonnull String pluginName, @Nonnull String key,
+			@Nonnull String value) {
 		Properties p = this.getProperties(pluginName);
 		p.setProperty(key, value);
 		return this.save(pluginName, p);
 	}
 
+	/**
+	 * 
+	 * @param pluginName - Name of the Plugin
+	 * @param key        - Unique key
+	 * @return Value of the setting or <code>null</code> if it does not exist
+	 * @since 1.0.2
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this is served from {@link #getSnapshot(String)} and
+	 *          does not access the file.
+	 */
 	public final String getSetting(@Nonnull String pluginName, @Nonnull String key) {
-		return this.getProperties(pluginName).getProperty(key);
+		return this.getSnapshot(pluginName).get(key);
+	}
+
+	/**
+	 * 
+	 * @param pluginName - Name of the Plugin
+	 * @return Immutable copy of all settings of this plugin. The file will only be
+	 *         read on the first call, afterwards the copy is replaced on
+	 *         {@link #setSetting(String, String, String)} or if the file has been
+	 *         changed on disk.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Map<String, String> getSnapshot(@Nonnull String pluginName) {
+
+		Map<String, String> snapshot = this.snapshots.get(pluginName);
+
+		if (snapshot == null) {
+			snapshot = this.reloadSnapshot(pluginName);
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Read the settings file of the given plugin and replace the cached snapshot
+	 * 
+	 * @param pluginName - Name of the Plugin
+	 * @return New snapshot
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized Map<String, String> reloadSnapshot(@Nonnull String pluginName) {
+
+		Properties p = this.getProperties(pluginName);
+
+		// Keep the previous values if the file could not be read
+		if (p == null) {
+			Map<String, String> previous = this.snapshots.get(pluginName);
+			return previous == null ? Collections.emptyMap() : previous;
+		}
+
+		Map<String, String> snapshot = this.toSnapshot(p);
+		this.snapshots.put(pluginName, snapshot);
+
+		return snapshot;
+	}
+
+	private final Map<String, String> toSnapshot(@Nonnull Properties p) {
+
+		Map<String, String> map = new HashMap<>(p.size() * 2);
+
+		for (String key : p.stringPropertyNames()) {
+			map.put(key, p.getProperty(key));
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Watch the settings directory so manual changes to a settings file will be
+	 * applied without a restart
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final void startWatchService() {
+
+		try {
+
+			this.watchService = FileSystems.getDefault().newWatchService();
+			this.getSettingsDirectory().toPath().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+
+		} catch (IOException e) {
+			Core.getInstance().log(this.getClass(), LogType.WARNING,
+					"Could not watch Settings directory, changes will require a restart: " + e.getMessage());
+			return;
+		}
+
+		this.watchThread = new Thread(() -> {
+
+			try {
+
+				while (true) {
+
+					WatchKey key = this.watchService.take();
+
+					for (WatchEvent<?> event : key.pollEvents()) {
+
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+
+							for (String pluginName : this.snapshots.keySet()) {
+								this.reloadSnapshot(pluginName);
+							}
+
+							continue;
+						}
+
+						String fileName = ((Path) event.context()).getFileName().toString();
+
+						if (!fileName.endsWith(".properties")) {
+							continue;
+						}
+
+						String pluginName = fileName.substring(0, fileName.length() - ".properties".length());
+
+						if (this.snapshots.containsKey(pluginName)) {
+							this.reloadSnapshot(pluginName);
+						}
+
+					}
+
+					if (!key.reset()) {
+						break;
+					}
+
+				}
+
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				// Manager has been shut down
+			}
+
+		}, "Core-SettingsWatcher");
+
+		this.watchThread.setDaemon(true);
+		this.watchThread.start();
+
+	}
+
+	/**
+	 * Stop watching the settings directory
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+
+		if (this.watchService == null) {
+			return;
+		}
+
+		try {
+			this.watchService.close();
+		} catch (IOException e) {
+			Core.getInstance().log(this.getClass(), LogType.WARNING,
+					"Could not close Settings WatchService: " + e.getMessage());
+		}
+
+		this.watchThread.interrupt();
+
 	}
 
 	public final boolean isSetting(@Nonnull String pluginName, @Nonnull String key) {
 		return Boolean.valueOf(this.getSetting(pluginName, key));
 	}
 
-	public final boolean removeSetting(@Nonnull String pluginName, @Nonnull String key) {
+	public final synchronized boolean removeSetting(@Nonnull String pluginName, @Nonnull String key) {
 		Properties p = this.getProperties(pluginName);
 		p.remove(key);
 		return this.save(pluginName, p);
@@ -319,11 +551,11 @@ public class SettingsManager {
 			return false;
 		}
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
 			for(PredefinedDatabaseSetting pds : PredefinedDatabaseSetting.values()) {
 				
-				PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT IGNORE INTO " + TableType.SETTINGS.getTableName(true) + " (setting, value, staff, changed) VALUES (?, ?, ?, ?);");
+				PreparedStatement stmt = connection.prepareStatement("INSERT IGNORE INTO " + TableType.SETTINGS.getTableName(true) + " (setting, value, staff, changed) VALUES (?, ?, ?, ?);");
 				stmt.setString(1, pds.name().toString().toLowerCase());
 				stmt.setString(2, pds.getDefaultValue());
 				stmt.setString(3, null);
@@ -349,9 +581,9 @@ public class SettingsManager {
 	 */
 	public final boolean setDatabaseSetting(@Nonnull String key, @Nonnull String value, @Nullable UUID staff) {
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("UPDATE " + TableType.SETTINGS.getTableName(true) + " SET value = ?, staff = ?, changed = ? WHERE key = ?");
+			PreparedStatement stmt = connection.prepareStatement("UPDATE " + TableType.SETTINGS.getTableName(true) + " SET value = ?, staff = ?, changed = ? WHERE key = ?");
 			stmt.setString(1, value);
 			stmt.setString(2, staff == null ? null : staff.toString());
 			stmt.setLong(3, System.currentTimeMillis());
@@ -377,9 +609,9 @@ public class SettingsManager {
 		
 		//TODO: Return as 'DatabaseSetting' object
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT value FROM " + TableType.SETTINGS.getTableName(true) + " WHERE key = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT value FROM " + TableType.SETTINGS.getTableName(true) + " WHERE key = ?");
 			ResultSet rs = stmt.executeQuery();
 			
 			if(rs.next()) {
@@ -4,17 +4,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
 import org.bukkit.Material;
 
 import at.peirleitner.core.Core;
+import at.peirleitner.core.system.StatSystem;
 import at.peirleitner.core.util.GlobalUtils;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.local.GUI;
 import at.peirleitner.core.util.local.ItemBuilder;
+import at.peirleitner.core.util.user.AvailableUserStatistic;
 import at.peirleitner.core.util.user.LanguagePhrase;
+import at.peirleitner.core.util.user.Leaderboard;
 import at.peirleitner.core.util.user.User;
 import at.peirleitner.core.util.user.UserStatistic;
 import net.md_5.bungee.api.ChatColor;
@@ -22,6 +27,7 @@ import net.md_5.bungee.api.ChatColor;
 public class LocalGuiManager {
 
 	public static final String GUI_STATISTICS = "My Statistiscs";
+	public static final String GUI_LEADERBOARD = "Leaderboard";
 
 	public final GUI getStatisticMainGUI(@Nonnull User user) {
 
@@ -39,6 +45,26 @@ public class LocalGuiManager {
 	}
 
 	public final GUI getStatisticsGUI(@Nonnull User user, @Nonnull SaveType saveType) {
+		return this.getStatisticsGUI(user, user.getStatistics(saveType));
+	}
+
+	/**
+	 * Load the Statistics using the {@link DatabaseExecutor} and build the GUI on
+	 * the main thread afterwards
+	 * 
+	 * @param user     - User
+	 * @param saveType - SaveType
+	 * @return Future that will be completed with the GUI
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final CompletableFuture<GUI> getStatisticsGUIAsync(@Nonnull User user, @Nonnull SaveType saveType) {
+		return Core.getInstance().getStatSystem().getStatisticsAsync(user.getUUID(), saveType).thenApplyAsync(
+				statistics -> this.getStatisticsGUI(user, statistics),
+				Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
+	}
+
+	private final GUI getStatisticsGUI(@Nonnull User user, @Nonnull Collection<UserStatistic> statisics) {
 
 		GUI gui = new GUI();
 		gui.setTitle(GUI_STATISTICS);
@@ -49,7 +75,6 @@ public class LocalGuiManager {
 					.build());
 		}
 
-		Collection<UserStatistic> statisics = user.getStatistics(saveType);
 		List<String> desc = new ArrayList<>();
 
 		if (statisics.isEmpty()) {
@@ -84,4 +109,50 @@ public class LocalGuiManager {
 		return gui;
 	}
 
+	/**
+	 * 
+	 * @param user      - User that views the GUI
+	 * @param statistic - Statistic
+	 * @param entries   - Places of the Leaderboard
+	 * @return GUI that displays the Leaderboard
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see StatSystem#getLeaderboardAsync(AvailableUserStatistic)
+	 */
+	public final GUI getLeaderboardGUI(@Nonnull User user, @Nonnull AvailableUserStatistic statistic,
+			@Nonnull List<Leaderboard.Entry> entries) {
+
+		GUI gui = new GUI();
+		gui.setTitle(GUI_LEADERBOARD);
+
+		if (entries.isEmpty()) {
+
+			gui.setItem(22, new ItemBuilder(Material.BARRIER)
+					.name(ChatColor.GRAY + LanguagePhrase.NONE.getTranslatedText(user.getUUID())).build());
+
+			return gui;
+		}
+
+		int rank = 0;
+
+		for (Leaderboard.Entry entry : entries) {
+
+			rank++;
+
+			String name = Core.getInstance().getLanguageManager().getMessage(Core.getInstance().getPluginName(),
+					user.getLanguage(), "gui.statistics.leaderboard.item.name",
+					Arrays.asList("" + rank, entry.getName() == null ? entry.getUUID().toString() : entry.getName()));
+			String description = Core.getInstance().getLanguageManager().getMessage(
+					Core.getInstance().getPluginName(), user.getLanguage(),
+					"gui.statistics.leaderboard.item.description",
+					Arrays.asList(statistic.getDisplayName(), "" + entry.getAmount()));
+
+			gui.addItem(new ItemBuilder(entry.getUUID().equals(user.getUUID()) ? Material.PLAYER_HEAD
+					: Material.valueOf(statistic.getIconName())).name(name)
+					.lore(description.split("\n")).addItemFlags().build());
+		}
+
+		return gui;
+	}
+
 }
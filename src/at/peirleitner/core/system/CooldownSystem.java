@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -8,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
@@ -15,6 +17,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.GlobalUtils;
 import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.CooldownInfo;
@@ -30,31 +33,37 @@ import at.peirleitner.core.util.user.User;
  */
 public class CooldownSystem implements CoreSystem {
 
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	private final String table = TableType.COOLDOWNS.getTableName(true);
+	private final String sqlHasRecord = "SELECT 1 FROM " + table + " WHERE uuid = ? AND metadata = ? AND saveType = ?";
+	private final String sqlUpdate = "UPDATE " + table
+			+ " SET lastUsage = ?, nextUsage = ? WHERE uuid = ? AND metadata = ? AND saveType = ?";
+	private final String sqlInsert = "INSERT INTO " + table
+			+ " (uuid, metadata, lastUsage, nextUsage, saveType) VALUES (?, ?, ?, ?, ?);";
+	private final String sqlDelete = "DELETE FROM " + table + " WHERE uuid = ? AND metadata = ? AND saveType = ?";
+	private final String sqlGetNextUsage = "SELECT nextUsage FROM " + table
+			+ " WHERE uuid = ? AND metadata = ? AND saveType = ?";
+	private final String sqlGetActive = "SELECT metadata, lastUsage, nextUsage, saveType FROM " + table
+			+ " WHERE uuid = ? AND nextUsage > ?";
+	private final String sqlGetActiveBySaveType = "SELECT metadata, lastUsage, nextUsage FROM " + table
+			+ " WHERE uuid = ? AND nextUsage > ? AND saveType = ?";
+
 	public CooldownSystem() {
 		this.createTable();
 	}
 
-	private final boolean hasRecord(@Nonnull UUID uuid, @Nonnull String metadata, @Nonnull int saveType) {
-
-		try {
-
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM "
-					+ this.getTableType().getTableName(true) + " WHERE uuid = ? AND metadata = ? AND saveType = ?");
-			stmt.setString(1, uuid.toString());
-			stmt.setString(2, metadata);
-			stmt.setInt(3, saveType);
-
-			ResultSet rs = stmt.executeQuery();
+	private final boolean hasRecord(@Nonnull Connection connection, @Nonnull UUID uuid, @Nonnull String metadata,
+			@Nonnull int saveType) throws SQLException {
 
-			return rs.next();
+		// Uses the connection of the caller, leasing a second one could exhaust the pool
+		PreparedStatement stmt = connection.prepareStatement(this.sqlHasRecord);
+		stmt.setString(1, uuid.toString());
+		stmt.setString(2, metadata);
+		stmt.setInt(3, saveType);
 
-		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not check if a Record for User '" + uuid.toString() + "' with Metadata '" + metadata
-							+ "' on SaveType '" + saveType + "' exists/SQL: " + e.getMessage());
-			return false;
-		}
+		ResultSet rs = stmt.executeQuery();
 
+		return rs.next();
 	}
 	
 	/**
@@ -83,15 +92,13 @@ public class CooldownSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			PreparedStatement stmt = null;
 
-			if (this.hasRecord(uuid, metadata, saveType)) {
+			if (this.hasRecord(connection, uuid, metadata, saveType)) {
 
-				stmt = Core.getInstance().getMySQL().getConnection()
-						.prepareStatement("UPDATE " + this.getTableType().getTableName(true)
-								+ " SET lastUsage = ?, nextUsage = ? WHERE uuid = ? AND metadata = ? AND saveType = ?");
+				stmt = connection.prepareStatement(this.sqlUpdate);
 				stmt.setLong(1, System.currentTimeMillis());
 				stmt.setLong(2, nextUsage);
 				stmt.setString(3, uuid.toString());
@@ -100,9 +107,7 @@ public class CooldownSystem implements CoreSystem {
 
 			} else {
 
-				stmt = Core.getInstance().getMySQL().getConnection()
-						.prepareStatement("INSERT INTO " + this.getTableType().getTableName(true)
-								+ " (uuid, metadata, lastUsage, nextUsage, saveType) VALUES (?, ?, ?, ?, ?);");
+				stmt = connection.prepareStatement(this.sqlInsert);
 				stmt.setString(1, uuid.toString());
 				stmt.setString(2, metadata);
 				stmt.setLong(3, System.currentTimeMillis());
@@ -138,10 +143,9 @@ public class CooldownSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("DELETE FROM "
-					+ this.getTableType().getTableName(true) + " WHERE uuid = ? AND metadata = ? AND saveType = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlDelete);
 			stmt.setString(1, uuid.toString());
 			stmt.setString(2, metadata);
 			stmt.setInt(3, saveType);
@@ -212,11 +216,9 @@ public class CooldownSystem implements CoreSystem {
 	 */
 	public final boolean hasCooldown(@Nonnull UUID uuid, @Nonnull String metadata, @Nonnull int saveType) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT nextUsage FROM " + this.getTableType().getTableName(true)
-							+ " WHERE uuid = ? AND metadata = ? AND saveType = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetNextUsage);
 			stmt.setString(1, uuid.toString());
 			stmt.setString(2, metadata);
 			stmt.setInt(3, saveType);
@@ -245,11 +247,9 @@ public class CooldownSystem implements CoreSystem {
 
 		List<CooldownInfo> cooldowns = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT metadata, lastUsage, nextUsage, saveType FROM "
-							+ this.getTableType().getTableName(true) + " WHERE uuid = ? AND nextUsage > ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetActive);
 			stmt.setString(1, uuid.toString());
 			stmt.setLong(2, System.currentTimeMillis());
 
@@ -280,11 +280,9 @@ public class CooldownSystem implements CoreSystem {
 
 		List<CooldownInfo> cooldowns = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT metadata, lastUsage, nextUsage FROM "
-							+ this.getTableType().getTableName(true) + " WHERE uuid = ? AND nextUsage > ? AND saveType = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetActiveBySaveType);
 			stmt.setString(1, uuid.toString());
 			stmt.setLong(2, System.currentTimeMillis());
 			stmt.setInt(3, saveType.getID());
@@ -311,12 +309,63 @@ public class CooldownSystem implements CoreSystem {
 		return cooldowns;
 	}
 
+	// | Async | \\
+
+	/**
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param metadata - Metadata
+	 * @param saveType - SaveType ID
+	 * @return Future that will be completed with the result of
+	 *         {@link #hasCooldown(UUID, String, int)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> hasCooldownAsync(@Nonnull UUID uuid, @Nonnull String metadata,
+			@Nonnull int saveType) {
+		return Core.getInstance().getDatabaseExecutor().supply("CooldownSystem#hasCooldown",
+				() -> this.hasCooldown(uuid, metadata, saveType));
+	}
+
+	/**
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param metadata - Metadata
+	 * @param saveType - SaveType ID
+	 * @param seconds  - Duration in seconds
+	 * @return Future that will be completed with the result of
+	 *         {@link #addCooldown(UUID, String, int, int)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> addCooldownAsync(@Nonnull UUID uuid, @Nonnull String metadata,
+			@Nonnull int saveType, @Nonnull int seconds) {
+		return Core.getInstance().getDatabaseExecutor().supply("CooldownSystem#addCooldown",
+				() -> this.addCooldown(uuid, metadata, saveType, seconds));
+	}
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getActiveCooldowns(UUID)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Collection<CooldownInfo>> getActiveCooldownsAsync(@Nonnull UUID uuid) {
+		return Core.getInstance().getDatabaseExecutor().supply("CooldownSystem#getActiveCooldowns",
+				() -> this.getActiveCooldowns(uuid));
+	}
+
 	@Override
 	public final void createTable() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + this.getTableType().getTableName(true) + " ("
 							+ "uuid CHAR(36) NOT NULL, " + "metadata VARCHAR(100) NOT NULL, "
 							+ "lastUsage BIGINT(255) NOT NULL DEFAULT '" + System.currentTimeMillis() + "', "
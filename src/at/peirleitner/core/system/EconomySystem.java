@@ -1,14 +1,29 @@
 package at.peirleitner.core.system;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.command.local.CommandPay;
@@ -16,13 +31,22 @@ import at.peirleitner.core.manager.SettingsManager;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.RunMode;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
+import at.peirleitner.core.util.economy.BalanceCache;
+import at.peirleitner.core.util.economy.BalanceCache.Account;
+import at.peirleitner.core.util.economy.BalanceLeaderboard;
+import at.peirleitner.core.util.economy.EconomyBulkOperation;
+import at.peirleitner.core.util.economy.EconomyLedger;
+import at.peirleitner.core.util.economy.EconomyTransactionType;
+import at.peirleitner.core.util.economy.Money;
+import at.peirleitner.core.util.economy.TransferResult;
 import at.peirleitner.core.util.user.User;
 
 /**
  * System to interact and manipulate economy of a {@link User}
- * 
+ *
  * @since 1.0.6
  * @author Markus Peirleitner (Rengobli)
  *
@@ -35,18 +59,119 @@ public class EconomySystem implements CoreSystem {
 	 * @author Markus Peirleitner (Rengobli)
 	 */
 	public static final int MAX_DIGITS = 20;
-	
+
 	/**
 	 * Maximum amount of digits that the balance is able to have (Numbers <b>after</b> comma)
 	 * @since 1.0.6
 	 * @author Markus Peirleitner (Rengobli)
+	 * @see Money#SCALE
 	 */
 	public static final int MAX_COMMA = 5;
-	
+
+	/**
+	 * Smallest amount that may be added, removed, set or sent in minor units
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final long MIN_AMOUNT = Money.UNIT / 10;
+
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	// Amounts are passed as minor units and scaled by the database, v1.0.19
+	private final String table = TableType.ECONOMY.getTableName(true);
+	private final String minor = "CAST(balance * " + Money.UNIT + " AS SIGNED)";
+	private final String sqlGetBalance = "SELECT " + minor + " FROM " + table + " WHERE uuid = ? AND saveType = ?";
+	private final String sqlGetBalances = "SELECT saveType, " + minor + " FROM " + table + " WHERE uuid = ?";
+	private final String sqlGetBalanceForUpdate = this.sqlGetBalance + " FOR UPDATE";
+	private final String sqlAdd = "INSERT INTO " + table + " (uuid, saveType, balance) VALUES (?, ?, ? * "
+			+ Money.SQL_UNIT + ") ON DUPLICATE KEY UPDATE balance = balance + VALUES(balance)";
+	private final String sqlRemove = "UPDATE " + table + " SET balance = balance - ? * " + Money.SQL_UNIT
+			+ " WHERE uuid = ? AND saveType = ? AND balance >= ? * " + Money.SQL_UNIT;
+	private final String sqlSet = "INSERT INTO " + table + " (uuid, saveType, balance) VALUES (?, ?, ? * "
+			+ Money.SQL_UNIT + ") ON DUPLICATE KEY UPDATE balance = VALUES(balance)";
+	private final String sqlBulkGetPositive = "SELECT uuid, " + minor + " FROM " + table
+			+ " WHERE saveType = ? AND balance > 0 LIMIT ? FOR UPDATE";
+	private final String sqlBulkGetAfter = "SELECT uuid, " + minor + " FROM " + table
+			+ " WHERE saveType = ? AND balance > 0 AND uuid > ? ORDER BY uuid LIMIT ? FOR UPDATE";
+	private final String sqlBulkDelete = "DELETE FROM " + table + " WHERE uuid = ? AND saveType = ?";
+	private final String sqlBulkAdjust = "UPDATE " + table + " SET balance = balance + ? * " + Money.SQL_UNIT
+			+ " WHERE uuid = ? AND saveType = ?";
+	private final String sqlGetLeaderboard = "SELECT e.uuid, CAST(e.balance * " + Money.UNIT + " AS SIGNED), u.lastKnownName"
+			+ " FROM " + table + " e LEFT JOIN " + TableType.USERS.getTableName(true) + " u ON u.uuid = e.uuid"
+			+ " WHERE e.saveType = ? AND e.balance > 0 ORDER BY e.balance DESC LIMIT ?";
+
+	private final EconomyLedger ledger;
+	private final BalanceCache balanceCache;
+	private final boolean writeBehind;
+	private final ConcurrentHashMap<Integer, BalanceLeaderboard> leaderboards;
+
 	public EconomySystem() {
 		this.createTable();
 		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
 				"system.economy.char", "$");
+
+		// v1.0.19
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.enable-caching", "true");
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.write-behind", "false");
+		this.balanceCache = new BalanceCache();
+		this.writeBehind = Core.getInstance().getSettingsManager().isSetting(Core.getInstance().getPluginName(),
+				"system.economy.write-behind");
+		this.ledger = new EconomyLedger(Core.getInstance().getPluginName(), this.getLedgerSetting("queue-size"),
+				this.getLedgerSetting("batch-size"), this.getLedgerSetting("flush-interval"));
+
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.leaderboard.size", "100");
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.leaderboard.page-size", "10");
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.leaderboard.refresh-interval", "300");
+		this.leaderboards = new ConcurrentHashMap<>();
+
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.economy.reconcile-interval", "60");
+
+		// Leaderboards are updated on every change, the database is only queried to
+		// include changes made by other servers
+		Core.getInstance().getDatabaseExecutor().repeat("EconomySystem#refreshLeaderboards",
+				this::refreshLeaderboards,
+				Math.max(1, Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(
+						Core.getInstance().getPluginName(), "system.economy.leaderboard.refresh-interval"))),
+				TimeUnit.SECONDS);
+
+		// Cached balances are only changed by this server otherwise
+		Core.getInstance().getDatabaseExecutor().repeat("EconomySystem#reconcileAccounts", this::reconcileAccounts,
+				Math.max(1, Integer.valueOf(Core.getInstance().getSettingsManager()
+						.getSetting(Core.getInstance().getPluginName(), "system.economy.reconcile-interval"))),
+				TimeUnit.SECONDS);
+	}
+
+	private final int getLedgerSetting(@Nonnull String key) {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.economy.ledger." + key));
+	}
+
+	/**
+	 *
+	 * @return If the balances of online Users are cached
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getBalanceCache()
+	 */
+	public final boolean isCachingEnabled() {
+		return Core.getInstance().getSettingsManager().isSetting(Core.getInstance().getPluginName(),
+				"system.economy.enable-caching");
+	}
+
+	/**
+	 *
+	 * @return If changes of cached balances return before the database has been
+	 *         updated. Read once on startup.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean isWriteBehind() {
+		return writeBehind;
 	}
 
 	public final char getChar() {
@@ -55,7 +180,7 @@ public class EconomySystem implements CoreSystem {
 	}
 
 	/**
-	 * 
+	 *
 	 * @return If sending money between players is allowed
 	 * @since 1.0.6
 	 * @author Markus Peirleitner (Rengobli)
@@ -68,115 +193,299 @@ public class EconomySystem implements CoreSystem {
 				"manager.settings.allow-money-sending-between-players");
 	}
 
-	public final double getEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Balance or <code>null</code> if an error occurs
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final Money getBalance(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
 
-		try {
+		// Online Users are served from memory
+		final Account account = this.balanceCache.getAccount(uuid);
+
+		if (account != null) {
+			return Money.ofMinor(account.get(saveType.getID()));
+		}
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT balance FROM " + this.getTableType().getTableName(true)
-							+ " WHERE uuid = ? AND saveType = ?");
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetBalance);
 			stmt.setString(1, uuid.toString());
 			stmt.setInt(2, saveType.getID());
 
 			ResultSet rs = stmt.executeQuery();
 
-			if (rs.next()) {
+			// No Economy
+			return rs.next() ? Money.ofMinor(rs.getLong(1)) : Money.ZERO;
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not get Economy for SaveType '"
+					+ saveType.toString() + "' for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
+			return null;
+		}
+
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Balance or <code>-1</code> if an error occurs
+	 * @since 1.0.6
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this is a view of {@link #getBalance(UUID, SaveType)}
+	 */
+	public final double getEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
+		final Money balance = this.getBalance(uuid, saveType);
+		return balance == null ? -1 : balance.toDouble();
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Positive balance of every SaveType, empty if an error occurs
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final HashMap<SaveType, Money> getBalances(@Nonnull UUID uuid) {
+
+		final HashMap<SaveType, Money> map = new HashMap<>();
+		final Account account = this.balanceCache.getAccount(uuid);
+
+		if (account != null) {
+
+			for (SaveType st : Core.getInstance().getSaveTypes()) {
+
+				final long balance = account.get(st.getID());
+
+				if (balance > 0) {
+					map.put(st, Money.ofMinor(balance));
+				}
+
+			}
+
+			return map;
+		}
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetBalances);
+			stmt.setString(1, uuid.toString());
+
+			ResultSet rs = stmt.executeQuery();
+
+			while (rs.next()) {
 
-				BigDecimal bd = rs.getBigDecimal(1);
-				return bd.doubleValue();
+				final SaveType st = Core.getInstance().getSaveTypeByID(rs.getInt(1));
+				final long balance = rs.getLong(2);
+
+				if (st != null && balance > 0) {
+					map.put(st, Money.ofMinor(balance));
+				}
 
-			} else {
-				// No Economy
-				return 0.0;
 			}
 
 		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not get Economy for SaveType '"
-					+ saveType.toString() + "' for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
-			return -1;
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not get Economy for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
 		}
 
+		return map;
 	}
 
 	/**
-	 * 
+	 *
 	 * @param uuid - UUID of the {@link User}
 	 * @return HashMap containing the balance for every {@link SaveType} that this
 	 *         {@link User} has
 	 * @since 1.0.6
 	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this is a view of {@link #getBalances(UUID)}
 	 */
 	public final HashMap<SaveType, Double> getEconomy(@Nonnull UUID uuid) {
 
 		HashMap<SaveType, Double> map = new HashMap<>();
 
-		for (SaveType st : Core.getInstance().getSaveTypes()) {
+		for (Map.Entry<SaveType, Money> entry : this.getBalances(uuid).entrySet()) {
+			map.put(entry.getKey(), entry.getValue().toDouble());
+		}
+
+		return map;
+	}
+
+	/**
+	 * Load the balances of a User into the {@link BalanceCache}. If the User is
+	 * still cached, the balances are reconciled with the database.
+	 *
+	 * @param uuid - UUID of the User
+	 * @return If the balances are cached
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #unloadAccount(UUID)
+	 */
+	public final boolean loadAccount(@Nonnull UUID uuid) {
+
+		if (!this.isCachingEnabled()) {
+			return false;
+		}
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+			return this.balanceCache.load(uuid, () -> this.loadBalances(connection, uuid)) != null;
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not load Economy for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
+			return false;
+		}
+
+	}
+
+	/**
+	 * Reconcile all cached Accounts without queued writes with the database, so
+	 * changes made by other servers are picked up
+	 */
+	private final void reconcileAccounts() {
+
+		if (this.balanceCache.size() == 0) {
+			return;
+		}
+
+		int reconciled = 0;
 
-			double economy = this.getEconomy(uuid, st);
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			for (Account account : this.balanceCache.getAccounts()) {
+
+				if (account.reconcile(() -> this.loadBalances(connection, account.getUUID()))) {
+					reconciled++;
+				}
 
-			if (economy > 0) {
-				map.put(st, economy);
 			}
 
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not reconcile cached Economy/SQL: " + e.getMessage());
+			return;
 		}
 
-		return map;
+		Core.getInstance().log(getClass(), LogType.DEBUG, "Reconciled " + reconciled + "/"
+				+ this.balanceCache.size() + " cached Economy Accounts.");
 	}
 
-	public final boolean addEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull double amount) {
+	private final Map<Integer, Long> loadBalances(@Nonnull Connection connection, @Nonnull UUID uuid) {
 
-		double current = this.getEconomy(uuid, saveType);
-		final boolean has = (current > 0 ? true : false);
+		final HashMap<Integer, Long> balances = new HashMap<>();
 
-		if (current < 0) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not add Economy for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "': Current Economy is negative.");
-			return false;
+		try {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetBalances);
+			stmt.setString(1, uuid.toString());
+
+			ResultSet rs = stmt.executeQuery();
+
+			while (rs.next()) {
+
+				final long balance = rs.getLong(2);
+
+				// Clamped by the database
+				if (balance == Long.MAX_VALUE) {
+					Core.getInstance().log(getClass(), LogType.WARNING, "Could not cache Economy for User '"
+							+ uuid.toString() + "': Balance is too big to be cached.");
+					return null;
+				}
+
+				balances.put(rs.getInt(1), balance);
+			}
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not load Economy for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
+			return null;
 		}
 
-		if (amount < 0.1 || amount >= Double.MAX_VALUE) {
+		return balances;
+	}
+
+	/**
+	 * Remove the balances of a User from the {@link BalanceCache} once all of
+	 * its queued writes have been completed
+	 *
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #loadAccount(UUID)
+	 */
+	public final void unloadAccount(@Nonnull UUID uuid) {
+		this.balanceCache.unload(uuid);
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to add
+	 * @return If the Economy has been added
+	 * @since 1.0.6
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this delegates to
+	 *          {@link #addEconomy(UUID, SaveType, Money)}
+	 */
+	public final boolean addEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull double amount) {
+		final Money value = this.toMoney(amount);
+		return value != null && this.addEconomy(uuid, saveType, value);
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to add
+	 * @return If the Economy has been added
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote The balance is changed using a single statement without reading it
+	 *          first and the change is recorded inside the {@link EconomyLedger}
+	 */
+	public final boolean addEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull Money amount) {
+
+		if (!this.isValid(amount)) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not add Economy for User '" + uuid.toString()
 					+ "' on SaveType '" + saveType.getID() + "': Amount (" + amount + ") is negative.");
 			return false;
 		}
 
-		double newEconomy = new BigDecimal(current).add(new BigDecimal(amount)).doubleValue();
+		final Account account = this.balanceCache.getAccount(uuid);
+		final long minor = amount.getMinor();
+		final boolean success;
 
-		if (newEconomy >= Double.MAX_VALUE) {
-			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not add Economy for User '" + uuid.toString() + "' on SaveType '" + saveType.getID()
-							+ "': New Economy (" + newEconomy + ") would be negative (too big).");
-			return false;
+		if (account == null) {
+			success = this.persistAdd(uuid, saveType, minor);
+		} else {
+			success = this.apply(account, null, "EconomySystem#addEconomy", () -> account.add(saveType.getID(), minor),
+					() -> this.persistAdd(uuid, saveType, minor), () -> account.add(saveType.getID(), -minor));
 		}
 
-		try {
+		if (success) {
+			this.adjustLeaderboard(uuid, saveType, account, minor);
+			this.sendNotification(uuid, "command.economy.add.success.target", amount);
+		}
 
-			PreparedStatement stmt = null;
-//			Core.getInstance().log(getClass(), LogType.DEBUG, "Has: " + has + ", Current: " + current + ", New: " + newEconomy);
-
-			if (has) {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("UPDATE "
-						+ this.getTableType().getTableName(true) + " SET balance = ? WHERE uuid = ? AND saveType = ?");
-				stmt.setBigDecimal(1, new BigDecimal(newEconomy));
-				stmt.setString(2, uuid.toString());
-				stmt.setInt(3, saveType.getID());
-			} else {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-						+ this.getTableType().getTableName(true) + " (uuid, saveType, balance) VALUES (?, ?, ?);");
-				stmt.setString(1, uuid.toString());
-				stmt.setInt(2, saveType.getID());
-				stmt.setBigDecimal(3, new BigDecimal(newEconomy));
-			}
+		return success;
 
-			stmt.executeUpdate();
+	}
 
-			Core.getInstance().log(getClass(), LogType.DEBUG, "Added '" + amount + "' Economy on SaveType '"
-					+ saveType.getID() + "' to User '" + uuid.toString() + "'. New Value: '" + newEconomy + "'.");
-			
-			Core.getInstance().getUserSystem().getUser(uuid).sendMessage(Core.getInstance().getPluginName(), "command.economy.add.success.target",
-					Arrays.asList("" + amount, "" + this.getChar()),
-					true);
-			return true;
+	private final boolean persistAdd(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull long minor) {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlAdd);
+			stmt.setString(1, uuid.toString());
+			stmt.setInt(2, saveType.getID());
+			stmt.setLong(3, minor);
+			stmt.executeUpdate();
 
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not add Economy for User '" + uuid.toString()
@@ -184,60 +493,83 @@ public class EconomySystem implements CoreSystem {
 			return false;
 		}
 
+		this.ledger.record(EconomyTransactionType.ADD, saveType, EconomyLedger.SYSTEM_ACCOUNT, uuid, minor);
+
+		Core.getInstance().log(getClass(), LogType.DEBUG, "Added '" + Money.toString(minor)
+				+ "' Economy on SaveType '" + saveType.getID() + "' to User '" + uuid.toString() + "'.");
+		return true;
+
 	}
 
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to remove
+	 * @return If the Economy has been removed, <code>false</code> if the User
+	 *         does not have enough
+	 * @since 1.0.6
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this delegates to
+	 *          {@link #removeEconomy(UUID, SaveType, Money)}
+	 */
 	public final boolean removeEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull double amount) {
+		final Money value = this.toMoney(amount);
+		return value != null && this.removeEconomy(uuid, saveType, value);
+	}
 
-		double current = this.getEconomy(uuid, saveType);
-		final boolean has = (current > 0 ? true : false);
-
-		if (current < 0) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not remove Economy for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "': Current Economy is negative.");
-			return false;
-		}
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to remove
+	 * @return If the Economy has been removed, <code>false</code> if the User
+	 *         does not have enough
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote The balance is checked and changed using a single conditional
+	 *          statement, so concurrent removals can't overdraw it. The whole
+	 *          balance may be removed.
+	 */
+	public final boolean removeEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull Money amount) {
 
-		if (amount < 0.1 || amount >= Double.MAX_VALUE) {
+		if (!this.isValid(amount)) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not remove Economy for User '" + uuid.toString()
 					+ "' on SaveType '" + saveType.getID() + "': Amount (" + amount + ") is negative.");
 			return false;
 		}
 
-		double newEconomy = new BigDecimal(current).subtract(new BigDecimal(amount)).doubleValue();
+		final Account account = this.balanceCache.getAccount(uuid);
+		final long minor = amount.getMinor();
+		final boolean success;
 
-		if (newEconomy <= 0.0 || newEconomy >= Double.MAX_VALUE) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not remove Economy for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "': New Economy (" + newEconomy + ") would be negative.");
-			return false;
+		if (account == null) {
+			success = this.persistRemove(uuid, saveType, minor);
+		} else {
+			success = this.apply(account, null, "EconomySystem#removeEconomy",
+					() -> account.withdraw(saveType.getID(), minor), () -> this.persistRemove(uuid, saveType, minor),
+					() -> account.add(saveType.getID(), minor));
 		}
 
-		try {
+		if (success) {
+			this.adjustLeaderboard(uuid, saveType, account, -minor);
+			this.sendNotification(uuid, "command.economy.remove.success.target", amount);
+		}
 
-			PreparedStatement stmt = null;
-
-			if (has) {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("UPDATE "
-						+ this.getTableType().getTableName(true) + " SET balance = ? WHERE uuid = ? AND saveType = ?");
-				stmt.setBigDecimal(1, new BigDecimal(newEconomy));
-				stmt.setString(2, uuid.toString());
-				stmt.setInt(3, saveType.getID());
-			} else {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-						+ this.getTableType().getTableName(true) + " (uuid, saveType, balance) VALUES (?, ?, ?);");
-				stmt.setString(1, uuid.toString());
-				stmt.setInt(2, saveType.getID());
-				stmt.setBigDecimal(3, new BigDecimal(newEconomy));
-			}
+		return success;
 
-			stmt.execute();
+	}
 
-			Core.getInstance().log(getClass(), LogType.DEBUG, "Removed '" + amount + "' Economy on SaveType '"
-					+ saveType.getID() + "' for User '" + uuid.toString() + "'. New Value: '" + newEconomy + "'.");
-			
-			Core.getInstance().getUserSystem().getUser(uuid).sendMessage(Core.getInstance().getPluginName(), "command.economy.remove.success.target",
-					Arrays.asList("" + amount, "" + this.getChar()),
-					true);
-			return true;
+	private final boolean persistRemove(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull long minor) {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			if (!this.withdraw(connection, uuid, saveType, minor)) {
+				Core.getInstance().log(getClass(), LogType.DEBUG,
+						"Could not remove Economy for User '" + uuid.toString() + "' on SaveType '"
+								+ saveType.getID() + "': Balance is lower than " + Money.toString(minor) + ".");
+				return false;
+			}
 
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not remove Economy for User '" + uuid.toString()
@@ -245,60 +577,95 @@ public class EconomySystem implements CoreSystem {
 			return false;
 		}
 
+		this.ledger.record(EconomyTransactionType.REMOVE, saveType, uuid, EconomyLedger.SYSTEM_ACCOUNT, minor);
+
+		Core.getInstance().log(getClass(), LogType.DEBUG, "Removed '" + Money.toString(minor)
+				+ "' Economy on SaveType '" + saveType.getID() + "' for User '" + uuid.toString() + "'.");
+		return true;
+
 	}
 
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - New balance
+	 * @return If the Economy has been set
+	 * @since 1.0.6
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote As of v1.0.19 this delegates to
+	 *          {@link #setEconomy(UUID, SaveType, Money)}
+	 */
 	public final boolean setEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull double amount) {
+		final Money value = this.toMoney(amount);
+		return value != null && this.setEconomy(uuid, saveType, value);
+	}
 
-		double current = this.getEconomy(uuid, saveType);
-		final boolean has = (current > 0 ? true : false);
-
-		if (current < 0) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not set Economy for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "': Current Economy is negative.");
-			return false;
-		}
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - New balance
+	 * @return If the Economy has been set
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote The previous balance is locked inside a transaction so the
+	 *          difference can be recorded inside the {@link EconomyLedger}
+	 */
+	public final boolean setEconomy(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull Money amount) {
 
-		if (amount < 0.1 || amount >= Double.MAX_VALUE) {
+		if (!this.isValid(amount)) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not set Economy for User '" + uuid.toString()
 					+ "' on SaveType '" + saveType.getID() + "': Amount (" + amount + ") is negative.");
 			return false;
 		}
 
-		double newEconomy = new BigDecimal(amount).doubleValue();
+		final Account account = this.balanceCache.getAccount(uuid);
+		final long minor = amount.getMinor();
+		final boolean success;
+
+		if (account == null) {
+			success = this.persistSet(uuid, saveType, minor);
+		} else {
+			final long[] previous = new long[1];
+			success = this.apply(account, null, "EconomySystem#setEconomy", () -> {
+				previous[0] = account.set(saveType.getID(), minor);
+				return true;
+			}, () -> this.persistSet(uuid, saveType, minor), () -> account.add(saveType.getID(), previous[0] - minor));
+		}
 
-		if (amount <= 0.0 || amount >= Double.MAX_VALUE) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not set Economy for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "': New Economy (" + newEconomy + ") would be negative.");
-			return false;
+		if (success) {
+			this.offerLeaderboard(uuid, saveType, account == null ? minor : account.get(saveType.getID()));
+			this.sendNotification(uuid, "command.economy.set.success.target", amount);
 		}
 
-		try {
+		return success;
 
-			PreparedStatement stmt = null;
-
-			if (has) {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("UPDATE "
-						+ this.getTableType().getTableName(true) + " SET balance = ? WHERE uuid = ? AND saveType = ?");
-				stmt.setBigDecimal(1, new BigDecimal(newEconomy));
-				stmt.setString(2, uuid.toString());
-				stmt.setInt(3, saveType.getID());
-			} else {
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-						+ this.getTableType().getTableName(true) + " (uuid, saveType, balance) VALUES (?, ?, ?);");
-				stmt.setString(1, uuid.toString());
-				stmt.setInt(2, saveType.getID());
-				stmt.setBigDecimal(3, new BigDecimal(newEconomy));
-			}
+	}
 
-			stmt.execute();
+	private final boolean persistSet(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull long minor) {
 
-			Core.getInstance().log(getClass(), LogType.DEBUG, "The Economy of User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "' has been set to '" + amount + "'.");
-			
-			Core.getInstance().getUserSystem().getUser(uuid).sendMessage(Core.getInstance().getPluginName(), "command.economy.set.success.target",
-					Arrays.asList("" + amount, "" + this.getChar()),
-					true);
-			return true;
+		final long difference;
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			connection.setAutoCommit(false);
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetBalanceForUpdate);
+			stmt.setString(1, uuid.toString());
+			stmt.setInt(2, saveType.getID());
+
+			ResultSet rs = stmt.executeQuery();
+			final long previous = rs.next() ? rs.getLong(1) : 0L;
+
+			stmt = connection.prepareStatement(this.sqlSet);
+			stmt.setString(1, uuid.toString());
+			stmt.setInt(2, saveType.getID());
+			stmt.setLong(3, minor);
+			stmt.executeUpdate();
+
+			connection.commit();
+			difference = Money.subtract(minor, previous);
 
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not set Economy for User '" + uuid.toString()
@@ -306,36 +673,1114 @@ public class EconomySystem implements CoreSystem {
 			return false;
 		}
 
+		if (difference > 0) {
+			this.ledger.record(EconomyTransactionType.SET, saveType, EconomyLedger.SYSTEM_ACCOUNT, uuid, difference);
+		} else if (difference < 0) {
+			this.ledger.record(EconomyTransactionType.SET, saveType, uuid, EconomyLedger.SYSTEM_ACCOUNT, -difference);
+		}
+
+		Core.getInstance().log(getClass(), LogType.DEBUG, "The Economy of User '" + uuid.toString()
+				+ "' on SaveType '" + saveType.getID() + "' has been set to '" + Money.toString(minor) + "'.");
+		return true;
+
 	}
 
-	@Override
-	public void createTable() {
+	/**
+	 * Apply a change towards a cached Account and persist it. If
+	 * {@link #isWriteBehind()} is enabled, this returns once the change has been
+	 * applied in memory and the database is updated in the background.
+	 *
+	 * @param account    - Account that orders the change
+	 * @param other      - Other Account that is changed without being locked,
+	 *                   may be <code>null</code>
+	 * @param name       - Name of the write
+	 * @param memory     - Change in memory, returns <code>false</code> if it may
+	 *                   not be applied
+	 * @param persist    - Change on the database
+	 * @param compensate - Revert of the change in memory if it could not be
+	 *                   persisted
+	 * @return If the change has been applied
+	 */
+	private final boolean apply(@Nonnull Account account, @Nullable Account other, @Nonnull String name,
+			@Nonnull BooleanSupplier memory, @Nonnull BooleanSupplier persist, @Nonnull Runnable compensate) {
 
-		try {
+		// Writes of the same Account are neither interleaved with each other nor
+		// with a reconcile
+		synchronized (account) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("CREATE TABLE IF NOT EXISTS " + Core.getInstance().getMySQL().getTablePrefix()
-							+ this.getTableType().getTableName(false) + " (" + "uuid CHAR (36) NOT NULL, "
-							+ "saveType INT NOT NULL, " + "balance DECIMAL(" + MAX_DIGITS + "," + MAX_COMMA + ") NOT NULL, "
-							+ "PRIMARY KEY (uuid, saveType), " + "FOREIGN KEY (saveType) REFERENCES "
-							+ Core.getInstance().getMySQL().getTablePrefix() + TableType.SAVE_TYPE.getTableName(false)
-							+ "(id));");
-			stmt.execute();
-			return;
+			if (other != null) {
+				other.beginChange();
+			}
+
+			if (!memory.getAsBoolean()) {
+
+				if (other != null) {
+					other.endChange();
+				}
+
+				return false;
+			}
+
+			if (this.writeBehind) {
+
+				account.write(name, persist::getAsBoolean, (success, throwable) -> {
+
+					// Also if the write failed or has never been started
+					if (throwable != null || !success) {
+						compensate.run();
+					}
+
+					if (other != null) {
+						other.endChange();
+					}
+
+				});
+
+				return true;
+			}
+
+			boolean success = false;
+
+			try {
+				success = persist.getAsBoolean();
+			} finally {
+
+				if (!success) {
+					compensate.run();
+				}
+
+				if (other != null) {
+					other.endChange();
+				}
+
+			}
+
+			return success;
 
-		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not create Table for EconomySystem/SQL: " + e.getMessage());
-			return;
 		}
 
 	}
 
-	@Override
-	public TableType getTableType() {
-		return TableType.ECONOMY;
-	}
-	
-	
+	/**
+	 * Move money between two Users inside a single transaction. The balance of
+	 * the sender is checked and reduced by the same statement, so concurrent
+	 * transfers can neither overdraw it nor lose or duplicate money.
+	 *
+	 * @param from     - UUID of the sender
+	 * @param to       - UUID of the receiver
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to move
+	 * @return Result of the transfer
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote If the sender is cached, a too low balance is detected without
+	 *          accessing the database. With {@link #isWriteBehind()} enabled and
+	 *          a cached sender, {@link TransferResult#SUCCESS} is returned before
+	 *          the database has been updated.
+	 */
+	public final TransferResult transfer(@Nonnull UUID from, @Nonnull UUID to, @Nonnull SaveType saveType,
+			@Nonnull Money amount) {
+
+		if (!this.isValid(amount) || from.equals(to)) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not transfer Economy from User '"
+					+ from.toString() + "' to User '" + to.toString() + "': Invalid amount or target.");
+			return TransferResult.FAILED;
+		}
+
+		final Account sender = this.balanceCache.getAccount(from);
+		final Account receiver = this.balanceCache.getAccount(to);
+		final long minor = amount.getMinor();
+
+		if (sender == null && receiver == null) {
+
+			final TransferResult result = this.persistTransfer(from, to, saveType, minor);
+
+			if (result == TransferResult.SUCCESS) {
+				this.adjustLeaderboard(from, saveType, null, -minor);
+				this.adjustLeaderboard(to, saveType, null, minor);
+			}
+
+			return result;
+		}
+
+		final int id = saveType.getID();
+
+		// The balance of a sender that is not cached is only checked by the
+		// database, so the receiver is credited once the transfer has been committed
+		if (sender == null) {
+
+			final TransferResult result;
+			receiver.beginChange();
+
+			try {
+
+				result = this.persistTransfer(from, to, saveType, minor);
+
+				if (result == TransferResult.SUCCESS) {
+					receiver.add(id, minor);
+				}
+
+			} finally {
+				receiver.endChange();
+			}
+
+			if (result == TransferResult.SUCCESS) {
+				this.adjustLeaderboard(from, saveType, null, -minor);
+				this.adjustLeaderboard(to, saveType, receiver, minor);
+			}
+
+			return result;
+		}
+
+		final TransferResult[] result = new TransferResult[1];
+
+		// Ordered by the Account of the sender
+		final boolean success = this.apply(sender, receiver, "EconomySystem#transfer", () -> {
+
+			if (!sender.withdraw(id, minor)) {
+				result[0] = TransferResult.INSUFFICIENT_BALANCE;
+				return false;
+			}
+
+			if (receiver != null && !receiver.add(id, minor)) {
+				sender.add(id, minor);
+				result[0] = TransferResult.FAILED;
+				return false;
+			}
+
+			return true;
+		}, () -> {
+			result[0] = this.persistTransfer(from, to, saveType, minor);
+			return result[0] == TransferResult.SUCCESS;
+		}, () -> {
+
+			sender.add(id, minor);
+
+			if (receiver != null) {
+				receiver.add(id, -minor);
+			}
+
+		});
+
+		if (!success) {
+			return result[0];
+		}
+
+		this.adjustLeaderboard(from, saveType, sender, -minor);
+		this.adjustLeaderboard(to, saveType, receiver, minor);
+		return TransferResult.SUCCESS;
+
+	}
+
+	private final TransferResult persistTransfer(@Nonnull UUID from, @Nonnull UUID to, @Nonnull SaveType saveType,
+			@Nonnull long minor) {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			connection.setAutoCommit(false);
+
+			if (!this.withdraw(connection, from, saveType, minor)) {
+				connection.rollback();
+				return TransferResult.INSUFFICIENT_BALANCE;
+			}
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlAdd);
+			stmt.setString(1, to.toString());
+			stmt.setInt(2, saveType.getID());
+			stmt.setLong(3, minor);
+			stmt.executeUpdate();
+
+			connection.commit();
+
+		} catch (SQLException e) {
+			// Uncommitted changes are rolled back once the connection is returned
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not transfer Economy from User '"
+					+ from.toString() + "' to User '" + to.toString() + "' on SaveType '" + saveType.getID()
+					+ "'/SQL: " + e.getMessage());
+			return TransferResult.FAILED;
+		}
+
+		this.ledger.record(EconomyTransactionType.TRANSFER, saveType, from, to, minor);
+
+		Core.getInstance().log(getClass(), LogType.DEBUG, "Transferred '" + Money.toString(minor)
+				+ "' Economy on SaveType '" + saveType.getID() + "' from User '" + from.toString() + "' to User '"
+				+ to.toString() + "'.");
+		return TransferResult.SUCCESS;
+
+	}
+
+	private final boolean withdraw(@Nonnull Connection connection, @Nonnull UUID uuid, @Nonnull SaveType saveType,
+			@Nonnull long minor) throws SQLException {
+
+		PreparedStatement stmt = connection.prepareStatement(this.sqlRemove);
+		stmt.setLong(1, minor);
+		stmt.setString(2, uuid.toString());
+		stmt.setInt(3, saveType.getID());
+		stmt.setLong(4, minor);
+
+		// No row is changed if there is no balance or it is too low
+		return stmt.executeUpdate() == 1;
+	}
+
+	/**
+	 *
+	 * @param amount - Amount
+	 * @return If the amount may be added, removed, set or sent
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #MIN_AMOUNT
+	 */
+	public final boolean isValid(@Nonnull Money amount) {
+		return amount.getMinor() >= MIN_AMOUNT;
+	}
+
+	private final Money toMoney(@Nonnull double amount) {
+
+		try {
+			return Money.of(amount);
+		} catch (ArithmeticException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Invalid Economy amount '" + amount + "'.");
+			return null;
+		}
+
+	}
+
+	private final void sendNotification(@Nonnull UUID uuid, @Nonnull String key, @Nonnull Money amount) {
+		this.sendNotification(Core.getInstance().getUserSystem().getUser(uuid), key, amount);
+	}
+
+	private final void sendNotification(@Nullable User user, @Nonnull String key, @Nonnull Money amount) {
+
+		if (user != null) {
+			user.sendMessage(Core.getInstance().getPluginName(), key,
+					Arrays.asList(amount.toString(), "" + this.getChar()), true);
+		}
+
+	}
+
+	/**
+	 *
+	 * @return Ledger of all balance changes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final EconomyLedger getLedger() {
+		return this.ledger;
+	}
+
+	/**
+	 *
+	 * @return Balances of online Users
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final BalanceCache getBalanceCache() {
+		return this.balanceCache;
+	}
+
+	/**
+	 * Wait for all queued writes of cached balances and write the remaining
+	 * ledger entries. Has to be called before the {@link DatabaseExecutor} is
+	 * being shut down.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+
+		try {
+			this.balanceCache.getPendingWrites().get(10, TimeUnit.SECONDS);
+		} catch (InterruptedException | ExecutionException | TimeoutException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not wait for queued Economy writes: " + e.toString());
+		}
+
+		this.ledger.shutdown();
+	}
+
+	// | Bulk | \\
+
+	/**
+	 *
+	 * @return Maximum amount of Users that are changed by a single batch
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getBulkBatchSize() {
+		return Math.max(1, Integer.valueOf(Core.getInstance().getSettingsManager()
+				.getSetting(Core.getInstance().getPluginName(), "system.economy.bulk.batch-size")));
+	}
+
+	/**
+	 * Add the same amount towards the balance of many Users, for example as an
+	 * event reward. Every User is paid once, even if it is contained multiple
+	 * times.
+	 *
+	 * @param uuids    - UUIDs of the Users
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to add
+	 * @param progress - Called after every chunk on the executing thread, may be
+	 *                 <code>null</code>
+	 * @return Finished operation
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Users are changed in chunks of {@link #getBulkBatchSize()}, each
+	 *          chunk is committed on its own. Only online Users are notified.
+	 */
+	public final EconomyBulkOperation payoutAll(@Nonnull Collection<UUID> uuids, @Nonnull SaveType saveType,
+			@Nonnull Money amount, @Nullable Consumer<EconomyBulkOperation> progress) {
+
+		final List<UUID> targets = new ArrayList<>(new LinkedHashSet<>(uuids));
+		final EconomyBulkOperation operation = new EconomyBulkOperation("payoutAll", saveType.getID(),
+				targets.size());
+
+		if (!this.isValid(amount)) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not pay out Economy on SaveType '"
+					+ saveType.getID() + "': Amount (" + amount + ") is negative.");
+			operation.failChunk(targets.size());
+			return this.finishBulk(operation, saveType, progress);
+		}
+
+		final int batchSize = this.getBulkBatchSize();
+		final long minor = amount.getMinor();
+
+		for (int from = 0; from < targets.size(); from += batchSize) {
+
+			final List<UUID> chunk = targets.subList(from, Math.min(targets.size(), from + batchSize));
+			final List<Account> changing = this.beginChanges(chunk);
+
+			try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+				connection.setAutoCommit(false);
+
+				PreparedStatement stmt = connection.prepareStatement(this.sqlAdd);
+
+				for (UUID uuid : chunk) {
+					stmt.setString(1, uuid.toString());
+					stmt.setInt(2, saveType.getID());
+					stmt.setLong(3, minor);
+					stmt.addBatch();
+				}
+
+				stmt.executeBatch();
+				connection.commit();
+
+			} catch (SQLException e) {
+				// Uncommitted changes are rolled back once the connection is returned
+				Core.getInstance().log(getClass(), LogType.ERROR, "Could not pay out Economy on SaveType '"
+						+ saveType.getID() + "' for " + chunk.size() + " Users/SQL: " + e.getMessage());
+				this.endChanges(changing);
+				operation.failChunk(chunk.size());
+				this.reportBulk(operation, progress);
+				continue;
+			}
+
+			for (UUID uuid : chunk) {
+
+				this.ledger.record(EconomyTransactionType.ADD, saveType, EconomyLedger.SYSTEM_ACCOUNT, uuid, minor);
+
+				final Account account = this.balanceCache.getAccount(uuid);
+
+				if (account != null) {
+					account.add(saveType.getID(), minor);
+				}
+
+				this.sendNotification(Core.getInstance().getUserSystem().getCachedUser(uuid),
+						"command.economy.add.success.target", amount);
+			}
+
+			this.endChanges(changing);
+			operation.completeChunk(chunk.size(), chunk.size());
+			this.reportBulk(operation, progress);
+		}
+
+		return this.finishBulk(operation, saveType, progress);
+	}
+
+	/**
+	 * Remove the balance of all Users on a SaveType, for example at the end of a
+	 * season
+	 *
+	 * @param saveType - SaveType
+	 * @param progress - Called after every chunk on the executing thread, may be
+	 *                 <code>null</code>
+	 * @return Finished operation
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Users are changed in chunks of {@link #getBulkBatchSize()}, each
+	 *          chunk is committed on its own. The operation is stopped if a chunk
+	 *          fails and may be repeated. Only online Users are notified.
+	 */
+	public final EconomyBulkOperation resetSaveType(@Nonnull SaveType saveType,
+			@Nullable Consumer<EconomyBulkOperation> progress) {
+
+		final EconomyBulkOperation operation = new EconomyBulkOperation("resetSaveType", saveType.getID(), -1);
+		final int batchSize = this.getBulkBatchSize();
+
+		while (true) {
+
+			final List<UUID> chunk = new ArrayList<>(batchSize);
+			final List<Long> balances = new ArrayList<>(batchSize);
+			final List<Account> changing = new ArrayList<>();
+
+			try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+				connection.setAutoCommit(false);
+
+				PreparedStatement stmt = connection.prepareStatement(this.sqlBulkGetPositive);
+				stmt.setInt(1, saveType.getID());
+				stmt.setInt(2, batchSize);
+
+				ResultSet rs = stmt.executeQuery();
+
+				while (rs.next()) {
+					chunk.add(UUID.fromString(rs.getString(1)));
+					balances.add(rs.getLong(2));
+				}
+
+				if (chunk.isEmpty()) {
+					break;
+				}
+
+				changing.addAll(this.beginChanges(chunk));
+				stmt = connection.prepareStatement(this.sqlBulkDelete);
+
+				for (UUID uuid : chunk) {
+					stmt.setString(1, uuid.toString());
+					stmt.setInt(2, saveType.getID());
+					stmt.addBatch();
+				}
+
+				stmt.executeBatch();
+				connection.commit();
+
+			} catch (SQLException e) {
+				Core.getInstance().log(getClass(), LogType.ERROR, "Could not reset Economy on SaveType '"
+						+ saveType.getID() + "' for " + chunk.size() + " Users/SQL: " + e.getMessage());
+				this.endChanges(changing);
+				operation.failChunk(chunk.size());
+				break;
+			}
+
+			for (int i = 0; i < chunk.size(); i++) {
+
+				final UUID uuid = chunk.get(i);
+				this.ledger.record(EconomyTransactionType.SET, saveType, uuid, EconomyLedger.SYSTEM_ACCOUNT,
+						balances.get(i));
+
+				final Account account = this.balanceCache.getAccount(uuid);
+
+				if (account != null) {
+					account.set(saveType.getID(), 0L);
+				}
+
+				this.sendNotification(Core.getInstance().getUserSystem().getCachedUser(uuid),
+						"command.economy.set.success.target", Money.ZERO);
+			}
+
+			this.endChanges(changing);
+			operation.completeChunk(chunk.size(), chunk.size());
+			this.reportBulk(operation, progress);
+
+			if (chunk.size() < batchSize) {
+				break;
+			}
+
+		}
+
+		return this.finishBulk(operation, saveType, progress);
+	}
+
+	/**
+	 * Change the balance of all Users on a SaveType by a percentage, for example
+	 * to pay interest or collect a tax. Results are rounded towards zero and
+	 * balances never become negative.
+	 *
+	 * @param saveType   - SaveType
+	 * @param percentage - Percentage to add, negative to remove. Must be at
+	 *                   least <code>-100</code>.
+	 * @param progress   - Called after every chunk on the executing thread, may
+	 *                   be <code>null</code>
+	 * @return Finished operation
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Users are changed in chunks of {@link #getBulkBatchSize()}, each
+	 *          chunk is committed on its own. The operation is stopped if a chunk
+	 *          fails. Only online Users are notified.
+	 */
+	public final EconomyBulkOperation applyPercentage(@Nonnull SaveType saveType, @Nonnull double percentage,
+			@Nullable Consumer<EconomyBulkOperation> progress) {
+
+		final EconomyBulkOperation operation = new EconomyBulkOperation("applyPercentage", saveType.getID(), -1);
+
+		if (Double.isNaN(percentage) || Double.isInfinite(percentage) || percentage < -100) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not apply percentage on SaveType '"
+					+ saveType.getID() + "': Invalid percentage (" + percentage + ").");
+			operation.failChunk(0);
+			return this.finishBulk(operation, saveType, progress);
+		}
+
+		final BigDecimal rate = BigDecimal.valueOf(percentage).movePointLeft(2);
+		final int batchSize = this.getBulkBatchSize();
+		String last = "";
+
+		while (true) {
+
+			final List<UUID> chunk = new ArrayList<>(batchSize);
+			final List<Long> differences = new ArrayList<>(batchSize);
+			final List<Account> changing = new ArrayList<>();
+			int rows = 0;
+
+			try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+				connection.setAutoCommit(false);
+
+				// Paged by the primary key as balances change while being processed
+				PreparedStatement stmt = connection.prepareStatement(this.sqlBulkGetAfter);
+				stmt.setInt(1, saveType.getID());
+				stmt.setString(2, last);
+				stmt.setInt(3, batchSize);
+
+				ResultSet rs = stmt.executeQuery();
+
+				while (rs.next()) {
+
+					rows++;
+					last = rs.getString(1);
+
+					final long balance = rs.getLong(2);
+
+					// Too big to be represented, see Money
+					if (balance == Long.MAX_VALUE) {
+						continue;
+					}
+
+					final long difference = Math.max(-balance,
+							rate.multiply(BigDecimal.valueOf(balance)).setScale(0, RoundingMode.DOWN).longValue());
+
+					if (difference == 0L || Long.MAX_VALUE - balance < difference) {
+						continue;
+					}
+
+					chunk.add(UUID.fromString(last));
+					differences.add(difference);
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				changing.addAll(this.beginChanges(chunk));
+				stmt = connection.prepareStatement(this.sqlBulkAdjust);
+
+				for (int i = 0; i < chunk.size(); i++) {
+					stmt.setLong(1, differences.get(i));
+					stmt.setString(2, chunk.get(i).toString());
+					stmt.setInt(3, saveType.getID());
+					stmt.addBatch();
+				}
+
+				stmt.executeBatch();
+				connection.commit();
+
+			} catch (SQLException e) {
+				Core.getInstance().log(getClass(), LogType.ERROR, "Could not apply percentage on SaveType '"
+						+ saveType.getID() + "' for " + rows + " Users/SQL: " + e.getMessage());
+				this.endChanges(changing);
+				operation.failChunk(rows);
+				break;
+			}
+
+			for (int i = 0; i < chunk.size(); i++) {
+
+				final UUID uuid = chunk.get(i);
+				final long difference = differences.get(i);
+				final User user = Core.getInstance().getUserSystem().getCachedUser(uuid);
+
+				if (difference > 0) {
+					this.ledger.record(EconomyTransactionType.ADD, saveType, EconomyLedger.SYSTEM_ACCOUNT, uuid,
+							difference);
+					this.sendNotification(user, "command.economy.add.success.target", Money.ofMinor(difference));
+				} else {
+					this.ledger.record(EconomyTransactionType.REMOVE, saveType, uuid, EconomyLedger.SYSTEM_ACCOUNT,
+							-difference);
+					this.sendNotification(user, "command.economy.remove.success.target", Money.ofMinor(-difference));
+				}
+
+				final Account account = this.balanceCache.getAccount(uuid);
+
+				if (account != null) {
+					account.add(saveType.getID(), difference);
+				}
+
+			}
+
+			this.endChanges(changing);
+			operation.completeChunk(rows, chunk.size());
+			this.reportBulk(operation, progress);
+
+			if (rows < batchSize) {
+				break;
+			}
+
+		}
+
+		return this.finishBulk(operation, saveType, progress);
+	}
+
+	/**
+	 * Mark the cached Accounts of Users as being changed, so they are not
+	 * reconciled before the change has been applied in memory
+	 */
+	private final List<Account> beginChanges(@Nonnull Collection<UUID> uuids) {
+
+		final List<Account> changing = new ArrayList<>();
+
+		for (UUID uuid : uuids) {
+
+			final Account account = this.balanceCache.getAccount(uuid);
+
+			if (account != null) {
+				account.beginChange();
+				changing.add(account);
+			}
+
+		}
+
+		return changing;
+	}
+
+	private final void endChanges(@Nonnull List<Account> changing) {
+		changing.forEach(Account::endChange);
+	}
+
+	private final void reportBulk(@Nonnull EconomyBulkOperation operation,
+			@Nullable Consumer<EconomyBulkOperation> progress) {
+
+		Core.getInstance().log(getClass(), LogType.DEBUG, "Progress of " + operation.toString());
+
+		if (progress != null) {
+			progress.accept(operation);
+		}
+
+	}
+
+	private final EconomyBulkOperation finishBulk(@Nonnull EconomyBulkOperation operation,
+			@Nonnull SaveType saveType, @Nullable Consumer<EconomyBulkOperation> progress) {
+
+		operation.finish();
+
+		// Changed balances are not offered one by one
+		if (this.getLeaderboard(saveType) != null) {
+			this.refreshLeaderboard(saveType);
+		}
+
+		Core.getInstance().log(getClass(), operation.isSuccess() ? LogType.INFO : LogType.WARNING,
+				"Finished " + operation.toString());
+
+		if (progress != null) {
+			progress.accept(operation);
+		}
+
+		return operation;
+	}
+
+	// | Leaderboard | \\
+
+	public final int getLeaderboardSize() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.economy.leaderboard.size"));
+	}
+
+	public final int getLeaderboardPageSize() {
+		return Math.max(1, Integer.valueOf(Core.getInstance().getSettingsManager()
+				.getSetting(Core.getInstance().getPluginName(), "system.economy.leaderboard.page-size")));
+	}
+
+	/**
+	 *
+	 * @param saveType - SaveType
+	 * @return Leaderboard of the SaveType or <code>null</code> if it has not been
+	 *         requested yet
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #refreshLeaderboard(SaveType)
+	 */
+	@Nullable
+	public final BalanceLeaderboard getLeaderboard(@Nonnull SaveType saveType) {
+		return this.leaderboards.get(saveType.getID());
+	}
+
+	/**
+	 * Rebuild the Leaderboard of a SaveType from the database. Only the ranked
+	 * places are read using the index on <code>(saveType, balance)</code>, so the
+	 * cost does not depend on the amount of Users. Cached balances of online
+	 * Users are included.
+	 *
+	 * @param saveType - SaveType
+	 * @return New Leaderboard or the previous one if the database could not be
+	 *         queried
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final BalanceLeaderboard refreshLeaderboard(@Nonnull SaveType saveType) {
+
+		final BalanceLeaderboard leaderboard = new BalanceLeaderboard(saveType.getID(), this.getLeaderboardSize());
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetLeaderboard);
+			stmt.setInt(1, saveType.getID());
+			stmt.setInt(2, leaderboard.getCapacity());
+
+			ResultSet rs = stmt.executeQuery();
+			int rows = 0;
+			long last = 0L;
+
+			while (rs.next()) {
+
+				last = rs.getLong(2);
+				rows++;
+
+				leaderboard.offer(UUID.fromString(rs.getString(1)), rs.getString(3), last);
+			}
+
+			// Unranked Users can't have more than the last place
+			leaderboard.setFloor(rows >= leaderboard.getCapacity() ? last : 0L);
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not refresh Leaderboard of SaveType '"
+					+ saveType.getID() + "'/SQL: " + e.getMessage());
+			return this.getLeaderboard(saveType);
+		}
+
+		// Cached balances of online Users are always up to date
+		for (Account account : this.balanceCache.getAccounts()) {
+			leaderboard.offer(account.getUUID(), this.getCachedName(account.getUUID()), account.get(saveType.getID()));
+		}
+
+		this.leaderboards.put(saveType.getID(), leaderboard);
+		return leaderboard;
+	}
+
+	/**
+	 * Refresh all Leaderboards that have been requested at least once
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void refreshLeaderboards() {
+
+		for (Integer id : this.leaderboards.keySet()) {
+
+			SaveType saveType = Core.getInstance().getSaveTypeByID(id);
+
+			if (saveType == null) {
+				this.leaderboards.remove(id);
+				continue;
+			}
+
+			this.refreshLeaderboard(saveType);
+		}
+
+	}
+
+	private final void offerLeaderboard(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nonnull long balance) {
+
+		final BalanceLeaderboard leaderboard = this.getLeaderboard(saveType);
+
+		if (leaderboard != null) {
+			leaderboard.offer(uuid, this.getCachedName(uuid), balance);
+		}
+
+	}
+
+	private final void adjustLeaderboard(@Nonnull UUID uuid, @Nonnull SaveType saveType, @Nullable Account account,
+			@Nonnull long difference) {
+
+		final BalanceLeaderboard leaderboard = this.getLeaderboard(saveType);
+
+		if (leaderboard == null) {
+			return;
+		}
+
+		if (account != null) {
+			leaderboard.offer(uuid, this.getCachedName(uuid), account.get(saveType.getID()));
+			return;
+		}
+
+		// The balance is not known without reading it, see BalanceLeaderboard#adjust
+		leaderboard.adjust(uuid, difference);
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Name of the User if it is cached, otherwise <code>null</code> to
+	 *         keep the known one
+	 */
+	@Nullable
+	private final String getCachedName(@Nonnull UUID uuid) {
+		final User user = Core.getInstance().getUserSystem().getCachedUser(uuid);
+		return user == null ? null : user.getLastKnownName();
+	}
+
+	// | Async | \\
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Future that will be completed with the result of
+	 *         {@link #getEconomy(UUID, SaveType)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Double> getEconomyAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#getEconomy",
+				() -> this.getEconomy(uuid, saveType));
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Future that will be completed with the result of
+	 *         {@link #getBalance(UUID, SaveType)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Money> getBalanceAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#getBalance",
+				() -> this.getBalance(uuid, saveType));
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount
+	 * @return Future that will be completed with the result of
+	 *         {@link #addEconomy(UUID, SaveType, double)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> addEconomyAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType,
+			@Nonnull double amount) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#addEconomy",
+				() -> this.addEconomy(uuid, saveType, amount));
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount
+	 * @return Future that will be completed with the result of
+	 *         {@link #removeEconomy(UUID, SaveType, double)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> removeEconomyAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType,
+			@Nonnull double amount) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#removeEconomy",
+				() -> this.removeEconomy(uuid, saveType, amount));
+	}
+
+	/**
+	 *
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @param amount   - Amount
+	 * @return Future that will be completed with the result of
+	 *         {@link #setEconomy(UUID, SaveType, double)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> setEconomyAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType,
+			@Nonnull double amount) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#setEconomy",
+				() -> this.setEconomy(uuid, saveType, amount));
+	}
+
+	/**
+	 *
+	 * @param from     - UUID of the sender
+	 * @param to       - UUID of the receiver
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to move
+	 * @return Future that will be completed with the result of
+	 *         {@link #transfer(UUID, UUID, SaveType, Money)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<TransferResult> transferAsync(@Nonnull UUID from, @Nonnull UUID to,
+			@Nonnull SaveType saveType, @Nonnull Money amount) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#transfer",
+				() -> this.transfer(from, to, saveType, amount));
+	}
+
+	/**
+	 *
+	 * @param saveType - SaveType
+	 * @param page     - Page starting at <code>1</code>
+	 * @return Future that will be completed with the places of the requested
+	 *         page of the Leaderboard. The Leaderboard is being built if it has
+	 *         not been requested before or places have been dropped, missing
+	 *         names will be resolved.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getLeaderboardPageSize()
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<List<BalanceLeaderboard.Entry>> getLeaderboardAsync(@Nonnull SaveType saveType,
+			@Nonnull int page) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#getLeaderboard", () -> {
+
+			BalanceLeaderboard leaderboard = this.getLeaderboard(saveType);
+
+			if (leaderboard == null || !leaderboard.isComplete()) {
+				leaderboard = this.refreshLeaderboard(saveType);
+			}
+
+			if (leaderboard == null) {
+				return new ArrayList<>();
+			}
+
+			final int pageSize = this.getLeaderboardPageSize();
+			List<BalanceLeaderboard.Entry> entries = leaderboard.getEntries((Math.max(1, page) - 1) * pageSize,
+					pageSize);
+
+			for (int i = 0; i < entries.size(); i++) {
+
+				BalanceLeaderboard.Entry entry = entries.get(i);
+
+				if (entry.getName() != null) {
+					continue;
+				}
+
+				User user = Core.getInstance().getUserSystem().getUser(entry.getUUID());
+
+				if (user != null) {
+					entries.set(i,
+							new BalanceLeaderboard.Entry(entry.getUUID(), user.getLastKnownName(), entry.getAmount()));
+					leaderboard.offer(entry.getUUID(), user.getLastKnownName(), entry.getAmount());
+				}
+
+			}
+
+			return entries;
+		});
+	}
+
+	/**
+	 *
+	 * @param uuids    - UUIDs of the Users
+	 * @param saveType - SaveType
+	 * @param amount   - Amount to add
+	 * @param progress - Called after every chunk, may be <code>null</code>
+	 * @return Future that will be completed with the result of
+	 *         {@link #payoutAll(Collection, SaveType, Money, Consumer)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<EconomyBulkOperation> payoutAllAsync(@Nonnull Collection<UUID> uuids,
+			@Nonnull SaveType saveType, @Nonnull Money amount, @Nullable Consumer<EconomyBulkOperation> progress) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#payoutAll",
+				() -> this.payoutAll(uuids, saveType, amount, progress));
+	}
+
+	/**
+	 *
+	 * @param saveType - SaveType
+	 * @param progress - Called after every chunk, may be <code>null</code>
+	 * @return Future that will be completed with the result of
+	 *         {@link #resetSaveType(SaveType, Consumer)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<EconomyBulkOperation> resetSaveTypeAsync(@Nonnull SaveType saveType,
+			@Nullable Consumer<EconomyBulkOperation> progress) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#resetSaveType",
+				() -> this.resetSaveType(saveType, progress));
+	}
+
+	/**
+	 *
+	 * @param saveType   - SaveType
+	 * @param percentage - Percentage to add, negative to remove
+	 * @param progress   - Called after every chunk, may be <code>null</code>
+	 * @return Future that will be completed with the result of
+	 *         {@link #applyPercentage(SaveType, double, Consumer)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<EconomyBulkOperation> applyPercentageAsync(@Nonnull SaveType saveType,
+			@Nonnull double percentage, @Nullable Consumer<EconomyBulkOperation> progress) {
+		return Core.getInstance().getDatabaseExecutor().supply("EconomySystem#applyPercentage",
+				() -> this.applyPercentage(saveType, percentage, progress));
+	}
+
+	@Override
+	public void createTable() {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection
+					.prepareStatement("CREATE TABLE IF NOT EXISTS " + Core.getInstance().getMySQL().getTablePrefix()
+							+ this.getTableType().getTableName(false) + " (" + "uuid CHAR (36) NOT NULL, "
+							+ "saveType INT NOT NULL, " + "balance DECIMAL(" + MAX_DIGITS + "," + MAX_COMMA + ") NOT NULL, "
+							+ "PRIMARY KEY (uuid, saveType), " + "INDEX idx_saveType_balance (saveType, balance), "
+							+ "FOREIGN KEY (saveType) REFERENCES "
+							+ Core.getInstance().getMySQL().getTablePrefix() + TableType.SAVE_TYPE.getTableName(false)
+							+ "(id));");
+			stmt.execute();
+
+			// Tables created before v1.0.19 don't have the Leaderboard index yet
+			stmt = connection.prepareStatement("SELECT 1 FROM information_schema.statistics"
+					+ " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'idx_saveType_balance'");
+			stmt.setString(1, TableType.ECONOMY.getTableName(true));
+
+			if (!stmt.executeQuery().next()) {
+				connection.prepareStatement("ALTER TABLE " + TableType.ECONOMY.getTableName(true)
+						+ " ADD INDEX idx_saveType_balance (saveType, balance)").execute();
+				Core.getInstance().log(getClass(), LogType.INFO,
+						"Added Leaderboard index towards " + TableType.ECONOMY.getTableName(true) + ".");
+			}
+
+			// v1.0.19
+			stmt = connection.prepareStatement("CREATE TABLE IF NOT EXISTS "
+					+ TableType.ECONOMY_LEDGER.getTableName(true) + " ("
+					+ "id BIGINT NOT NULL AUTO_INCREMENT, " + "transactionID CHAR (36) NOT NULL, "
+					+ "uuid CHAR (36) NOT NULL, " + "saveType INT NOT NULL, " + "amount DECIMAL(" + (MAX_DIGITS + 1)
+					+ "," + MAX_COMMA + ") NOT NULL, " + "type VARCHAR(20) NOT NULL, " + "created BIGINT NOT NULL, "
+					+ "PRIMARY KEY (id), " + "INDEX idx_account (uuid, saveType), "
+					+ "INDEX idx_transaction (transactionID));");
+			stmt.execute();
+			return;
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not create Table for EconomySystem/SQL: " + e.getMessage());
+			return;
+		}
+
+	}
+
+	@Override
+	public TableType getTableType() {
+		return TableType.ECONOMY;
+	}
+
+
 
 }
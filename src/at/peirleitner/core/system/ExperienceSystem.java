@@ -1,11 +1,15 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -13,6 +17,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.RunMode;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.User;
@@ -28,12 +33,21 @@ import at.peirleitner.core.util.user.UserExperience;
  */
 public final class ExperienceSystem implements CoreSystem {
 
-	private HashSet<UserExperience> cachedExperience;
+	private Set<UserExperience> cachedExperience;
+
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	private final String table = TableType.EXPERIENCE.getTableName(true);
+	private final String sqlGetByUser = "SELECT * FROM " + table + " WHERE uuid = ?";
+	private final String sqlGetBySaveType = "SELECT * FROM " + table + " WHERE uuid = ? AND saveType = ?";
+	private final String sqlUpsert = "INSERT INTO " + table
+			+ " (uuid, saveType, level, experience, prestige) VALUES (?, ?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE level = ?, experience = ?, prestige = ?";
 
 	public ExperienceSystem() {
 		this.createTable();
 
-		this.cachedExperience = new HashSet<>();
+		// Loaded on the login thread as well, v1.0.19
+		this.cachedExperience = ConcurrentHashMap.newKeySet();
 
 		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
 				"system.experience.enable-caching", "true");
@@ -78,10 +92,9 @@ public final class ExperienceSystem implements CoreSystem {
 		}
 
 		// Return from Database
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.getTableType().getTableName(true) + " WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByUser);
 			stmt.setString(1, uuid.toString());
 
 			ResultSet rs = stmt.executeQuery();
@@ -122,10 +135,9 @@ public final class ExperienceSystem implements CoreSystem {
 		}
 
 		// Return from Database
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
-					"SELECT * FROM " + this.getTableType().getTableName(true) + " WHERE uuid = ? AND saveType = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetBySaveType);
 			stmt.setString(1, uuid.toString());
 			stmt.setInt(2, saveType.getID());
 
@@ -158,6 +170,19 @@ public final class ExperienceSystem implements CoreSystem {
 		return this.getFromCache(uuid) == null ? false : true;
 	}
 
+	/**
+	 * Remove all cached Experience of a User without writing it
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Only use this if the Experience has not been changed, otherwise
+	 *          use {@link #updateCacheToDatabase(UUID)}
+	 */
+	public final void uncache(@Nonnull UUID uuid) {
+		this.cachedExperience.removeIf(ue -> ue.getUUID().equals(uuid));
+	}
+
 	// A single Core instance can only run on one SaveType, that's why this works.
 	public final UserExperience getFromCache(@Nonnull UUID uuid) {
 		return this.cachedExperience.stream().filter(ue -> ue.getUUID().equals(uuid)).findAny().orElse(null);
@@ -248,11 +273,9 @@ public final class ExperienceSystem implements CoreSystem {
 			return true;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-					+ this.getTableType().getTableName(true)
-					+ " (uuid, saveType, level, experience, prestige) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE level = ?, experience = ?, prestige = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpsert);
 			stmt.setString(1, uuid.toString());
 			stmt.setInt(2, saveType.getID());
 			stmt.setInt(3, newLevel);
@@ -338,11 +361,9 @@ public final class ExperienceSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-					+ this.getTableType().getTableName(true)
-					+ " (uuid, saveType, level, experience, prestige) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE level = ?, experience = ?, prestige = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpsert);
 			stmt.setString(1, uuid.toString());
 			stmt.setInt(2, ue.getSaveType().getID());
 			stmt.setInt(3, ue.getLevel());
@@ -392,12 +413,43 @@ public final class ExperienceSystem implements CoreSystem {
 		return new UserExperience(uuid, saveType, level, experience, prestige);
 	}
 
+	// | Async | \\
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getExperience(UUID)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<UserExperience[]> getExperienceAsync(@Nonnull UUID uuid) {
+		return Core.getInstance().getDatabaseExecutor().supply("ExperienceSystem#getExperience",
+				() -> this.getExperience(uuid));
+	}
+
+	/**
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Future that will be completed with the result of
+	 *         {@link #getExperience(UUID, SaveType)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<UserExperience> getExperienceAsync(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
+		return Core.getInstance().getDatabaseExecutor().supply("ExperienceSystem#getExperience",
+				() -> this.getExperience(uuid, saveType));
+	}
+
 	@Override
 	public void createTable() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + this.getTableType().getTableName(true) + " ("
 							+ "uuid CHAR(36) NOT NULL, " + "saveType INT NOT NULL, " + "level SMALLINT NOT NULL, "
 							+ "experience MEDIUMINT NOT NULL, " + "prestige TINYINT NOT NULL, "
@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -71,10 +72,9 @@ public class GameMapSystem implements CoreSystem {
 			return map;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.table + " WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.table + " WHERE id = ?");
 			stmt.setInt(1, id);
 
 			ResultSet rs = stmt.executeQuery();
@@ -113,9 +113,9 @@ public class GameMapSystem implements CoreSystem {
 			return map;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + this.table + " WHERE name = ? AND saveType = ?");
 			stmt.setString(1, name);
 			stmt.setInt(2, saveType.getID());
@@ -153,10 +153,9 @@ public class GameMapSystem implements CoreSystem {
 			return this.cachedMaps;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.table);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.table);
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
@@ -205,9 +204,9 @@ public class GameMapSystem implements CoreSystem {
 
 		} else {
 
-			try {
+			try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-				PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+				PreparedStatement stmt = connection.prepareStatement(
 						"SELECT * FROM " + this.table + " WHERE creator = ? OR contributors LIKE '%?%'");
 				stmt.setString(1, uuid.toString());
 				stmt.setString(2, uuid.toString());
@@ -246,9 +245,9 @@ public class GameMapSystem implements CoreSystem {
 
 		} else {
 
-			try {
+			try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-				PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+				PreparedStatement stmt = connection
 						.prepareStatement("SELECT * FROM " + this.table + " WHERE state = ?");
 				stmt.setString(1, state.toString());
 
@@ -277,10 +276,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.getName().equalsIgnoreCase(name))
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + this.table + " SET name = ? WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement("UPDATE " + this.table + " SET name = ? WHERE id = ?");
 			stmt.setString(1, name);
 			stmt.setInt(2, map.getID());
 
@@ -309,9 +307,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.getSaveType() == saveType)
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET saveType = ? WHERE id = ?");
 			stmt.setInt(1, saveType.getID());
 			stmt.setInt(2, map.getID());
@@ -341,10 +339,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.getIconName().equalsIgnoreCase(iconName))
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + this.table + " SET icon = ? WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement("UPDATE " + this.table + " SET icon = ? WHERE id = ?");
 			stmt.setString(1, iconName);
 			stmt.setInt(2, map.getID());
 
@@ -373,9 +370,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.getCreator().equals(creator))
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET creator = ? WHERE id = ?");
 			stmt.setString(1, creator.toString());
 			stmt.setInt(2, map.getID());
@@ -405,9 +402,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.hasContributors() && map.getContributors() == contributors)
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET contributors = ? WHERE id = ?");
 			stmt.setString(1, GlobalUtils.getUuidString(contributors, ";"));
 			stmt.setInt(2, map.getID());
@@ -446,9 +443,9 @@ public class GameMapSystem implements CoreSystem {
 		if (map.getState() == state)
 			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET state = ? WHERE id = ?");
 			stmt.setString(1, state.toString());
 			stmt.setInt(2, map.getID());
@@ -478,9 +475,9 @@ public class GameMapSystem implements CoreSystem {
 //		if (map.hasSpawns() && map.getSpawns() == spawns)
 //			return false;
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET spawns = ? WHERE id = ?");
 			stmt.setString(1, spawns == null ? null : GlobalUtils.getCustomLocationStringFromList(spawns));
 			stmt.setInt(2, map.getID());
@@ -509,9 +506,9 @@ public class GameMapSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.table + " SET teams = ? WHERE id = ?");
 			stmt.setBoolean(1, teams);
 			stmt.setInt(2, map.getID());
@@ -553,8 +550,8 @@ public class GameMapSystem implements CoreSystem {
 			return false;
 		}
 		
-		try {
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("DELETE FROM " + this.table + " WHERE id = ?");
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+			PreparedStatement stmt = connection.prepareStatement("DELETE FROM " + this.table + " WHERE id = ?");
 			stmt.setInt(1, map.getID());
 			
 			stmt.executeUpdate();
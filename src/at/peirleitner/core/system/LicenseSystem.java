@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -7,6 +8,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -15,6 +17,7 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.command.local.CommandLicense;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.local.GUI;
@@ -97,10 +100,9 @@ public class LicenseSystem implements CoreSystem {
 
 	private final MasterLicense getMasterLicenseFromDatabase(@Nonnull int id) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.tableMaster + " WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.tableMaster + " WHERE id = ?");
 			stmt.setInt(1, id);
 
 			ResultSet rs = stmt.executeQuery();
@@ -152,10 +154,9 @@ public class LicenseSystem implements CoreSystem {
 			return licenses;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.tableUser + " WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.tableUser + " WHERE uuid = ?");
 			stmt.setString(1, uuid.toString());
 
 			ResultSet rs = stmt.executeQuery();
@@ -208,7 +209,7 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			PreparedStatement stmt = null;
 			long expire = -1;
@@ -219,7 +220,7 @@ public class LicenseSystem implements CoreSystem {
 
 			if (this.hasLicense(uuid, masterLicense)) {
 				// Update existing
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+				stmt = connection.prepareStatement(
 						"UPDATE " + this.tableUser + " SET issued = ?, expire = ? WHERE uuid = ? AND license = ?");
 				stmt.setLong(1, System.currentTimeMillis());
 				stmt.setLong(2, expire);
@@ -227,7 +228,7 @@ public class LicenseSystem implements CoreSystem {
 				stmt.setInt(4, masterLicense.getID());
 			} else {
 				// Create new
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+				stmt = connection.prepareStatement(
 						"INSERT INTO " + this.tableUser + " (uuid, license, issued, expire) VALUES (?, ?, ?, ?);");
 				stmt.setString(1, uuid.toString());
 				stmt.setInt(2, masterLicense.getID());
@@ -273,9 +274,9 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + this.tableUser + " WHERE saveType = ? AND name = ?");
 			stmt.setInt(1, saveType.getID());
 			stmt.setString(2, name);
@@ -323,9 +324,9 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"INSERT INTO " + this.tableMaster + " (saveType, name, expire, iconName) VALUES (?, ?, ?, ?);",
 					Statement.RETURN_GENERATED_KEYS);
 			stmt.setInt(1, saveType.getID());
@@ -370,9 +371,9 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.tableMaster + " SET expire = ? WHERE id = ?");
 			stmt.setLong(1, System.currentTimeMillis());
 			stmt.setInt(2, masterLicenseID);
@@ -410,9 +411,9 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.tableUser + " SET expire = ? WHERE license = ?");
 			stmt.setLong(1, System.currentTimeMillis());
 			stmt.setInt(2, masterLicense.getID());
@@ -449,9 +450,9 @@ public class LicenseSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + this.tableMaster + " SET expire = ? WHERE id = ?");
 			stmt.setLong(1, -1);
 			stmt.setInt(2, masterLicenseID);
@@ -476,10 +477,9 @@ public class LicenseSystem implements CoreSystem {
 
 		Collection<MasterLicense> licenses = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.tableMaster);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.tableMaster);
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
@@ -508,10 +508,9 @@ public class LicenseSystem implements CoreSystem {
 
 		Collection<UserLicense> licenses = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.tableUser);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.tableUser);
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
@@ -558,6 +557,55 @@ public class LicenseSystem implements CoreSystem {
 		return new UserLicense(owner, licenseID, issued, expire);
 	}
 
+	// | Async | \\
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getLicenses(UUID)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Collection<UserLicense>> getLicensesAsync(@Nonnull UUID uuid) {
+		return Core.getInstance().getDatabaseExecutor().supply("LicenseSystem#getLicenses",
+				() -> this.getLicenses(uuid));
+	}
+
+	/**
+	 * 
+	 * @param uuid          - UUID of the User
+	 * @param masterLicense - MasterLicense
+	 * @return Future that will be completed with the result of
+	 *         {@link #hasActiveLicense(UUID, MasterLicense)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> hasActiveLicenseAsync(@Nonnull UUID uuid,
+			@Nonnull MasterLicense masterLicense) {
+		return Core.getInstance().getDatabaseExecutor().supply("LicenseSystem#hasActiveLicense",
+				() -> this.hasActiveLicense(uuid, masterLicense));
+	}
+
+	/**
+	 * 
+	 * @param uuid          - UUID of the User
+	 * @param masterLicense - MasterLicense
+	 * @param hours         - Hours until the License expires, <code>-1</code> for permanent
+	 * @return Future that will be completed with the result of
+	 *         {@link #grantLicense(UUID, MasterLicense, int)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> grantLicenseAsync(@Nonnull UUID uuid, @Nonnull MasterLicense masterLicense,
+			@Nonnull int hours) {
+		return Core.getInstance().getDatabaseExecutor().supply("LicenseSystem#grantLicense",
+				() -> this.grantLicense(uuid, masterLicense, hours));
+	}
+
 	@Override
 	public void createTable() {
 		return;
@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -90,10 +91,9 @@ public class MaintenanceSystem implements CoreSystem {
 
 	public final boolean isListedInDatabase(@Nonnull UUID uuid) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.table + " WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.table + " WHERE uuid = ?");
 			stmt.setString(1, uuid.toString());
 			ResultSet rs = stmt.executeQuery();
 
@@ -121,10 +121,9 @@ public class MaintenanceSystem implements CoreSystem {
 
 		List<UUID> list = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.table);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.table);
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
@@ -149,10 +148,9 @@ public class MaintenanceSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("INSERT INTO " + this.table + " (uuid) VALUES (?);");
+			PreparedStatement stmt = connection.prepareStatement("INSERT INTO " + this.table + " (uuid) VALUES (?);");
 			stmt.setString(1, uuid.toString());
 
 			stmt.executeUpdate();
@@ -177,10 +175,9 @@ public class MaintenanceSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("DELETE FROM " + this.table + " WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement("DELETE FROM " + this.table + " WHERE uuid = ?");
 			stmt.setString(1, uuid.toString());
 
 			stmt.executeUpdate();
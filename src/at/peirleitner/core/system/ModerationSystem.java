@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -11,8 +12,13 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -21,11 +27,17 @@ import at.peirleitner.core.Core;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.database.TableType;
+import at.peirleitner.core.util.moderation.ChatHistory;
 import at.peirleitner.core.util.moderation.ChatLog;
 import at.peirleitner.core.util.moderation.ChatLogReviewResult;
+import at.peirleitner.core.util.moderation.ChatMessageAnalysis;
+import at.peirleitner.core.util.moderation.ChatMessageLogger;
+import at.peirleitner.core.util.moderation.ChatRateLimiter;
+import at.peirleitner.core.util.moderation.PhraseMatcher;
 import at.peirleitner.core.util.moderation.UserChatMessage;
 import at.peirleitner.core.util.moderation.UserChatMessageFlag;
 import at.peirleitner.core.util.moderation.UserChatMessageType;
+import at.peirleitner.core.util.user.CorePermission;
 import at.peirleitner.core.util.user.User;
 
 /**
@@ -41,8 +53,36 @@ public class ModerationSystem implements CoreSystem {
 
 	private Collection<String> cachedBlockedPhrases;
 	private Collection<String> cachedAllowedDomains;
-	private Collection<String> blockedDomains;
-	private HashMap<UUID, Integer> lastMessage;
+	private volatile Collection<String> blockedDomains;
+	private volatile PhraseMatcher matcher;
+	private volatile PhraseMatcher skeletonMatcher;
+	private final ConcurrentHashMap<UUID, ChatHistory> chatHistory;
+
+	// Flags of the PhraseMatcher, v1.0.19
+	private static final int MATCH_BLOCKED_PHRASE = 1;
+	private static final int MATCH_BLOCKED_DOMAIN = 1 << 1;
+	private static final int MATCH_ALLOWED_DOMAIN = 1 << 2;
+	private final ConcurrentHashMap<UUID, ChatLog> unreviewedChatLogs;
+
+	// IDs of ChatLogs reviewed since the last load of unreviewed ChatLogs
+	private final Set<Integer> reviewedChatLogs;
+	private final ChatMessageLogger chatMessageLogger;
+	private final ChatRateLimiter chatRateLimiter;
+
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	private final String sqlGetChatLogsByUser = "SELECT c.* FROM "
+			+ TableType.MODERATION_CHATLOGS.getTableName(true) + " c JOIN "
+			+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true) + " m ON m.id = c.message WHERE m.uuid = ?";
+	private final String sqlGetUnreviewedChatLogsWithUser = "SELECT c.*, m.uuid FROM "
+			+ TableType.MODERATION_CHATLOGS.getTableName(true) + " c JOIN "
+			+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true)
+			+ " m ON m.id = c.message WHERE c.result IS NULL ORDER BY c.id";
+	private final String sqlGetUnreviewedChatLogByUser = "SELECT c.* FROM "
+			+ TableType.MODERATION_CHATLOGS.getTableName(true) + " c JOIN "
+			+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true)
+			+ " m ON m.id = c.message WHERE m.uuid = ? AND c.result IS NULL ORDER BY c.id LIMIT 1";
+	private final String sqlGetMaxChatLogID = "SELECT COALESCE(MAX(id), 0) FROM "
+			+ TableType.MODERATION_CHATLOGS.getTableName(true);
 
 	public ModerationSystem() {
 
@@ -51,53 +91,144 @@ public class ModerationSystem implements CoreSystem {
 		this.cachedBlockedPhrases = new ArrayList<>();
 		this.cachedAllowedDomains = new ArrayList<>();
 		this.blockedDomains = new ArrayList<>();
-		this.lastMessage = new HashMap<>();
+		this.chatHistory = new ConcurrentHashMap<>();
+		this.unreviewedChatLogs = new ConcurrentHashMap<>();
+		this.reviewedChatLogs = ConcurrentHashMap.newKeySet();
+		this.matcher = PhraseMatcher.empty();
+		this.skeletonMatcher = PhraseMatcher.empty();
+		this.chatMessageLogger = new ChatMessageLogger(Core.getInstance().getPluginName(),
+				this.getChatLogSetting("queue-size"), this.getChatLogSetting("batch-size"),
+				this.getChatLogSetting("id-block-size"), this.getChatLogSetting("flush-interval"));
+		this.chatRateLimiter = new ChatRateLimiter(this.getChatBurstFromSettings(),
+				this.getChatCooldownFromSettings());
 
 		// Load
 		this.reload();
 
+		// Pick up ChatLogs created or reviewed on other servers, v1.0.19
+		Core.getInstance().getDatabaseExecutor().repeat("ModerationSystem#loadUnreviewedChatLogs",
+				this::loadUnreviewedChatLogs, Math.max(1, this.getChatLogSyncInterval()), TimeUnit.SECONDS);
+
 	}
 
 	public final Collection<String> getBlockedDomains() {
 		return this.blockedDomains;
 	}
 
-	private final boolean isDomainWhitelisted(@Nonnull String message) {
+	/**
+	 * 
+	 * @return Matcher over all blocked phrases, blocked domain extensions and
+	 *         allowed domains
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #reload()
+	 */
+	public final PhraseMatcher getMatcher() {
+		return this.matcher;
+	}
+
+	private final PhraseMatcher buildMatcher() {
 
-		for (String allowedDomain : this.getAllowedDomains()) {
-			if(message.toLowerCase().contains(allowedDomain.toLowerCase())) {
-				return true;
-			}
+		PhraseMatcher.Builder builder = new PhraseMatcher.Builder();
+
+		for (String phrase : this.getCachedBlockedPhrases()) {
+			builder.add(phrase, MATCH_BLOCKED_PHRASE);
+		}
+
+		for (String blockedDomain : this.getBlockedDomains()) {
+			builder.add("." + blockedDomain, MATCH_BLOCKED_DOMAIN);
 		}
 
-		return false;
+		for (String allowedDomain : this.getCachedAllowedDomains()) {
+			builder.add(allowedDomain, MATCH_ALLOWED_DOMAIN);
+		}
+
+		return builder.build();
 	}
-	
-	public final boolean isDomainBlocked(@Nonnull String message) {
 
-		for (String blockedDomain : this.getBlockedDomains()) {
-			if(message.toLowerCase().contains("." + blockedDomain.toLowerCase()) && !this.isDomainWhitelisted(message)) {
-				return true;
-			}
+	/**
+	 * 
+	 * @return Matcher over the skeleton of all blocked phrases, used to detect
+	 *         them if written using leetspeak or confusable characters
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see ChatMessageAnalysis#getSkeleton()
+	 */
+	public final PhraseMatcher getSkeletonMatcher() {
+		return this.skeletonMatcher;
+	}
+
+	private final PhraseMatcher buildSkeletonMatcher() {
+
+		PhraseMatcher.Builder builder = new PhraseMatcher.Builder();
+
+		for (String phrase : this.getCachedBlockedPhrases()) {
+			builder.add(ChatMessageAnalysis.toSkeleton(phrase), MATCH_BLOCKED_PHRASE);
 		}
 
-		return false;
+		return builder.build();
+	}
+
+	private static final boolean isDomainBlocked(int matches) {
+		return (matches & MATCH_BLOCKED_DOMAIN) != 0 && (matches & MATCH_ALLOWED_DOMAIN) == 0;
+	}
+
+	public final boolean isDomainBlocked(@Nonnull String message) {
+		return isDomainBlocked(this.getMatcher().match(message));
 	}
 
 	/**
 	 * 
-	 * @return Last message sent by this {@link User}. This will be cleared on
-	 *         server leaving. The Integer refers to the unique ID of the
-	 *         {@link UserChatMessage}.
-	 * @since 1.0.14
+	 * @param uuid - UUID of the User
+	 * @return Latest messages sent by this {@link User} or <code>null</code> if
+	 *         none have been sent since joining
+	 * @since 1.0.19
 	 * @author Markus Peirleitner (Rengobli)
 	 */
-	public final HashMap<UUID, Integer> getLastMessage() {
-		return lastMessage;
+	public final ChatHistory getChatHistory(@Nonnull UUID uuid) {
+		return this.chatHistory.get(uuid);
+	}
+
+	/**
+	 * Add a sent message towards the {@link ChatHistory} of its User
+	 * 
+	 * @param message - Message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void recordChatMessage(@Nonnull UserChatMessage message) {
+		this.recordChatMessage(message, new ChatMessageAnalysis(message.getMessage()));
+	}
+
+	/**
+	 * Add a sent message towards the {@link ChatHistory} of its User
+	 * 
+	 * @param message  - Message
+	 * @param analysis - Analysis of the message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void recordChatMessage(@Nonnull UserChatMessage message, @Nonnull ChatMessageAnalysis analysis) {
+		this.chatHistory.computeIfAbsent(message.getUUID(), uuid -> new ChatHistory(this.getChatHistorySize()))
+				.add(message.getID(), message.getMessage(), analysis.getNormalized(), message.getSent());
+	}
+
+	/**
+	 * Remove the {@link ChatHistory} of a User, should be called on disconnect
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void clearChatHistory(@Nonnull UUID uuid) {
+		this.chatHistory.remove(uuid);
 	}
 
 	public final void reload() {
 
+		// Settings are only parsed here, v1.0.19
+		this.chatRateLimiter.configure(this.getChatBurstFromSettings(), this.getChatCooldownFromSettings());
+
 		if (Core.getInstance().getMySQL() == null || !Core.getInstance().getMySQL().isConnected()) {
 			Core.getInstance().log(getClass(), LogType.DEBUG,
 					"Not loading ModerationSystem cache data since MySQL Connection has not yet been established.");
@@ -114,16 +245,20 @@ public class ModerationSystem implements CoreSystem {
 		Core.getInstance().log(getClass(), LogType.DEBUG,
 				"Loaded " + this.getCachedAllowedDomains().size() + " allowed Domains from Database.");
 
+		this.loadUnreviewedChatLogs();
+
 //		this.getCachedChatLogs().clear();
 //		this.getCachedChatLogs().addAll(this.getChatLogsFromDatabase());
 //		Core.getInstance().log(getClass(), LogType.INFO,
 //				"Loaded " + this.getCachedChatLogs().size() + " ChatLogs from Database.");
 
+		final Collection<String> blockedDomains = new ArrayList<>();
+
 		try (InputStream inputStream = this.getClass().getResourceAsStream("/domains.txt");
 				InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
 				BufferedReader bufferedReader = new BufferedReader(inputStreamReader);
 				Stream<String> lines = bufferedReader.lines();) {
-			lines.forEach(line -> this.getBlockedDomains().add(line));
+			lines.map(String::trim).filter(line -> !line.isEmpty()).forEach(blockedDomains::add);
 		} catch (IOException e) {
 			Core.getInstance().log(this.getClass(), LogType.ERROR,
 					"Could not load blocked Domains from file 'domains.txt' in folder 'main/resources': "
@@ -131,9 +266,18 @@ public class ModerationSystem implements CoreSystem {
 			return;
 		}
 
+		// Replace instead of appending, a reload would duplicate them otherwise
+		this.blockedDomains = blockedDomains;
+
 		Core.getInstance().log(this.getClass(), LogType.DEBUG,
 				"Loaded " + this.getBlockedDomains().size() + " blocked Domain Extensions");
 
+		// Swap the whole automaton, running checks keep using the previous one
+		this.matcher = this.buildMatcher();
+		this.skeletonMatcher = this.buildSkeletonMatcher();
+
+		Core.getInstance().log(this.getClass(), LogType.DEBUG, "Compiled " + this.matcher.toString() + ".");
+
 	}
 
 	/**
@@ -146,9 +290,9 @@ public class ModerationSystem implements CoreSystem {
 	 */
 	public final UserChatMessage getChatMessage(@Nonnull int id) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"SELECT * FROM " + TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true) + " WHERE id = ?");
 			stmt.setInt(1, id);
 
@@ -178,114 +322,184 @@ public class ModerationSystem implements CoreSystem {
 	 * @param message - Message sent by the {@link User}
 	 * @return Unique ID of this message as of incremented in the Database or -1 if
 	 *         an error occurs.
+	 * @apiNote As of v1.0.19 the ID is taken from the {@link ChatMessageLogger},
+	 *          use {@link #logChatMessage(UserChatMessage)} to not block on the
+	 *          insert.
 	 */
 	public final int logChatMessageToDatabase(@Nonnull UserChatMessage message) {
+		return this.chatMessageLogger.write(message);
+	}
 
-		try {
-
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-					+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true)
-					+ " (uuid, message, sent, saveType, type, recipient, metaData) VALUES (?, ?, ?, ?, ?, ?, ?);",
-					Statement.RETURN_GENERATED_KEYS);
-			stmt.setString(1, message.getUUID().toString());
-			stmt.setString(2, message.getMessage());
-			stmt.setLong(3, message.getSent());
-			stmt.setInt(4, message.getSaveTypeID());
-			stmt.setString(5, message.getType().toString());
-			stmt.setString(6, message.getRecipient());
-			stmt.setString(7, message.getMetaData());
-
-			stmt.executeUpdate();
-
-			ResultSet rs = stmt.getGeneratedKeys();
-			rs.next();
+	/**
+	 * Assign an ID to a {@link UserChatMessage} and queue it for being logged
+	 * towards the Database as part of a batch.
+	 * 
+	 * @param message - Message sent by the {@link User}
+	 * @return Unique ID of this message or -1 if no ID could be reserved
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see ChatMessageLogger#log(UserChatMessage)
+	 */
+	public final int logChatMessage(@Nonnull UserChatMessage message) {
+		return this.chatMessageLogger.log(message);
+	}
 
-			return rs.getInt(1);
+	/**
+	 * 
+	 * @return Logger that writes {@link UserChatMessage}s in batches
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final ChatMessageLogger getChatMessageLogger() {
+		return this.chatMessageLogger;
+	}
 
-		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not log ChatMessage '" + message.toString() + "' to Database/SQL: " + e.getMessage());
-			return -1;
-		}
+	public final Collection<UserChatMessageFlag> checkMessage(@Nonnull UUID uuid, @Nonnull String message) {
+		return this.checkMessage(uuid, new ChatMessageAnalysis(message));
+	}
 
+	/**
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param analysis - Analysis of the message
+	 * @return All flags that apply to the message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Collection<UserChatMessageFlag> checkMessage(@Nonnull UUID uuid,
+			@Nonnull ChatMessageAnalysis analysis) {
+		return this.checkMessage(uuid, analysis, false);
 	}
 
-	public final Collection<UserChatMessageFlag> checkMessage(@Nonnull UUID uuid, @Nonnull String message) {
+	/**
+	 * 
+	 * @param uuid            - UUID of the User
+	 * @param analysis        - Analysis of the message
+	 * @param bypassRateLimit - If the User may bypass the {@link ChatRateLimiter},
+	 *                        see {@link CorePermission#BYPASS_CHAT_COOLDOWN}
+	 * @return All flags that apply to the message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Collection<UserChatMessageFlag> checkMessage(@Nonnull UUID uuid,
+			@Nonnull ChatMessageAnalysis analysis, @Nonnull boolean bypassRateLimit) {
 
 		List<UserChatMessageFlag> flags = new ArrayList<>(UserChatMessageFlag.values().length);
-		UserChatMessage lastMessage = null;
-		
-		
 
-		if (this.getLastMessage().containsKey(uuid)) {
-			lastMessage = this.getChatMessage(this.getLastMessage().get(uuid));
-		}
-		
-//		Core.getInstance().log(getClass(), LogType.DEBUG, "Last Message: " + (lastMessage == null ? "NULL" : lastMessage.toString()) + ". All: " + this.lastMessage.toString());
+		// Compared against the history in memory, v1.0.19
+		final ChatHistory history = this.getChatHistory(uuid);
+		final ChatHistory.Entry lastMessage = history == null ? null : history.getLast();
+		final String normalized = analysis.getNormalized();
+		final int repeatWindow = this.getChatRepeatWindow();
 
 		// Spam
-		if (lastMessage != null && lastMessage.getMessage().equalsIgnoreCase(message)) {
+		if (lastMessage != null && (lastMessage.getNormalized().equals(normalized) || (repeatWindow > 0
+				&& history.count(normalized, System.currentTimeMillis() - 1000L * repeatWindow) > 0))) {
 			flags.add(UserChatMessageFlag.SPAM);
 		}
 
 		// Caps
-		int length = message.length();
-		
-		if(length > 4) {
-			
-			int caps = 0;
+		if (analysis.getLength() > 4) {
+
 			double maxAllowed = 50.0;
 
-			for (char c : message.toCharArray()) {
-				if (Character.isUpperCase(c)) {
-					caps++;
-				}
+			if (analysis.getUppercaseRatio() * 100D > maxAllowed) {
+				flags.add(UserChatMessageFlag.CAPS);
 			}
 
-			if (caps > 0) {
-
-				double capsPercentage = (caps * 1D) / (message.length() * 1D) * 100D;
+		}
 
-				if (capsPercentage > maxAllowed) {
-					flags.add(UserChatMessageFlag.CAPS);
-				}
+		// Blocked Phrase and Advertising, single pass over the message (v1.0.19)
+		final int matches = analysis.match(this.getMatcher());
 
-			}
-			
+		if ((matches & MATCH_BLOCKED_PHRASE) != 0 || analysis.getSkeleton().length() > 0
+				&& this.getSkeletonMatcher().match(analysis.getSkeleton()) != 0) {
+			flags.add(UserChatMessageFlag.BLOCKED_PHRASE);
 		}
 
-		// Blocked Phrase
-		for (String s : this.getBlockedPhrases()) {
-			if (message.toLowerCase().contains(s.toLowerCase())) {
-				flags.add(UserChatMessageFlag.BLOCKED_PHRASE);
-				break;
-			}
+		if (isDomainBlocked(matches)) {
+			flags.add(UserChatMessageFlag.ADVERTISING);
 		}
 
-		// Advertising
-		if(this.isDomainBlocked(message)) {
-			flags.add(UserChatMessageFlag.ADVERTISING);
+		// Cooldown, taken from the bucket in memory (v1.0.19)
+		if (!bypassRateLimit && !this.chatRateLimiter.tryAcquire(uuid)) {
+			flags.add(UserChatMessageFlag.COOLDOWN);
 		}
 
-		// Cooldown
-		if (lastMessage != null) {
+		return flags;
+	}
 
-			long nextUsage = lastMessage.getSent() + (1000L * this.getChatCooldown());
+	/**
+	 * 
+	 * @return Amount of seconds after which unreviewed ChatLogs will be reloaded
+	 *         from the Database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getChatLogSyncInterval() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.moderation.chatlog-sync-interval"));
+	}
 
-			if (nextUsage > System.currentTimeMillis()) {
-				flags.add(UserChatMessageFlag.COOLDOWN);
-			}
+	/**
+	 * 
+	 * @return Amount of messages kept inside the {@link ChatHistory} of every User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getChatHistorySize() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.moderation.chat-history-size"));
+	}
 
-		}
+	/**
+	 * 
+	 * @return Amount of seconds in which repeating any recent message is
+	 *         considered spam, <code>0</code> to only compare against the last one
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getChatRepeatWindow() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.moderation.chat-repeat-window"));
+	}
 
-		return flags;
+	private final int getChatLogSetting(@Nonnull String key) {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.moderation.chat-log." + key));
 	}
 
+	/**
+	 * 
+	 * @return Seconds until another message is granted by the
+	 *         {@link ChatRateLimiter}
+	 * @apiNote As of v1.0.19 this returns the value applied on {@link #reload()}
+	 *          and does not parse the setting.
+	 */
 	public final int getChatCooldown() {
+		return this.chatRateLimiter.getRefillSeconds();
+	}
+
+	private final int getChatCooldownFromSettings() {
 		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
 				"system.moderation.chat-cooldown"));
 	}
 
+	private final int getChatBurstFromSettings() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.moderation.chat-burst"));
+	}
+
+	/**
+	 * 
+	 * @return Limiter of the amount of chat messages per User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final ChatRateLimiter getChatRateLimiter() {
+		return this.chatRateLimiter;
+	}
+
 	public final Collection<String> getBlockedPhrases() {
 		return this.getCachedBlockedPhrases().isEmpty() ? this.getBlockedPhrasesFromDatabase()
 				: this.getCachedBlockedPhrases();
@@ -299,9 +513,9 @@ public class ModerationSystem implements CoreSystem {
 
 		Collection<String> phrases = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.MODERATION_BLOCKED_PHRASES.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -335,9 +549,9 @@ public class ModerationSystem implements CoreSystem {
 
 		Collection<String> domains = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.MODERATION_ALLOWED_DOMAINS.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -390,9 +604,12 @@ public class ModerationSystem implements CoreSystem {
 			return null;
 		}
 
-		try {
+		// The message has to exist before it can be referenced, v1.0.19
+		this.chatMessageLogger.flush();
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
+			PreparedStatement stmt = connection.prepareStatement("INSERT INTO "
 					+ TableType.MODERATION_CHATLOGS.getTableName(true) + " (message, flags) VALUES (?, ?);",
 					Statement.RETURN_GENERATED_KEYS);
 			stmt.setInt(1, message.getID());
@@ -413,6 +630,9 @@ public class ModerationSystem implements CoreSystem {
 			chatLog.setResult(null);
 
 //			this.getCachedChatLogs().add(chatLog);
+			// The oldest unreviewed ChatLog of a User is kept, v1.0.19
+			this.unreviewedChatLogs.merge(message.getUUID(), chatLog,
+					(previous, created) -> previous.getID() <= created.getID() ? previous : created);
 			Core.getInstance().log(getClass(), LogType.DEBUG,
 					"Created ChatLog '" + chatLog.getID() + "' for ChatMessage '" + chatLog.getMessageID() + "'.");
 
@@ -442,9 +662,9 @@ public class ModerationSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("UPDATE " + TableType.MODERATION_CHATLOGS.getTableName(true)
 							+ " SET staff = ?, reviewed = ?, result = ? WHERE id = ?");
 			stmt.setString(1, staff.toString());
@@ -459,6 +679,28 @@ public class ModerationSystem implements CoreSystem {
 			chatLog.setReviewed(System.currentTimeMillis());
 			chatLog.setResult(result);
 
+			// v1.0.19
+			this.reviewedChatLogs.add(id);
+
+			for (Map.Entry<UUID, ChatLog> entry : this.unreviewedChatLogs.entrySet()) {
+
+				if (entry.getValue().getID() != id
+						|| !this.unreviewedChatLogs.remove(entry.getKey(), entry.getValue())) {
+					continue;
+				}
+
+				// An older ChatLog of the User may still be unreviewed
+				stmt = connection.prepareStatement(this.sqlGetUnreviewedChatLogByUser);
+				stmt.setString(1, entry.getKey().toString());
+
+				ResultSet rs = stmt.executeQuery();
+
+				if (rs.next()) {
+					this.unreviewedChatLogs.putIfAbsent(entry.getKey(), this.getChatLogByResultSet(rs));
+				}
+
+			}
+
 			return true;
 
 		} catch (SQLException e) {
@@ -478,9 +720,9 @@ public class ModerationSystem implements CoreSystem {
 	 */
 	public final ChatLog getChatLog(@Nonnull int id) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"SELECT * FROM " + TableType.MODERATION_CHATLOGS.getTableName(true) + " WHERE id = ?");
 			stmt.setInt(1, id);
 
@@ -515,9 +757,9 @@ public class ModerationSystem implements CoreSystem {
 
 		Collection<ChatLog> chatLogs = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.MODERATION_CHATLOGS.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -542,9 +784,9 @@ public class ModerationSystem implements CoreSystem {
 
 		Collection<ChatLog> chatLogs = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"SELECT * FROM " + TableType.MODERATION_CHATLOGS.getTableName(true) + " WHERE result IS NULL");
 			ResultSet rs = stmt.executeQuery();
 
@@ -613,31 +855,86 @@ public class ModerationSystem implements CoreSystem {
 
 		Collection<ChatLog> chatLogs = new ArrayList<>();
 
-		for (ChatLog cl : this.getChatLogs()) {
-			if (cl.getChatMessage().getUUID().equals(uuid)) {
-				chatLogs.add(cl);
+		// Join instead of loading the message of every ChatLog, v1.0.19
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetChatLogsByUser);
+			stmt.setString(1, uuid.toString());
+
+			ResultSet rs = stmt.executeQuery();
+
+			while (rs.next()) {
+				chatLogs.add(this.getChatLogByResultSet(rs));
 			}
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not get ChatLogs of User '" + uuid.toString() + "' from Database/SQL: " + e.getMessage());
 		}
 
 		return chatLogs;
 	}
 
-	public final ChatLog getActiveChatLog(@Nonnull UUID uuid) {
+	/**
+	 * Reload the index of unreviewed ChatLogs from the Database
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getActiveChatLog(UUID)
+	 */
+	public final void loadUnreviewedChatLogs() {
 
-		Collection<ChatLog> chatLogs = this.getChatLogs(uuid);
+		// Reviews made before loading are part of the result
+		final HashSet<Integer> reviewed = new HashSet<>(this.reviewedChatLogs);
 
-		// Return if no ChatLogs can be found
-		if (chatLogs.isEmpty()) {
-			return null;
-		}
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-		for (ChatLog cl : chatLogs) {
-			if (!cl.isReviewed()) {
-				return cl;
+			// Taken before loading, ChatLogs created afterwards are kept
+			ResultSet rs = connection.prepareStatement(this.sqlGetMaxChatLogID).executeQuery();
+			final int lastID = rs.next() ? rs.getInt(1) : 0;
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetUnreviewedChatLogsWithUser);
+			rs = stmt.executeQuery();
+
+			HashMap<UUID, ChatLog> chatLogs = new HashMap<>();
+
+			while (rs.next()) {
+				ChatLog chatLog = this.getChatLogByResultSet(rs);
+				chatLogs.putIfAbsent(UUID.fromString(rs.getString(7)), chatLog);
+			}
+
+			this.unreviewedChatLogs.entrySet()
+					.removeIf(e -> !chatLogs.containsKey(e.getKey()) && e.getValue().getID() <= lastID);
+
+			// ChatLogs that have been reviewed while loading must not be added again
+			for (Map.Entry<UUID, ChatLog> entry : chatLogs.entrySet()) {
+				this.unreviewedChatLogs.compute(entry.getKey(),
+						(uuid, current) -> this.reviewedChatLogs.contains(entry.getValue().getID()) ? current
+								: entry.getValue());
 			}
+
+			this.reviewedChatLogs.removeAll(reviewed);
+
+			Core.getInstance().log(getClass(), LogType.DEBUG,
+					"Loaded " + chatLogs.size() + " unreviewed ChatLogs from Database.");
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not load unreviewed ChatLogs from Database/SQL: " + e.getMessage());
 		}
 
-		return null;
+	}
+
+	/**
+	 * 
+	 * @param uuid - UUID to get the ChatLog for
+	 * @return Unreviewed ChatLog of the User or <code>null</code> if none exists
+	 * @since 1.0.14
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote This will be answered from memory since 1.0.19
+	 */
+	public final ChatLog getActiveChatLog(@Nonnull UUID uuid) {
+		return this.unreviewedChatLogs.get(uuid);
 	}
 
 	/**
@@ -650,13 +947,13 @@ public class ModerationSystem implements CoreSystem {
 	 * @author Markus Peirleitner (Rengobli)
 	 */
 	public final boolean hasActiveChatLog(@Nonnull UUID uuid) {
-		return this.getActiveChatLog(uuid) == null ? false : true;
+		return this.unreviewedChatLogs.containsKey(uuid);
 	}
 
 	@Override
 	public void createTable() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			PreparedStatement stmt = null;
 			List<String> statements = new ArrayList<>();
@@ -684,9 +981,13 @@ public class ModerationSystem implements CoreSystem {
 					+ "'), " + "PRIMARY KEY (id), " + "FOREIGN KEY (message) REFERENCES "
 					+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true) + "(id));");
 
+			// IDs of ChatMessages are reserved in blocks, v1.0.19
+			statements.add("CREATE TABLE IF NOT EXISTS " + TableType.SEQUENCES.getTableName(true) + " ("
+					+ "name VARCHAR(50) NOT NULL, " + "nextValue BIGINT(255) NOT NULL, " + "PRIMARY KEY (name));");
+
 			for (String s : statements) {
 
-				stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(s);
+				stmt = connection.prepareStatement(s);
 				stmt.execute();
 
 			}
@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -59,10 +60,9 @@ public class MotdSystem implements CoreSystem {
 
 		List<MOTD> motds = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + this.table);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + this.table);
 			ResultSet rs = stmt.executeQuery();
 
 			while (rs.next()) {
@@ -92,9 +92,9 @@ public class MotdSystem implements CoreSystem {
 		
 		MOTD motd = new MOTD("&fCore &7by &fRengobli &7- Default MOTD", "&7Website&8: &9www.peirleitner.at &7| Change with &e/motd", null, System.currentTimeMillis());
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"INSERT INTO " + this.table + " (line1, line2, staff, changed) VALUES (?, ?, ?, ?);");
 			stmt.setString(1, motd.getFirstLine());
 			stmt.setString(2, motd.getSecondLine());
@@ -129,9 +129,9 @@ public class MotdSystem implements CoreSystem {
 			return null;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + this.table + " ORDER BY changed DESC LIMIT 1");
 			ResultSet rs = stmt.executeQuery();
 			rs.next();
@@ -177,11 +177,11 @@ public class MotdSystem implements CoreSystem {
 		Core.getInstance().log(getClass(), LogType.DEBUG, "FIRST LINE: " + motd[0]);
 		Core.getInstance().log(getClass(), LogType.DEBUG, "SECOND LINE: " + motd[1]);
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			MOTD m = new MOTD(motd[0], motd[1], uuid, System.currentTimeMillis());
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"INSERT INTO " + this.table + " (line1, line2, staff, changed) VALUES (?, ?, ?, ?);");
 			stmt.setString(1, m.getFirstLine());
 			stmt.setString(2, m.getSecondLine());
@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -7,19 +8,28 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
+import at.peirleitner.core.util.database.StatisticBuffer;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.AvailableUserStatistic;
 import at.peirleitner.core.util.user.Language;
+import at.peirleitner.core.util.user.Leaderboard;
 import at.peirleitner.core.util.user.User;
 import at.peirleitner.core.util.user.UserStatistic;
+import at.peirleitner.core.util.user.UserStatisticMap;
 
 /**
  * System that manages statistics of a {@link User}
@@ -30,22 +40,67 @@ import at.peirleitner.core.util.user.UserStatistic;
  */
 public class StatSystem implements CoreSystem {
 
+	/**
+	 * Maximum amount of reads while loading a User, as a read is repeated if
+	 * pending Statistics have been written meanwhile
+	 */
+	private static final int LOAD_ATTEMPTS = 5;
+
 	private final HashSet<AvailableUserStatistic> cachedStatistics;
-	private final HashSet<UserStatistic> cachedUserStatistics;
+	private final ConcurrentHashMap<UUID, UserStatisticMap> cachedUserStatistics;
+	private final StatisticBuffer buffer;
+	private final ConcurrentHashMap<Integer, Leaderboard> leaderboards;
+
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	private final String tableAvailable = TableType.STATISTICS_AVAILABLE.getTableName(true);
+	private final String tableUser = TableType.STATISTICS_USER.getTableName(true);
+	private final String sqlGetByDevNameAndSaveType = "SELECT * FROM " + tableAvailable
+			+ " WHERE devName = ? AND saveType = ?";
+	private final String sqlGetByDevName = "SELECT * FROM " + tableAvailable + " WHERE devName = ?";
+	private final String sqlGetByID = "SELECT * FROM " + tableAvailable + " WHERE id = ?";
+	private final String sqlGetByUser = "SELECT * FROM " + tableUser + " WHERE uuid = ?";
+	private final String sqlGetByUserAndStatistic = "SELECT * FROM " + tableUser + " WHERE uuid = ? AND statistic = ?";
+	private final String sqlGetLeaderboard = "SELECT s.uuid, s.amount, u.lastKnownName FROM " + tableUser + " s"
+			+ " LEFT JOIN " + TableType.USERS.getTableName(true) + " u ON u.uuid = s.uuid"
+			+ " WHERE s.statistic = ? ORDER BY s.amount DESC LIMIT ?";
 
 	public StatSystem() {
 
 		this.createTable();
 		this.cachedStatistics = new HashSet<>();
-		this.cachedUserStatistics = new HashSet<>();
+		this.cachedUserStatistics = new ConcurrentHashMap<>();
+		this.leaderboards = new ConcurrentHashMap<>();
 
 		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
 				"system.stats.enable-caching", "true");
 		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(), "system.stats.show-stats-of-current-saveType-directly", "false");
 		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(), "system.stats.show-back-item", "true");
 
+		// v1.0.19
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.stats.flush-interval", "5");
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.stats.flush-threshold", "500");
+
+		this.buffer = new StatisticBuffer(Core.getInstance().getPluginName(), this.tableUser,
+				Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+						"system.stats.flush-interval")),
+				Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+						"system.stats.flush-threshold")));
+
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.stats.leaderboard.size", "10");
+		Core.getInstance().getSettingsManager().registerSetting(Core.getInstance().getPluginName(),
+				"system.stats.leaderboard.refresh-interval", "300");
+
 		this.loadStatistics();
-		this.loadUserStatistics();
+
+		// Leaderboards are updated on every change, the database is only queried to
+		// include changes made by other servers
+		Core.getInstance().getDatabaseExecutor().repeat("StatSystem#refreshLeaderboards", this::refreshLeaderboards,
+				Math.max(1, Integer.valueOf(Core.getInstance().getSettingsManager()
+						.getSetting(Core.getInstance().getPluginName(), "system.stats.leaderboard.refresh-interval"))),
+				TimeUnit.SECONDS);
 
 	}
 
@@ -57,9 +112,9 @@ public class StatSystem implements CoreSystem {
 
 		this.getCachedStatistics().clear();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.STATISTICS_AVAILABLE.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -80,45 +135,116 @@ public class StatSystem implements CoreSystem {
 
 	}
 
-	private final void loadUserStatistics() {
+	/**
+	 * Load the Statistics of a User into the cache. Should be called once the User
+	 * joins, since only online Users are being cached.
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #unloadUser(UUID)
+	 */
+	public final void loadUser(@Nonnull UUID uuid) {
 
 		if (!this.isCachingEnabled()) {
 			return;
 		}
 
-		this.getCachedUserStatistics().clear();
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-		try {
+			for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + TableType.STATISTICS_USER.getTableName(true));
-			ResultSet rs = stmt.executeQuery();
+				final long version = this.getBuffer().getWriteVersion();
 
-			while (rs.next()) {
+				PreparedStatement stmt = connection.prepareStatement(this.sqlGetByUser);
+				stmt.setString(1, uuid.toString());
 
-				UserStatistic statistic = this.getUserStatisticByResultSet(rs);
-				this.getCachedUserStatistics().add(statistic);
+				ResultSet rs = stmt.executeQuery();
+				UserStatisticMap map = new UserStatisticMap();
+
+				while (rs.next()) {
+					map.put(rs.getInt(2), rs.getInt(3), rs.getLong(4), rs.getLong(5));
+				}
+
+				// Increments of the User are added under the same key lock, so none of
+				// them can be missed or counted twice
+				final UserStatisticMap cached = this.cachedUserStatistics.compute(uuid, (key, current) -> {
+
+					if (current != null) {
+						return current;
+					}
+
+					// Increments that have not been written yet, ex. after a quick rejoin
+					this.getBuffer().applyPending(uuid, map);
+
+					// A write that started meanwhile may have drained increments that are
+					// neither applied nor part of the result
+					if (version < 0 || this.getBuffer().getWriteVersion() != version) {
+						return current;
+					}
+
+					return map;
+				});
+
+				if (cached != null) {
+					Core.getInstance().log(getClass(), LogType.DEBUG,
+							"Cached " + cached.size() + " Statistics of User '" + uuid.toString() + "'.");
+					return;
+				}
 
 			}
 
-			Core.getInstance().log(getClass(), LogType.DEBUG,
-					"Cached " + this.getCachedUserStatistics().size() + " User Statistics.");
+			Core.getInstance().log(getClass(), LogType.WARNING, "Could not load Statistics of User '"
+					+ uuid.toString() + "': Pending Statistics have been written meanwhile.");
 
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not load User Statistics from Database/SQL: " + e.getMessage());
+					"Could not load Statistics of User '" + uuid.toString() + "'/SQL: " + e.getMessage());
 		}
 
 	}
 
+	/**
+	 * Remove the Statistics of a User from the cache
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #loadUser(UUID)
+	 */
+	public final void unloadUser(@Nonnull UUID uuid) {
+		this.getCachedUserStatistics().remove(uuid);
+	}
+
+	public final boolean isCached(@Nonnull UUID uuid) {
+		return this.getCachedUserStatistics().containsKey(uuid);
+	}
+
 	public final HashSet<AvailableUserStatistic> getCachedStatistics() {
 		return cachedStatistics;
 	}
 
-	public final HashSet<UserStatistic> getCachedUserStatistics() {
+	/**
+	 * 
+	 * @return Statistics of online Users, mapped by their UUID
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Map<UUID, UserStatisticMap> getCachedUserStatistics() {
 		return cachedUserStatistics;
 	}
 
+	/**
+	 * 
+	 * @return Buffer that holds increments which have not yet been written towards
+	 *         the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final StatisticBuffer getBuffer() {
+		return buffer;
+	}
+
 	public final boolean isCachingEnabled() {
 		return Core.getInstance().getSettingsManager().isSetting(Core.getInstance().getPluginName(),
 				"system.stats.enable-caching");
@@ -147,10 +273,9 @@ public class StatSystem implements CoreSystem {
 
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM "
-					+ TableType.STATISTICS_AVAILABLE.getTableName(true) + " WHERE devName = ? AND saveType = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByDevNameAndSaveType);
 			stmt.setString(1, devName.toUpperCase());
 			stmt.setInt(2, saveType.getID());
 
@@ -189,9 +314,9 @@ public class StatSystem implements CoreSystem {
 
 		Collection<AvailableUserStatistic> available = new ArrayList<>();
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.STATISTICS_AVAILABLE.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -252,10 +377,9 @@ public class StatSystem implements CoreSystem {
 			return null;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
-					"SELECT * FROM " + TableType.STATISTICS_AVAILABLE.getTableName(true) + " WHERE devName = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByDevName);
 			stmt.setString(1, devName.toUpperCase());
 
 			ResultSet rs = stmt.executeQuery();
@@ -278,6 +402,52 @@ public class StatSystem implements CoreSystem {
 
 	}
 
+	/**
+	 * 
+	 * @param devName  - Developer Name
+	 * @param saveType - SaveType
+	 * @return Statistic or <code>null</code> if none exists
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote This is case-insensitive
+	 */
+	public final AvailableUserStatistic getAvailableUserStatistic(@Nonnull String devName,
+			@Nonnull SaveType saveType) {
+
+		if (this.isCachingEnabled()) {
+
+			for (AvailableUserStatistic aus : this.getCachedStatistics()) {
+				if (aus.getDevName().equals(devName.toUpperCase()) && aus.getSaveType().getID() == saveType.getID()) {
+					return aus;
+				}
+			}
+
+			return null;
+		}
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByDevNameAndSaveType);
+			stmt.setString(1, devName.toUpperCase());
+			stmt.setInt(2, saveType.getID());
+
+			ResultSet rs = stmt.executeQuery();
+
+			if (rs.next()) {
+				return this.getAvailableUserStatisticByResultSet(rs);
+			} else {
+				// No Result
+				return null;
+			}
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not get Statistic by DevName '" + devName
+					+ "' on SaveType '" + saveType.getID() + "'/SQL: " + e.getMessage());
+			return null;
+		}
+
+	}
+
 	public final AvailableUserStatistic getAvailableUserStatisticByID(@Nonnull int id) {
 
 		if (this.isCachingEnabled()) {
@@ -293,10 +463,9 @@ public class StatSystem implements CoreSystem {
 			return null;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
-					"SELECT * FROM " + TableType.STATISTICS_AVAILABLE.getTableName(true) + " WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByID);
 			stmt.setInt(1, id);
 
 			ResultSet rs = stmt.executeQuery();
@@ -355,9 +524,9 @@ public class StatSystem implements CoreSystem {
 		statistic.setEnabled(false);
 		statistic.setIconName(iconName);
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
+			PreparedStatement stmt = connection.prepareStatement("INSERT INTO "
 					+ TableType.STATISTICS_AVAILABLE.getTableName(true)
 					+ " (devName, displayName, description, saveType, created, enabled, iconName) VALUES (?, ?, ?, ?, ?, ?, ?);",
 					Statement.RETURN_GENERATED_KEYS);
@@ -398,47 +567,59 @@ public class StatSystem implements CoreSystem {
 
 	}
 
+	/**
+	 * Add an amount towards the Statistic of a User. The increment is buffered
+	 * and will be written towards the database by the {@link StatisticBuffer}.
+	 * 
+	 * @param uuid      - UUID of the User
+	 * @param statistic - Statistic
+	 * @param amount    - Amount
+	 * @return If the increment has been accepted
+	 * @since 1.0.17
+	 * @author Markus Peirleitner (Rengobli)
+	 */
 	public final boolean addStatistic(@Nonnull UUID uuid, @Nonnull AvailableUserStatistic statistic,
 			@Nonnull int amount) {
 
-		if (!this.isStatistic(statistic.getDevName(), statistic.getSaveType())) {
+		// Lookup by ID also validates the registration, v1.0.19
+		AvailableUserStatistic registered = this.getAvailableUserStatisticByID(statistic.getID());
+
+		if (registered == null) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not add Statistic for User '" + uuid.toString()
 					+ "': Invalid Statistic (Not registered) (" + statistic.toString() + "').");
 			return false;
 		}
 
-		statistic = this.getAvailableUserStatisticByID(statistic.getID());
-
-		if (!statistic.isEnabled()) {
+		if (!registered.isEnabled()) {
 			return false;
 		}
 
-		try {
+		final int[] total = new int[1];
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
-					+ TableType.STATISTICS_USER.getTableName(true)
-					+ " (uuid, statistic, amount, firstAdded, lastAdded) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE amount = (amount + ?), lastAdded = ?");
-			stmt.setString(1, uuid.toString());
-			stmt.setInt(2, statistic.getID());
-			stmt.setInt(3, amount);
-			stmt.setLong(4, System.currentTimeMillis());
-			stmt.setLong(5, System.currentTimeMillis());
+		// Buffered and cached under the key lock, see loadUser(UUID)
+		final UserStatisticMap cached = this.cachedUserStatistics.compute(uuid, (key, current) -> {
 
-			stmt.setInt(6, amount);
-			stmt.setLong(7, System.currentTimeMillis());
+			this.getBuffer().add(uuid, registered.getID(), amount);
 
-			stmt.executeUpdate();
+			if (current != null) {
+				total[0] = current.add(registered.getID(), amount, System.currentTimeMillis());
+			}
 
-			Core.getInstance().log(getClass(), LogType.DEBUG,
-					"Updated Statistic '" + statistic.getID() + "' for User '" + uuid.toString() + "'.");
-			return true;
+			return current;
+		});
+
+		if (cached != null) {
+
+			Leaderboard leaderboard = this.getLeaderboard(registered);
+
+			if (leaderboard != null) {
+				leaderboard.offer(uuid, null, total[0]);
+			}
 
-		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not add Statistic '" + statistic.getID()
-					+ "' for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
-			return false;
 		}
 
+		return true;
+
 	}
 
 	public final boolean incrementStatistic(@Nonnull UUID uuid, @Nonnull AvailableUserStatistic statistic) {
@@ -447,124 +628,101 @@ public class StatSystem implements CoreSystem {
 
 	public final Collection<UserStatistic> getStatistics(@Nonnull UUID uuid) {
 
-		Collection<UserStatistic> statistics = new ArrayList<>();
-
 		// Return from Cache if available
-		if (this.isCachingEnabled()) {
+		UserStatisticMap cached = this.getCachedUserStatistics().get(uuid);
 
-			for (UserStatistic us : this.getCachedUserStatistics()) {
-				if (us.getUUID().equals(uuid)) {
-					statistics.add(us);
-				}
-			}
-
-			return statistics;
+		if (cached != null) {
+			return this.getStatisticsFromCache(uuid, cached, null);
 		}
 
 		// Return from Database
-		try {
+		UserStatisticMap loaded = this.loadUserStatistics(uuid);
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
-					"SELECT * FROM " + TableType.STATISTICS_USER.getTableName(true) + " WHERE uuid = ?");
-			stmt.setString(1, uuid.toString());
-
-			ResultSet rs = stmt.executeQuery();
-
-			while (rs.next()) {
-
-				UserStatistic us = this.getUserStatisticByResultSet(rs);
-				statistics.add(us);
-
-			}
-
-			return statistics;
-
-		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR,
-					"Could not get Statistics for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
+		if (loaded == null) {
 			return new ArrayList<>();
 		}
+
+		return this.getStatisticsFromCache(uuid, loaded, null);
 	}
 
 	public final Collection<UserStatistic> getStatistics(@Nonnull UUID uuid, @Nonnull SaveType saveType) {
 
-		Collection<UserStatistic> statistics = new ArrayList<>();
-
 		// Return from Cache if available
-		if (this.isCachingEnabled()) {
-
-			for (UserStatistic us : this.getCachedUserStatistics()) {
-				if (us.getUUID().equals(uuid) && us.getStatistic().getSaveType().getID() == saveType.getID()) {
-					statistics.add(us);
-				}
-			}
+		UserStatisticMap cached = this.getCachedUserStatistics().get(uuid);
 
-			return statistics;
+		if (cached != null) {
+			return this.getStatisticsFromCache(uuid, cached, saveType);
 		}
 
 		// Return from Database
-		try {
+		UserStatisticMap loaded = this.loadUserStatistics(uuid);
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
-					"SELECT * FROM " + TableType.STATISTICS_USER.getTableName(true) + " WHERE uuid = ?");
-			stmt.setString(1, uuid.toString());
+		if (loaded == null) {
+			return new ArrayList<>();
+		}
 
-			ResultSet rs = stmt.executeQuery();
+		return this.getStatisticsFromCache(uuid, loaded, saveType);
+	}
 
-			while (rs.next()) {
+	/**
+	 * Read the Statistics of a User that is not cached, including increments that
+	 * have not been written yet
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Statistics or <code>null</code> if an error occurs
+	 */
+	private final UserStatisticMap loadUserStatistics(@Nonnull UUID uuid) {
 
-				UserStatistic us = this.getUserStatisticByResultSet(rs);
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-				if (us.getStatistic().getSaveType().getID() != saveType.getID()) {
-					continue;
-				}
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByUser);
+			stmt.setString(1, uuid.toString());
 
-				statistics.add(us);
+			ResultSet rs = stmt.executeQuery();
+			UserStatisticMap map = new UserStatisticMap();
 
+			while (rs.next()) {
+				map.put(rs.getInt(2), rs.getInt(3), rs.getLong(4), rs.getLong(5));
 			}
 
-			return statistics;
+			this.getBuffer().applyPending(uuid, map);
+			return map;
 
 		} catch (SQLException e) {
-			Core.getInstance().log(getClass(), LogType.ERROR, "Could not get Statistics for User '" + uuid.toString()
-					+ "' on SaveType '" + saveType.getID() + "'/SQL: " + e.getMessage());
-			return new ArrayList<>();
+			Core.getInstance().log(getClass(), LogType.ERROR,
+					"Could not get Statistics for User '" + uuid.toString() + "'/SQL: " + e.getMessage());
+			return null;
 		}
+
 	}
 
 	public final UserStatistic getStatistic(@Nonnull UUID uuid, @Nonnull AvailableUserStatistic statistic) {
 
-		// Return from Cache if available
-		if (this.isCachingEnabled()) {
-
-			for (UserStatistic us : this.getCachedUserStatistics()) {
-
-				if (us.getUUID().equals(uuid) && us.getStatistic().getID() == statistic.getID()) {
-					return us;
-				}
-
-			}
+		// Return from Cache if available, it contains every Statistic of the User
+		UserStatisticMap cached = this.getCachedUserStatistics().get(uuid);
 
+		if (cached != null) {
+			return this.getStatisticFromCache(uuid, cached, statistic.getID());
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM "
-					+ TableType.STATISTICS_USER.getTableName(true) + " WHERE uuid = ? AND statistic = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByUserAndStatistic);
 			stmt.setString(1, uuid.toString());
 			stmt.setInt(2, statistic.getID());
 
 			ResultSet rs = stmt.executeQuery();
+			UserStatisticMap map = new UserStatisticMap(1);
 
 			if (rs.next()) {
+				map.put(rs.getInt(2), rs.getInt(3), rs.getLong(4), rs.getLong(5));
+			}
 
-				UserStatistic us = this.getUserStatisticByResultSet(rs);
-				return us;
+			// Increments that have not been written yet, ex. the first one of a Statistic
+			this.getBuffer().applyPending(uuid, statistic.getID(), map);
 
-			} else {
-				// No Statistic
-				return null;
-			}
+			// No Statistic if there is neither a row nor a pending increment
+			return this.getStatisticFromCache(uuid, map, statistic.getID());
 
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR, "Could not get User Statistic for User '"
@@ -582,6 +740,41 @@ public class StatSystem implements CoreSystem {
 		long firstAdded = rs.getLong(4);
 		long lastAdded = rs.getLong(5);
 
+		return this.getUserStatistic(uuid, statistic, amount, firstAdded, lastAdded);
+
+	}
+
+	private final UserStatistic getStatisticFromCache(@Nonnull UUID uuid, @Nonnull UserStatisticMap cached,
+			@Nonnull int statistic) {
+
+		final UserStatistic[] result = new UserStatistic[1];
+		cached.visit(statistic, (id, amount, firstAdded, lastAdded) -> result[0] = this.getUserStatistic(uuid,
+				this.getAvailableUserStatisticByID(id), amount, firstAdded, lastAdded));
+		return result[0];
+	}
+
+	private final Collection<UserStatistic> getStatisticsFromCache(@Nonnull UUID uuid,
+			@Nonnull UserStatisticMap cached, SaveType saveType) {
+
+		final Collection<UserStatistic> statistics = new ArrayList<>(cached.size());
+
+		cached.forEach((id, amount, firstAdded, lastAdded) -> {
+
+			AvailableUserStatistic statistic = this.getAvailableUserStatisticByID(id);
+
+			if (statistic == null || (saveType != null && statistic.getSaveType().getID() != saveType.getID())) {
+				return;
+			}
+
+			statistics.add(this.getUserStatistic(uuid, statistic, amount, firstAdded, lastAdded));
+		});
+
+		return statistics;
+	}
+
+	private final UserStatistic getUserStatistic(@Nonnull UUID uuid, AvailableUserStatistic statistic, int amount,
+			long firstAdded, long lastAdded) {
+
 		UserStatistic us = new UserStatistic(uuid);
 		us.setStatistic(statistic);
 		us.setAmount(amount);
@@ -589,15 +782,217 @@ public class StatSystem implements CoreSystem {
 		us.setLastAdded(lastAdded);
 
 		return us;
+	}
+
+	// | Leaderboard | \\
+
+	public final int getLeaderboardSize() {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.stats.leaderboard.size"));
+	}
+
+	/**
+	 * 
+	 * @param statistic - Statistic
+	 * @return Leaderboard of the Statistic or <code>null</code> if it has not been
+	 *         requested yet
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #refreshLeaderboard(AvailableUserStatistic)
+	 */
+	public final Leaderboard getLeaderboard(@Nonnull AvailableUserStatistic statistic) {
+		return this.leaderboards.get(statistic.getID());
+	}
+
+	/**
+	 * Rebuild the Leaderboard of a Statistic from the database. Increments that
+	 * have not been written yet and online Users are included.
+	 * 
+	 * @param statistic - Statistic
+	 * @return New Leaderboard or the previous one if the database could not be
+	 *         queried
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Leaderboard refreshLeaderboard(@Nonnull AvailableUserStatistic statistic) {
+
+		final Leaderboard leaderboard = new Leaderboard(statistic.getID(), this.getLeaderboardSize());
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetLeaderboard);
+			stmt.setInt(1, statistic.getID());
+			stmt.setInt(2, leaderboard.getCapacity());
+
+			ResultSet rs = stmt.executeQuery();
+
+			while (rs.next()) {
+
+				UUID uuid = UUID.fromString(rs.getString(1));
+				long amount = rs.getInt(2) + this.getBuffer().getPendingAmount(uuid, statistic.getID());
+
+				leaderboard.offer(uuid, rs.getString(3), (int) amount);
+			}
+
+		} catch (SQLException e) {
+			Core.getInstance().log(getClass(), LogType.ERROR, "Could not refresh Leaderboard of Statistic '"
+					+ statistic.getID() + "'/SQL: " + e.getMessage());
+			return this.getLeaderboard(statistic);
+		}
+
+		// Cached amounts of online Users are always up to date
+		for (Map.Entry<UUID, UserStatisticMap> e : this.getCachedUserStatistics().entrySet()) {
+
+			if (e.getValue().contains(statistic.getID())) {
+				leaderboard.offer(e.getKey(), null, e.getValue().getAmount(statistic.getID()));
+			}
+
+		}
+
+		this.leaderboards.put(statistic.getID(), leaderboard);
+		return leaderboard;
+	}
+
+	/**
+	 * Refresh all Leaderboards that have been requested at least once
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void refreshLeaderboards() {
+
+		for (Integer id : this.leaderboards.keySet()) {
+
+			AvailableUserStatistic statistic = this.getAvailableUserStatisticByID(id);
+
+			if (statistic == null) {
+				this.leaderboards.remove(id);
+				continue;
+			}
+
+			this.refreshLeaderboard(statistic);
+		}
+
+	}
+
+	// | Async | \\
 
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getStatistics(UUID)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Collection<UserStatistic>> getStatisticsAsync(@Nonnull UUID uuid) {
+		return Core.getInstance().getDatabaseExecutor().supply("StatSystem#getStatistics",
+				() -> this.getStatistics(uuid));
+	}
+
+	/**
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param saveType - SaveType
+	 * @return Future that will be completed with the result of
+	 *         {@link #getStatistics(UUID, SaveType)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Collection<UserStatistic>> getStatisticsAsync(@Nonnull UUID uuid,
+			@Nonnull SaveType saveType) {
+		return Core.getInstance().getDatabaseExecutor().supply("StatSystem#getStatistics",
+				() -> this.getStatistics(uuid, saveType));
+	}
+
+	/**
+	 * 
+	 * @param uuid      - UUID of the User
+	 * @param statistic - Statistic
+	 * @return Future that will be completed with the result of
+	 *         {@link #getStatistic(UUID, AvailableUserStatistic)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<UserStatistic> getStatisticAsync(@Nonnull UUID uuid,
+			@Nonnull AvailableUserStatistic statistic) {
+		return Core.getInstance().getDatabaseExecutor().supply("StatSystem#getStatistic",
+				() -> this.getStatistic(uuid, statistic));
+	}
+
+	/**
+	 * 
+	 * @param uuid      - UUID of the User
+	 * @param statistic - Statistic
+	 * @param amount    - Amount
+	 * @return Future that will be completed with the result of
+	 *         {@link #addStatistic(UUID, AvailableUserStatistic, int)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> addStatisticAsync(@Nonnull UUID uuid,
+			@Nonnull AvailableUserStatistic statistic, @Nonnull int amount) {
+		return Core.getInstance().getDatabaseExecutor().supply("StatSystem#addStatistic",
+				() -> this.addStatistic(uuid, statistic, amount));
+	}
+
+	/**
+	 * 
+	 * @param statistic - Statistic
+	 * @return Future that will be completed with the places of the Leaderboard.
+	 *         The Leaderboard is being built if it has not been requested before
+	 *         and missing names will be resolved.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<List<Leaderboard.Entry>> getLeaderboardAsync(
+			@Nonnull AvailableUserStatistic statistic) {
+		return Core.getInstance().getDatabaseExecutor().supply("StatSystem#getLeaderboard", () -> {
+
+			Leaderboard leaderboard = this.getLeaderboard(statistic);
+
+			if (leaderboard == null) {
+				leaderboard = this.refreshLeaderboard(statistic);
+			}
+
+			if (leaderboard == null) {
+				return new ArrayList<>();
+			}
+
+			List<Leaderboard.Entry> entries = leaderboard.getEntries();
+
+			for (int i = 0; i < entries.size(); i++) {
+
+				Leaderboard.Entry entry = entries.get(i);
+
+				if (entry.getName() != null) {
+					continue;
+				}
+
+				User user = Core.getInstance().getUserSystem().getUser(entry.getUUID());
+
+				if (user != null) {
+					entries.set(i, new Leaderboard.Entry(entry.getUUID(), user.getLastKnownName(), entry.getAmount()));
+					leaderboard.offer(entry.getUUID(), user.getLastKnownName(), entry.getAmount());
+				}
+
+			}
+
+			return entries;
+		});
 	}
 
 	@Override
 	public void createTable() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + TableType.STATISTICS_AVAILABLE.getTableName(true)
 							+ " (" + "id INT AUTO_INCREMENT NOT NULL, " + "devName VARCHAR(50) NOT NULL, "
 							+ "displayName VARCHAR(30) NOT NULL, " + "description VARCHAR(300) NOT NULL, "
@@ -609,15 +1004,28 @@ public class StatSystem implements CoreSystem {
 
 			stmt.execute();
 
-			stmt = Core.getInstance().getMySQL().getConnection()
+			stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + TableType.STATISTICS_USER.getTableName(true)
 							+ " (" + "uuid CHAR(36) NOT NULL, " + "statistic INT NOT NULL, " + "amount INT NOT NULL, "
 							+ "firstAdded BIGINT(255) NOT NULL, " + "lastAdded BIGINT(255) NOT NULL, "
-							+ "PRIMARY KEY (uuid, statistic), " + "FOREIGN KEY (statistic) REFERENCES "
-							+ TableType.STATISTICS_AVAILABLE.getTableName(true) + "(id));");
+							+ "PRIMARY KEY (uuid, statistic), " + "INDEX idx_statistic_amount (statistic, amount), "
+							+ "FOREIGN KEY (statistic) REFERENCES " + TableType.STATISTICS_AVAILABLE.getTableName(true)
+							+ "(id));");
 
 			stmt.execute();
 
+			// Tables created before v1.0.19 don't have the Leaderboard index yet
+			stmt = connection.prepareStatement("SELECT 1 FROM information_schema.statistics"
+					+ " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'idx_statistic_amount'");
+			stmt.setString(1, TableType.STATISTICS_USER.getTableName(true));
+
+			if (!stmt.executeQuery().next()) {
+				connection.prepareStatement("ALTER TABLE " + TableType.STATISTICS_USER.getTableName(true)
+						+ " ADD INDEX idx_statistic_amount (statistic, amount)").execute();
+				Core.getInstance().log(getClass(), LogType.INFO,
+						"Added Leaderboard index towards " + TableType.STATISTICS_USER.getTableName(true) + ".");
+			}
+
 		} catch (SQLException e) {
 			Core.getInstance().log(getClass(), LogType.ERROR,
 					"Could not create Table for StatSystem/SQL: " + e.getMessage());
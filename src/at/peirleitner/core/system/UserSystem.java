@@ -1,20 +1,31 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.annotation.Nonnull;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.util.CoreSystem;
 import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.Language;
+import at.peirleitner.core.util.user.OfflineUserCache;
 import at.peirleitner.core.util.user.User;
+import at.peirleitner.core.util.user.UserExperience;
+import at.peirleitner.core.util.user.UserSession;
 
 /**
  * This class handles all (database) interactions of a {@link User}
@@ -26,12 +37,41 @@ import at.peirleitner.core.util.user.User;
 public final class UserSystem implements CoreSystem {
 
 	private final String table = TableType.USERS.getTableName(true);
-	private Collection<User> cachedUsers;
+
+	// Statements are cached by their SQL, build it only once (v1.0.19)
+	private final String sqlGetByUUID = "SELECT * FROM " + table + " WHERE uuid = ?";
+	private final String sqlGetByName = "SELECT * FROM " + table + " WHERE lastKnownName = ?";
+	private final String sqlInsert = "INSERT INTO " + table + " (uuid, lastKnownName) VALUES (?, ?);";
+	private final String sqlUpdateName = "UPDATE " + table + " SET lastKnownName = ? WHERE uuid = ?";
+	private final String sqlUpdateLastLogin = "UPDATE " + table + " SET lastLogin = ? WHERE uuid = ?";
+	private final String sqlUpdateLastLogout = "UPDATE " + table + " SET lastLogout = ? WHERE uuid = ?";
+	private final String sqlUpdateEnabled = "UPDATE " + table + " SET enabled = ? WHERE uuid = ?";
+	private final String sqlUpdateLanguage = "UPDATE " + table + " SET language = ? WHERE uuid = ?";
+	private final String sqlUpsertLogin = "INSERT INTO " + table
+			+ " (uuid, lastKnownName, registered, lastLogin) VALUES (?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE lastKnownName = VALUES(lastKnownName), lastLogin = VALUES(lastLogin)";
+
+	// Sessions that have not been joined within this time are discarded, v1.0.19
+	private static final long SESSION_JOIN_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+	private static final long SESSION_LOAD_TIMEOUT = 10;
+	private final ConcurrentHashMap<UUID, User> cachedUsers;
+	private final ConcurrentHashMap<String, UUID> cachedNames;
+	private final OfflineUserCache offlineUsers;
+	private final ConcurrentHashMap<UUID, UserSession> sessions;
 
 	public UserSystem() {
 
 		// Initialize
-		this.cachedUsers = new ArrayList<>();
+		// Read from database threads as well, v1.0.19
+		this.cachedUsers = new ConcurrentHashMap<>();
+		this.cachedNames = new ConcurrentHashMap<>();
+		this.offlineUsers = new OfflineUserCache(this.getOfflineCacheSetting("size"),
+				this.getOfflineCacheSetting("ttl"));
+		this.sessions = new ConcurrentHashMap<>();
+
+		// Logins that have been denied after loading, v1.0.19
+		Core.getInstance().getDatabaseExecutor().repeat("UserSystem#purgeSessions", this::purgeSessions,
+				SESSION_JOIN_TIMEOUT, TimeUnit.MILLISECONDS);
 
 		// Set default settings
 		Core.getInstance().getSettingsManager().setSetting(Core.getInstance().getPluginName(), "system.user.enable-caching", "true");
@@ -44,15 +84,66 @@ public final class UserSystem implements CoreSystem {
 	}
 
 	private final User getUserFromCache(@Nonnull UUID uuid) {
-		return this.getCachedUsers().stream().filter(user -> user.getUUID().equals(uuid)).findAny().orElse(null);
+		return this.cachedUsers.get(uuid);
+	}
+
+	private static String toKey(@Nonnull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Add a {@link User} towards the cache, replacing a previous instance
+	 * 
+	 * @param user - User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void cacheUser(@Nonnull User user) {
+
+		final User previous = this.cachedUsers.put(user.getUUID(), user);
+		this.offlineUsers.invalidate(user.getUUID());
+
+		if (previous != null) {
+			this.cachedNames.remove(toKey(previous.getLastKnownName()), previous.getUUID());
+		}
+
+		this.cachedNames.put(toKey(user.getLastKnownName()), user.getUUID());
+	}
+
+	/**
+	 * Remove a {@link User} from the cache
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void uncacheUser(@Nonnull UUID uuid) {
+
+		final User user = this.cachedUsers.remove(uuid);
+
+		if (user != null) {
+			this.cachedNames.remove(toKey(user.getLastKnownName()), uuid);
+
+			// Looked up again shortly after quitting, for example by moderation commands
+			this.offlineUsers.put(user);
+		}
+
+	}
+
+	private final User getCachedUserByName(@Nonnull String lastKnownName) {
+
+		final UUID uuid = this.cachedNames.get(toKey(lastKnownName));
+		final User user = uuid == null ? null : this.cachedUsers.get(uuid);
+
+		// The name may have been changed without updating the index
+		return user != null && user.getLastKnownName().equalsIgnoreCase(lastKnownName) ? user : null;
 	}
 
 	private final User getUserFromDatabase(@Nonnull UUID uuid) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("SELECT * FROM " + table + " WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByUUID);
 			stmt.setString(1, uuid.toString());
 
 			ResultSet rs = stmt.executeQuery();
@@ -83,15 +174,16 @@ public final class UserSystem implements CoreSystem {
 	@SuppressWarnings("unused")
 	private final boolean loadUsersFromDatabase() {
 		
-		this.getCachedUsers().clear();
+		this.cachedUsers.clear();
+		this.cachedNames.clear();
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM " + table);
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + table);
 			ResultSet rs = stmt.executeQuery();
 			
 			while(rs.next()) {
-				this.getCachedUsers().add(this.getUserFromResultSet(rs));
+				this.cacheUser(this.getUserFromResultSet(rs));
 			}
 			
 			Core.getInstance().log(this.getClass(), LogType.INFO, "Cached " + this.getCachedUsers().size() + " Users from Database.");
@@ -122,28 +214,54 @@ public final class UserSystem implements CoreSystem {
 	}
 
 	public final User getUser(@Nonnull UUID uuid) {
-		return this.getUserFromCache(uuid) == null ? this.getUserFromDatabase(uuid) : this.getUserFromCache(uuid);
+
+		User user = this.getUserFromCache(uuid);
+
+		if (user != null) {
+			return user;
+		}
+
+		// Offline Users, v1.0.19
+		user = this.offlineUsers.get(uuid);
+
+		if (user == null) {
+			user = this.getUserFromDatabase(uuid);
+
+			if (user != null) {
+				this.offlineUsers.put(user);
+			}
+
+		}
+
+		return user;
 	}
 	
 	public final User getByLastKnownName(@Nonnull String lastKnownName) {
 		
-		if(this.isCachingEnabled() && !this.getCachedUsers().isEmpty()) {
-			
-			for(User user : this.getCachedUsers()) {
-				if(user.getLastKnownName().equalsIgnoreCase(lastKnownName)) return user;
-			}
-			
+		// Case-insensitive index, v1.0.19
+		final User cached = this.getCachedUserByName(lastKnownName);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		final User offline = this.offlineUsers.getByLastKnownName(lastKnownName);
+
+		if (offline != null) {
+			return offline;
 		}
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM " + table + " WHERE lastKnownName = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlGetByName);
 			stmt.setString(1, lastKnownName);
 			
 			ResultSet rs = stmt.executeQuery();
 			
 			if(rs.next()) {
-				return getUserFromResultSet(rs);
+				User user = getUserFromResultSet(rs);
+				this.offlineUsers.put(user);
+				return user;
 			} else {
 				Core.getInstance().log(this.getClass(), LogType.DEBUG, "Did not return User by last Known Name since none can be found");
 				return null;
@@ -169,10 +287,9 @@ public final class UserSystem implements CoreSystem {
 		}
 		
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("INSERT INTO " + table + " (uuid, lastKnownName) VALUES (?, ?);");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlInsert);
 			stmt.setString(1, uuid.toString());
 			stmt.setString(2, name);
 
@@ -181,7 +298,7 @@ public final class UserSystem implements CoreSystem {
 			if (this.isCachingEnabled()) {
 				User user = new User(uuid, name, System.currentTimeMillis(), -1, -1, true,
 						Core.getInstance().getDefaultLanguage(), false, false);
-				this.getCachedUsers().add(user);
+				this.cacheUser(user);
 			}
 
 			Core.getInstance().log(this.getClass(), LogType.INFO,
@@ -203,9 +320,212 @@ public final class UserSystem implements CoreSystem {
 	 * @author Markus Peirleitner (Rengobli)
 	 * @apiNote This will <b>always</b> return an empty collection if
 	 *          {@link #isCachingEnabled()} is set to <code>false</code>.
+	 * @apiNote As of v1.0.19 the collection is a read-only view, use
+	 *          {@link #cacheUser(User)} and {@link #uncacheUser(UUID)} instead.
 	 */
 	public final Collection<User> getCachedUsers() {
-		return this.cachedUsers;
+		return Collections.unmodifiableCollection(this.cachedUsers.values());
+	}
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return User if it is online and cached, otherwise <code>null</code>. Does
+	 *         not access the database.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getCachedUsers()
+	 */
+	public final User getCachedUser(@Nonnull UUID uuid) {
+		return this.getUserFromCache(uuid);
+	}
+
+	/**
+	 * Load all data of a User that is served from memory once joined. The User
+	 * row is written and read on the calling thread while Economy, Experience
+	 * and Statistics are loaded into their caches in parallel on the
+	 * {@link DatabaseExecutor}. This blocks and should only be called from the
+	 * asynchronous login thread.
+	 * 
+	 * @param uuid     - UUID of the User
+	 * @param name     - Current name of the User
+	 * @param register - If the User should be registered and the last login
+	 *                 written, using a single upsert
+	 * @return Loaded session or <code>null</code> if any part could not be loaded
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getSession(UUID)
+	 */
+	public final UserSession loadSession(@Nonnull UUID uuid, @Nonnull String name, @Nonnull boolean register) {
+
+		final DatabaseExecutor executor = Core.getInstance().getDatabaseExecutor();
+
+		final CompletableFuture<Boolean> economy = executor.supply("UserSession#economy",
+				() -> !Core.getInstance().getEconomySystem().isCachingEnabled()
+						|| Core.getInstance().getEconomySystem().loadAccount(uuid));
+		final CompletableFuture<UserExperience[]> experience = executor.supply("UserSession#experience",
+				() -> Core.getInstance().getExperienceSystem().getExperience(uuid));
+		final CompletableFuture<Void> statistics = executor.run("UserSession#statistics",
+				() -> Core.getInstance().getStatSystem().loadUser(uuid));
+		final CompletableFuture<Void> all = CompletableFuture.allOf(economy, experience, statistics);
+
+		final boolean loginRecorded = register && this.upsertLogin(uuid, name);
+		this.offlineUsers.invalidate(uuid);
+		final User user = this.getUserFromDatabase(uuid);
+
+		try {
+			all.get(SESSION_LOAD_TIMEOUT, TimeUnit.SECONDS);
+		} catch (InterruptedException | ExecutionException | TimeoutException e) {
+			Core.getInstance().log(this.getClass(), LogType.WARNING, "Could not load Session of User '"
+					+ uuid.toString() + "', falling back to loading on demand: " + e.toString());
+			this.unloadSessionData(uuid);
+
+			// Tasks that are still running must not leave their data cached
+			all.whenComplete((result, throwable) -> {
+
+				if (!this.sessions.containsKey(uuid) && this.getUserFromCache(uuid) == null) {
+					this.unloadSessionData(uuid);
+				}
+
+			});
+
+			return null;
+		}
+
+		// Systems return null on database errors
+		if (user == null || !economy.join() || experience.join() == null) {
+			this.unloadSessionData(uuid);
+			return null;
+		}
+
+		final UserSession session = new UserSession(user, loginRecorded);
+		this.sessions.put(uuid, session);
+
+		return session;
+	}
+
+	/**
+	 * Remove everything {@link #loadSession(UUID, String, boolean)} has cached
+	 * for a User that did not join
+	 */
+	private final void unloadSessionData(@Nonnull UUID uuid) {
+		Core.getInstance().getStatSystem().unloadUser(uuid);
+		Core.getInstance().getEconomySystem().unloadAccount(uuid);
+		Core.getInstance().getExperienceSystem().uncache(uuid);
+	}
+
+	private final boolean upsertLogin(@Nonnull UUID uuid, @Nonnull String name) {
+
+		final long now = System.currentTimeMillis();
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpsertLogin);
+			stmt.setString(1, uuid.toString());
+			stmt.setString(2, name);
+			stmt.setLong(3, now);
+			stmt.setLong(4, now);
+
+			// 1 if the row has been inserted, 2 if it has been updated
+			if (stmt.executeUpdate() == 1) {
+				Core.getInstance().log(this.getClass(), LogType.INFO,
+						"Registered new User Object for UUID '" + uuid.toString() + "'.");
+			}
+
+			return true;
+
+		} catch (SQLException e) {
+			Core.getInstance().log(this.getClass(), LogType.ERROR,
+					"Could not register or update User Object for UUID '" + uuid.toString() + "'/SQL: "
+							+ e.getMessage());
+			return false;
+		}
+
+	}
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Session loaded on login or <code>null</code> if none exists
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final UserSession getSession(@Nonnull UUID uuid) {
+		return this.sessions.get(uuid);
+	}
+
+	/**
+	 * Mark the session of a User as joined
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Session or <code>null</code> if none has been loaded
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final UserSession joinSession(@Nonnull UUID uuid) {
+
+		final UserSession session = this.sessions.get(uuid);
+
+		if (session == null) {
+			return null;
+		}
+
+		session.setJoined();
+		return session;
+	}
+
+	/**
+	 * Discard the session of a User, should be called on disconnect
+	 * 
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void removeSession(@Nonnull UUID uuid) {
+
+		final UserSession session = this.sessions.remove(uuid);
+
+		// Denied logins don't reach the quit listener
+		if (session != null && !session.isJoined()) {
+			this.unloadSessionData(uuid);
+		}
+
+	}
+
+	private final void purgeSessions() {
+
+		final long limit = System.currentTimeMillis() - SESSION_JOIN_TIMEOUT;
+
+		for (UserSession session : this.sessions.values()) {
+
+			if (!session.isJoined() && session.getCreated() < limit
+					&& this.sessions.remove(session.getUUID(), session)) {
+				this.unloadSessionData(session.getUUID());
+				Core.getInstance().log(this.getClass(), LogType.DEBUG,
+						"Discarded Session of User '" + session.getUUID().toString() + "' since it did not join.");
+			}
+
+		}
+
+	}
+
+	public final int getSessionCount() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * 
+	 * @return Cache of Users that are not online
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final OfflineUserCache getOfflineUserCache() {
+		return this.offlineUsers;
+	}
+
+	private final int getOfflineCacheSetting(@Nonnull String key) {
+		return Integer.valueOf(Core.getInstance().getSettingsManager().getSetting(Core.getInstance().getPluginName(),
+				"system.user.offline-cache." + key));
 	}
 
 	/**
@@ -238,19 +558,27 @@ public final class UserSystem implements CoreSystem {
 		}
 
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + table + " SET lastKnownName = ? WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpdateName);
 			stmt.setString(1, name);
 			stmt.setString(2, user.getUUID().toString());
 
 			stmt.execute();
+			this.offlineUsers.invalidate(user.getUUID());
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Updated lastKnownName of '" + user.getUUID().toString() + "' to '" + name + "'.");
 
 			if (this.isCachingEnabled()) {
+				final String previous = user.getLastKnownName();
 				user.setLastKnownName(name);
+
+				// Keep the name index in sync, v1.0.19
+				if (this.cachedUsers.get(user.getUUID()) == user) {
+					this.cachedNames.remove(toKey(previous), user.getUUID());
+					this.cachedNames.put(toKey(name), user.getUUID());
+				}
+
 			}
 
 			return true;
@@ -283,14 +611,14 @@ public final class UserSystem implements CoreSystem {
 		}
 
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + table + " SET lastLogin = ? WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpdateLastLogin);
 			stmt.setLong(1, lastLogin);
 			stmt.setString(2, user.getUUID().toString());
 
 			stmt.execute();
+			this.offlineUsers.invalidate(user.getUUID());
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Updated lastLogin of '" + user.getUUID().toString() + "' to '" + lastLogin + "'.");
 
@@ -328,14 +656,14 @@ public final class UserSystem implements CoreSystem {
 		}
 
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + table + " SET lastLogout = ? WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpdateLastLogout);
 			stmt.setLong(1, lastLogout);
 			stmt.setString(2, user.getUUID().toString());
 
 			stmt.execute();
+			this.offlineUsers.invalidate(user.getUUID());
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Updated lastLogout of '" + user.getUUID().toString() + "' to '" + lastLogout + "'.");
 
@@ -372,14 +700,14 @@ public final class UserSystem implements CoreSystem {
 		}
 
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + table + " SET enabled = ? WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpdateEnabled);
 			stmt.setBoolean(1, enabled);
 			stmt.setString(2, user.getUUID().toString());
 
 			stmt.execute();
+			this.offlineUsers.invalidate(user.getUUID());
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Updated enabled state of '" + user.getUUID().toString() + "' to '" + enabled + "'.");
 
@@ -407,14 +735,14 @@ public final class UserSystem implements CoreSystem {
 		}
 
 		// Database Query
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
-					.prepareStatement("UPDATE " + table + " SET language = ? WHERE uuid = ?");
+			PreparedStatement stmt = connection.prepareStatement(this.sqlUpdateLanguage);
 			stmt.setString(1, language.toString());
 			stmt.setString(2, user.getUUID().toString());
 
 			stmt.execute();
+			this.offlineUsers.invalidate(user.getUUID());
 			Core.getInstance().log(this.getClass(), LogType.DEBUG,
 					"Updated language of '" + user.getUUID().toString() + "' to '" + language.toString() + "'.");
 
@@ -432,6 +760,94 @@ public final class UserSystem implements CoreSystem {
 
 	}
 
+	// | Async | \\
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getUser(UUID)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<User> getUserAsync(@Nonnull UUID uuid) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#getUser", () -> this.getUser(uuid));
+	}
+
+	/**
+	 * 
+	 * @param lastKnownName - Last known name of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #getByLastKnownName(String)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<User> getByLastKnownNameAsync(@Nonnull String lastKnownName) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#getByLastKnownName",
+				() -> this.getByLastKnownName(lastKnownName));
+	}
+
+	/**
+	 * 
+	 * @param uuid - UUID of the User
+	 * @param name - Name of the User
+	 * @return Future that will be completed with the result of
+	 *         {@link #register(UUID, String)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> registerAsync(@Nonnull UUID uuid, @Nonnull String name) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#register", () -> this.register(uuid, name));
+	}
+
+	/**
+	 * 
+	 * @param user      - User
+	 * @param lastLogin - Timestamp
+	 * @return Future that will be completed with the result of
+	 *         {@link #setLastLogin(User, long)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> setLastLoginAsync(@Nonnull User user, @Nonnull long lastLogin) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#setLastLogin",
+				() -> this.setLastLogin(user, lastLogin));
+	}
+
+	/**
+	 * 
+	 * @param user       - User
+	 * @param lastLogout - Timestamp
+	 * @return Future that will be completed with the result of
+	 *         {@link #setLastLogout(User, long)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> setLastLogoutAsync(@Nonnull User user, @Nonnull long lastLogout) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#setLastLogout",
+				() -> this.setLastLogout(user, lastLogout));
+	}
+
+	/**
+	 * 
+	 * @param user     - User
+	 * @param language - New Language
+	 * @return Future that will be completed with the result of
+	 *         {@link #setLanguage(User, Language)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Boolean> setLanguageAsync(@Nonnull User user, @Nonnull Language language) {
+		return Core.getInstance().getDatabaseExecutor().supply("UserSystem#setLanguage",
+				() -> this.setLanguage(user, language));
+	}
+
 	@Override
 	public void createTable() {
 		return;
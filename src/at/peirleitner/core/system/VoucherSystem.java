@@ -1,5 +1,6 @@
 package at.peirleitner.core.system;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -9,6 +10,7 @@ import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
@@ -19,6 +21,7 @@ import at.peirleitner.core.util.GlobalUtils;
 import at.peirleitner.core.util.LogType;
 import at.peirleitner.core.util.RunMode;
 import at.peirleitner.core.util.Voucher;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.User;
@@ -45,12 +48,50 @@ public final class VoucherSystem implements CoreSystem {
 		this.createTable();
 	}
 
+	// | Async | \\
+
+	/**
+	 * 
+	 * @param code - PlainText Code
+	 * @return Future that will be completed with the result of
+	 *         {@link #getByCode(String)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see DatabaseExecutor
+	 */
+	public final CompletableFuture<Voucher> getByCodeAsync(@Nonnull String code) {
+		return Core.getInstance().getDatabaseExecutor().supply("VoucherSystem#getByCode", () -> this.getByCode(code));
+	}
+
+	/**
+	 * 
+	 * @param user - User
+	 * @param code - PlainText Code
+	 * @return Future that will be completed with the result of
+	 *         {@link #redeem(User, String)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see Voucher#redeemAsync(User)
+	 */
+	public final CompletableFuture<Boolean> redeemAsync(@Nonnull User user, @Nonnull String code) {
+		return this.getByCodeAsync(code).thenComposeAsync(voucher -> {
+
+			if (voucher == null) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.error.invalid-voucher", null,
+						true);
+				return CompletableFuture.completedFuture(false);
+			}
+
+			return voucher.redeemAsync(user);
+		}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
+	}
+
 	@Override
 	public void createTable() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + TableType.VOUCHER_CODES.getTableName(true) + " ("
 							+ "id INT AUTO_INCREMENT NOT NULL, " + "created BIGINT(255) NOT NULL, "
 							+ "creator CHAR(36) NOT NULL, " + "code CHAR(" + this.getCodeLength() + ") NOT NULL,"
@@ -61,7 +102,7 @@ public final class VoucherSystem implements CoreSystem {
 
 			stmt.execute();
 
-			stmt = Core.getInstance().getMySQL().getConnection()
+			stmt = connection
 					.prepareStatement("CREATE TABLE IF NOT EXISTS " + TableType.VOUCHER_USERS.getTableName(true) + " ("
 							+ "uuid CHAR(36) NOT NULL, " + "voucher INT NOT NULL, " + "redeemed BIGINT(255) NOT NULL, "
 							+ "PRIMARY KEY (uuid, voucher), " + "FOREIGN KEY (voucher) REFERENCES "
@@ -96,11 +137,11 @@ public final class VoucherSystem implements CoreSystem {
 			return false;
 		}
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			String code = this.getRandomCode();
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO "
+			PreparedStatement stmt = connection.prepareStatement("INSERT INTO "
 					+ TableType.VOUCHER_CODES.getTableName(true)
 					+ " (created, creator, code, maxRedeems, command, expiration, saveType) VALUES (?, ?, ?, ?, ?, ?, ?);",
 					Statement.RETURN_GENERATED_KEYS);
@@ -170,9 +211,9 @@ public final class VoucherSystem implements CoreSystem {
 			return false;
 		}
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("UPDATE " + TableType.VOUCHER_CODES.getTableName(true) + " SET expiration = ? WHERE id = ?");
+			PreparedStatement stmt = connection.prepareStatement("UPDATE " + TableType.VOUCHER_CODES.getTableName(true) + " SET expiration = ? WHERE id = ?");
 			stmt.setLong(1, System.currentTimeMillis());
 			stmt.setInt(2, voucher.getID());
 			
@@ -209,9 +250,9 @@ public final class VoucherSystem implements CoreSystem {
 	
 	public final Voucher getByID(@Nonnull int id) {
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"SELECT * FROM " + TableType.VOUCHER_CODES.getTableName(true) + " WHERE id = ?");
 			stmt.setInt(1, id);
 
@@ -243,9 +284,9 @@ public final class VoucherSystem implements CoreSystem {
 	 */
 	public final Voucher getByCode(@Nonnull String code) {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement(
+			PreparedStatement stmt = connection.prepareStatement(
 					"SELECT * FROM " + TableType.VOUCHER_CODES.getTableName(true) + " WHERE code = ?");
 			stmt.setString(1, code);
 
@@ -267,11 +308,11 @@ public final class VoucherSystem implements CoreSystem {
 
 	public final Voucher[] getVouchers() {
 
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 
 			Set<Voucher> vouchers = new HashSet<>();
 
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection()
+			PreparedStatement stmt = connection
 					.prepareStatement("SELECT * FROM " + TableType.VOUCHER_CODES.getTableName(true));
 			ResultSet rs = stmt.executeQuery();
 
@@ -1,15 +1,18 @@
 package at.peirleitner.core.util;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
 import at.peirleitner.core.Core;
 import at.peirleitner.core.command.local.CommandRedeem;
+import at.peirleitner.core.util.database.DatabaseExecutor;
 import at.peirleitner.core.util.database.SaveType;
 import at.peirleitner.core.util.database.TableType;
 import at.peirleitner.core.util.user.User;
@@ -77,9 +80,9 @@ public final class Voucher {
 			return true;
 		}
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT COUNT(*) FROM " + TableType.VOUCHER_USERS.getTableName(true) + " WHERE voucher = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM " + TableType.VOUCHER_USERS.getTableName(true) + " WHERE voucher = ?");
 			stmt.setInt(1, this.getID());
 			
 			ResultSet rs = stmt.executeQuery();
@@ -98,9 +101,9 @@ public final class Voucher {
 	
 	public final boolean hasRedeemed(@Nonnull User user) {
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM " + TableType.VOUCHER_USERS.getTableName(true) + " WHERE uuid = ? AND voucher = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + TableType.VOUCHER_USERS.getTableName(true) + " WHERE uuid = ? AND voucher = ?");
 			stmt.setString(1, user.getUUID().toString());
 			stmt.setInt(2, this.getID());
 			
@@ -147,9 +150,71 @@ public final class Voucher {
 			return false;
 		}
 		
-		try {
+		if(!this.insertRedeem(user)) {
+			return false;
+		}
+		
+		this.onRedeem(user);
+		return true;
+		
+	}
+	
+	/**
+	 * Redeem this Voucher without blocking the main thread. Database checks are
+	 * performed using the {@link DatabaseExecutor}, the command will be executed
+	 * on the main thread afterwards.
+	 * 
+	 * @param user - User
+	 * @return Future that will be completed with the result of {@link #redeem(User)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final CompletableFuture<Boolean> redeemAsync(@Nonnull User user) {
+		
+		if(this.getSaveType().getID() != Core.getInstance().getSettingsManager().getSaveType().getID()) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.error.invalid-save-type",
+					Arrays.asList("" + this.getSaveType().getName()), true);
+			return CompletableFuture.completedFuture(false);
+		}
+		
+		if(this.isExpired()) {
+			user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.error.expired",
+					Arrays.asList(GlobalUtils.getFormatedDate(this.getExpiration())), true);
+			return CompletableFuture.completedFuture(false);
+		}
+		
+		return Core.getInstance().getDatabaseExecutor().supply("Voucher#redeem", () -> {
+			
+			if(!(this.isRedeemable())) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.error.max-redeems-reached",
+						Arrays.asList("" + this.getMaxRedeems()), true);
+				return false;
+			}
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("INSERT INTO " + TableType.VOUCHER_USERS.getTableName(true) + " (uuid, voucher, redeemed) VALUES (?, ?, ?);");
+			if(this.hasRedeemed(user)) {
+				user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.error.already-redeemed",
+						null, true);
+				return false;
+			}
+			
+			return this.insertRedeem(user);
+			
+		}).thenApplyAsync(redeemed -> {
+			
+			if(redeemed) {
+				this.onRedeem(user);
+			}
+			
+			return redeemed;
+		}, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
+		
+	}
+	
+	private final boolean insertRedeem(@Nonnull User user) {
+		
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+			
+			PreparedStatement stmt = connection.prepareStatement("INSERT INTO " + TableType.VOUCHER_USERS.getTableName(true) + " (uuid, voucher, redeemed) VALUES (?, ?, ?);");
 			stmt.setString(1, user.getUUID().toString());
 			stmt.setInt(2, this.getID());
 			stmt.setLong(3, System.currentTimeMillis());
@@ -157,22 +222,6 @@ public final class Voucher {
 			int updated = stmt.executeUpdate();
 			
 			if(updated == 1) {
-				
-				String commandToExecute = this.getCommand();
-				commandToExecute = commandToExecute.replace("{uuid}", user.getUUID().toString());
-				commandToExecute = commandToExecute.replace("{player}", user.getLastKnownName());
-				
-				if(Core.getInstance().getRunMode() == RunMode.LOCAL) {
-					org.bukkit.Bukkit.dispatchCommand(org.bukkit.Bukkit.getConsoleSender(),commandToExecute);
-				} else {
-					net.md_5.bungee.api.ProxyServer.getInstance().getPluginManager().dispatchCommand(net.md_5.bungee.api.ProxyServer.getInstance().getConsole(), commandToExecute);
-				}
-				
-				Core.getInstance().log(getClass(), LogType.DEBUG, "User '" + user.getUUID().toString() + "' redeemed the Voucher '" + this.getID() + "'.");
-				Core.getInstance().createWebhook("User '" + user.getUUID().toString() + "' redeemed the Voucher '" + this.getID() + "'.", DiscordWebHookType.STAFF_NOTIFICATION);
-				
-				user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.success", null, true);
-				
 				return true;
 			} else {
 				Core.getInstance().log(getClass(), LogType.WARNING, "Could not redeem Voucher '" + this.getID() + "' for User '" + user.getUUID().toString() + "': No rows updated.");
@@ -186,12 +235,25 @@ public final class Voucher {
 		
 	}
 	
-	/**
-	 * 
-	 * @return If this Voucher is redeemable as well as not expired
-	 * @since 1.0.19
-	 * @author Markus Peirleitner (Rengobli)
-	 */
+	private final void onRedeem(@Nonnull User user) {
+		
+		String commandToExecute = this.getCommand();
+		commandToExecute = commandToExecute.replace("{uuid}", user.getUUID().toString());
+		commandToExecute = commandToExecute.replace("{player}", user.getLastKnownName());
+		
+		if(Core.getInstance().getRunMode() == RunMode.LOCAL) {
+			org.bukkit.Bukkit.dispatchCommand(org.bukkit.Bukkit.getConsoleSender(),commandToExecute);
+		} else {
+			net.md_5.bungee.api.ProxyServer.getInstance().getPluginManager().dispatchCommand(net.md_5.bungee.api.ProxyServer.getInstance().getConsole(), commandToExecute);
+		}
+		
+		Core.getInstance().log(getClass(), LogType.DEBUG, "User '" + user.getUUID().toString() + "' redeemed the Voucher '" + this.getID() + "'.");
+		Core.getInstance().createWebhook("User '" + user.getUUID().toString() + "' redeemed the Voucher '" + this.getID() + "'.", DiscordWebHookType.STAFF_NOTIFICATION);
+		
+		user.sendMessage(Core.getInstance().getPluginName(), "command.redeem.success", null, true);
+		
+	}
+	
 	public final boolean isValid() {
 		return this.isRedeemable() && !this.isExpired() ? true : false;
 	}
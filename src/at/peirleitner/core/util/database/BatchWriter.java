@@ -0,0 +1,267 @@
+package at.peirleitner.core.util.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.util.LogType;
+
+/**
+ * Queue of elements that are written towards the database in batches on the
+ * {@link DatabaseExecutor}, either once the flush interval has passed or once
+ * the batch size has been reached. Every batch is written inside its own
+ * transaction, so an element that consists of multiple rows is either written
+ * as a whole or not at all.<br>
+ * <br>
+ * If the queue is full, the calling thread writes the queued elements itself.
+ * Elements that could not be written are retried on the next flush. If the
+ * database stays unavailable, the oldest ones are dropped once more than the
+ * queue size are waiting, see {@link #getDropped()}. {@link #shutdown()} has to
+ * be called before the {@link DatabaseExecutor} is being shut down.
+ *
+ * @param <T> Type of the elements
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class BatchWriter<T> {
+
+	/**
+	 * Adds the rows of a single element towards a batch
+	 *
+	 * @param <T> Type of the elements
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@FunctionalInterface
+	public interface Binder<T> {
+		void addBatch(@Nonnull PreparedStatement stmt, @Nonnull T element) throws SQLException;
+	}
+
+	private final String pluginName;
+	private final Class<?> owner;
+	private final String description;
+	private final String sql;
+	private final Binder<T> binder;
+	private final int batchSize;
+	private final int retryLimit;
+	private final ArrayBlockingQueue<T> queue;
+	private final AtomicBoolean flushQueued;
+
+	// Guarded by flushLock
+	private final Object flushLock = new Object();
+	private final List<T> retry;
+
+	// Statistics
+	private final LongAdder written;
+	private final LongAdder callerWrites;
+	private final LongAdder failedBatches;
+	private final LongAdder dropped;
+
+	/**
+	 *
+	 * @param pluginName    - Name of the plugin that owns this writer
+	 * @param owner         - Class that uses this writer, used for logging and
+	 *                      as the name of the flush task
+	 * @param description   - Plural name of the elements, used for logging
+	 * @param sql           - Statement that is executed as a batch
+	 * @param binder        - Adds the rows of an element towards the batch
+	 * @param queueSize     - Maximum amount of queued elements
+	 * @param batchSize     - Maximum amount of elements per batch, reaching it
+	 *                      triggers a flush
+	 * @param flushInterval - Milliseconds between two flushes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public BatchWriter(@Nonnull String pluginName, @Nonnull Class<?> owner, @Nonnull String description,
+			@Nonnull String sql, @Nonnull Binder<T> binder, @Nonnull int queueSize, @Nonnull int batchSize,
+			@Nonnull long flushInterval) {
+
+		this.pluginName = pluginName;
+		this.owner = owner;
+		this.description = description;
+		this.sql = sql;
+		this.binder = binder;
+		this.batchSize = Math.max(1, batchSize);
+		this.retryLimit = Math.max(1, queueSize);
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+		this.flushQueued = new AtomicBoolean();
+		this.retry = new ArrayList<>();
+
+		this.written = new LongAdder();
+		this.callerWrites = new LongAdder();
+		this.failedBatches = new LongAdder();
+		this.dropped = new LongAdder();
+
+		Core.getInstance().getDatabaseExecutor().repeat(owner.getSimpleName() + "#flush", this::flush,
+				Math.max(1L, flushInterval), TimeUnit.MILLISECONDS);
+
+	}
+
+	/**
+	 * Queue an element for writing
+	 *
+	 * @param element - Element
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void queue(@Nonnull T element) {
+
+		// Backpressure, the caller has to write the queue once it is full
+		while (!this.queue.offer(element)) {
+			this.callerWrites.increment();
+			this.flush();
+		}
+
+		if (this.queue.size() >= this.batchSize) {
+			this.requestFlush();
+		}
+
+	}
+
+	private final void requestFlush() {
+
+		if (!this.flushQueued.compareAndSet(false, true)) {
+			return;
+		}
+
+		Core.getInstance().getDatabaseExecutor().run(this.owner.getSimpleName() + "#flush", this::flush)
+				.whenComplete((result, throwable) -> this.flushQueued.set(false));
+
+	}
+
+	/**
+	 * Write all queued elements towards the database. Concurrent callers wait for
+	 * the running flush, so all elements queued before the call have been written
+	 * once it returns.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void flush() {
+
+		synchronized (this.flushLock) {
+
+			final List<T> batch = new ArrayList<>(this.retry);
+			this.retry.clear();
+
+			// Retried in batches as well, so a single one does not grow with the outage
+			for (int from = 0; from < batch.size(); from += this.batchSize) {
+				this.writeBatch(batch.subList(from, Math.min(batch.size(), from + this.batchSize)));
+			}
+
+			batch.clear();
+
+			while (this.queue.drainTo(batch, this.batchSize) > 0) {
+				this.writeBatch(batch);
+				batch.clear();
+			}
+
+		}
+
+	}
+
+	private final void writeBatch(@Nonnull List<T> batch) {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			connection.setAutoCommit(false);
+
+			PreparedStatement stmt = connection.prepareStatement(this.sql);
+
+			for (T element : batch) {
+				this.binder.addBatch(stmt, element);
+			}
+
+			stmt.executeBatch();
+			connection.commit();
+
+			this.written.add(batch.size());
+
+		} catch (SQLException e) {
+
+			// Uncommitted rows are rolled back once the connection is returned
+			this.failedBatches.increment();
+
+			// Keep them for the next flush, drop the oldest ones if the database stays
+			// unavailable
+			this.retry.addAll(batch);
+			final int dropped = Math.max(0, this.retry.size() - this.retryLimit);
+
+			if (dropped > 0) {
+				this.retry.subList(0, dropped).clear();
+				this.dropped.add(dropped);
+			}
+
+			Core.getInstance().log(this.pluginName, this.owner, LogType.ERROR,
+					"Could not write " + batch.size() + " " + this.description
+							+ " to Database, will retry on next flush"
+							+ (dropped > 0 ? " (Dropped " + dropped + ")" : "") + "/SQL: " + e.getMessage());
+		}
+
+	}
+
+	/**
+	 * Write all remaining elements
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+		this.flush();
+
+		synchronized (this.flushLock) {
+
+			if (!this.retry.isEmpty()) {
+				this.dropped.add(this.retry.size());
+				Core.getInstance().log(this.pluginName, this.owner, LogType.ERROR, "Lost " + this.retry.size()
+						+ " " + this.description + " that could not be written to Database.");
+			}
+
+		}
+
+	}
+
+	public final int getQueued() {
+		return this.queue.size();
+	}
+
+	public final long getWritten() {
+		return this.written.sum();
+	}
+
+	public final long getCallerWrites() {
+		return this.callerWrites.sum();
+	}
+
+	public final long getFailedBatches() {
+		return this.failedBatches.sum();
+	}
+
+	/**
+	 *
+	 * @return Amount of elements that have been dropped as they could not be
+	 *         written towards the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getDropped() {
+		return this.dropped.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "BatchWriter[owner=" + this.owner.getSimpleName() + ",queued=" + this.getQueued() + ",written="
+				+ this.getWritten() + ",callerWrites=" + this.getCallerWrites() + ",failedBatches="
+				+ this.getFailedBatches() + ",dropped=" + this.getDropped() + "]";
+	}
+
+}
@@ -0,0 +1,771 @@
+package at.peirleitner.core.util.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.util.LogType;
+
+/**
+ * Pool of JDBC connections used by {@link MySQL}. Connections are leased using
+ * {@link #lease()} and returned to the pool by calling {@link Connection#close()}
+ * on the leased connection.<br>
+ * <br>
+ * Each physical connection keeps a cache of {@link PreparedStatement}s keyed by
+ * their SQL. Statements and their {@link ResultSet}s that are still open once
+ * the lease is closed will be closed (or returned to the cache) automatically.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class ConnectionPool {
+
+	/**
+	 * Connections that have been idle for a shorter amount of time won't be
+	 * validated on lease
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private static final long VALIDATION_INTERVAL = 30_000L;
+
+	private final String pluginName;
+	private final String url;
+	private final String username;
+	private final String password;
+
+	private final int minSize;
+	private final int maxSize;
+	private final long borrowTimeout;
+	private final long idleTimeout;
+	private final long leakThreshold;
+	private final boolean leakTrace;
+	private final int validationTimeout;
+	private final int statementCacheSize;
+
+	private final LinkedBlockingDeque<PooledConnection> idle;
+	private final Set<PooledConnection> leased;
+	private final Semaphore permits;
+	private final AtomicInteger totalConnections;
+	private final ScheduledExecutorService housekeeper;
+	private volatile boolean closed;
+
+	public ConnectionPool(@Nonnull String pluginName, @Nonnull String url, @Nonnull String username,
+			@Nonnull String password, @Nonnull int minSize, @Nonnull int maxSize, @Nonnull long borrowTimeout,
+			@Nonnull long idleTimeout, @Nonnull long leakThreshold, @Nonnull boolean leakTrace,
+			@Nonnull int validationTimeout, @Nonnull int statementCacheSize) throws SQLException {
+
+		this.pluginName = pluginName;
+		this.url = url;
+		this.username = username;
+		this.password = password;
+		this.maxSize = Math.max(1, maxSize);
+		this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+		this.borrowTimeout = borrowTimeout;
+		this.idleTimeout = idleTimeout;
+		this.leakThreshold = leakThreshold;
+		this.leakTrace = leakTrace;
+		this.validationTimeout = validationTimeout;
+		this.statementCacheSize = Math.max(0, statementCacheSize);
+
+		this.idle = new LinkedBlockingDeque<>();
+		this.leased = ConcurrentHashMap.newKeySet();
+		this.permits = new Semaphore(this.maxSize, true);
+		this.totalConnections = new AtomicInteger();
+		this.closed = false;
+
+		// Fail early if the database can't be reached at all
+		this.idle.offerFirst(this.createConnection());
+		this.fill();
+
+		this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Core-ConnectionPool");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.housekeeper.scheduleWithFixedDelay(this::housekeep, 30L, 30L, TimeUnit.SECONDS);
+
+	}
+
+	/**
+	 * Lease a connection from the pool. It has to be returned by calling
+	 * {@link Connection#close()}, preferably using try-with-resources.
+	 *
+	 * @return Leased connection
+	 * @throws SQLException If no connection could be leased within the borrow
+	 *                      timeout or a new connection could not be created
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Connection lease() throws SQLException {
+
+		if (this.closed) {
+			throw new SQLException("Connection pool has been closed");
+		}
+
+		try {
+			if (!this.permits.tryAcquire(this.borrowTimeout, TimeUnit.MILLISECONDS)) {
+				throw new SQLTimeoutException("Could not lease a connection within " + this.borrowTimeout
+						+ "ms (" + this.leased.size() + "/" + this.maxSize + " leased)");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a connection", e);
+		}
+
+		try {
+
+			PooledConnection pc;
+
+			while ((pc = this.idle.pollFirst()) != null) {
+
+				if (this.isValid(pc)) {
+					break;
+				}
+
+				this.discard(pc);
+
+			}
+
+			if (pc == null) {
+				pc = this.createConnection();
+			}
+
+			pc.lease(this.leakThreshold > 0 && this.leakTrace);
+			this.leased.add(pc);
+
+			return pc.createProxy();
+
+		} catch (SQLException | RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+
+	}
+
+	private final void release(@Nonnull PooledConnection pc) {
+
+		this.leased.remove(pc);
+
+		try {
+
+			if (this.closed || pc.getConnection().isClosed()) {
+				this.discard(pc);
+				return;
+			}
+
+			// Don't hand out connections with pending transactions
+			if (!pc.getConnection().getAutoCommit()) {
+				pc.getConnection().rollback();
+				pc.getConnection().setAutoCommit(true);
+			}
+
+			pc.setLastUsed(System.currentTimeMillis());
+			this.idle.offerFirst(pc);
+
+		} catch (SQLException e) {
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING,
+					"Discarding connection that could not be reset: " + e.getMessage());
+			this.discard(pc);
+		} finally {
+			this.permits.release();
+		}
+
+	}
+
+	private final boolean isValid(@Nonnull PooledConnection pc) {
+
+		try {
+
+			if (pc.getConnection().isClosed()) {
+				return false;
+			}
+
+			if (System.currentTimeMillis() - pc.getLastUsed() < VALIDATION_INTERVAL) {
+				return true;
+			}
+
+			return pc.getConnection().isValid(this.validationTimeout);
+
+		} catch (SQLException e) {
+			return false;
+		}
+
+	}
+
+	private final PooledConnection createConnection() throws SQLException {
+		Connection connection = DriverManager.getConnection(this.url, this.username, this.password);
+		this.totalConnections.incrementAndGet();
+		return new PooledConnection(connection);
+	}
+
+	private final void discard(@Nonnull PooledConnection pc) {
+
+		this.totalConnections.decrementAndGet();
+
+		try {
+			pc.getConnection().close();
+		} catch (SQLException e) {
+			// Connection is gone anyway
+		}
+
+	}
+
+	/**
+	 * Create new idle connections until {@link #getMinSize()} has been reached
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final void fill() {
+
+		while (!this.closed && this.totalConnections.get() < this.minSize) {
+
+			try {
+				this.idle.offerLast(this.createConnection());
+			} catch (SQLException e) {
+				Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING,
+						"Could not create idle connection: " + e.getMessage());
+				return;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Evict idle connections, report leaked connections and refill the pool
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final void housekeep() {
+
+		final long now = System.currentTimeMillis();
+
+		// Idle eviction, oldest connections are at the end of the deque
+		for (Iterator<PooledConnection> it = this.idle.descendingIterator(); it.hasNext();) {
+
+			PooledConnection pc = it.next();
+
+			if (this.totalConnections.get() <= this.minSize) {
+				break;
+			}
+
+			if (now - pc.getLastUsed() > this.idleTimeout && this.idle.removeLastOccurrence(pc)) {
+				this.discard(pc);
+			}
+
+		}
+
+		// Leak detection
+		if (this.leakThreshold > 0) {
+
+			for (PooledConnection pc : this.leased) {
+
+				if (!pc.isLeakReported() && now - pc.getLeasedAt() > this.leakThreshold) {
+
+					pc.setLeakReported(true);
+					Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING,
+							"Possible connection leak: Connection has been leased by thread '" + pc.getLeaseThread()
+									+ "' " + (now - pc.getLeasedAt()) + "ms ago and has not been returned yet."
+									+ (pc.getLeaseTrace() == null ? ""
+											: " Leased at:" + this.toString(pc.getLeaseTrace())));
+
+				}
+
+			}
+
+		}
+
+		this.fill();
+
+	}
+
+	private final String toString(@Nonnull Throwable trace) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		for (StackTraceElement element : trace.getStackTrace()) {
+			sb.append("\n\tat ").append(element);
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Close all idle connections and stop accepting leases. Leased connections
+	 * will be closed once they are returned.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void close() {
+
+		this.closed = true;
+		this.housekeeper.shutdownNow();
+
+		PooledConnection pc;
+
+		while ((pc = this.idle.pollFirst()) != null) {
+			this.discard(pc);
+		}
+
+	}
+
+	public final boolean isClosed() {
+		return this.closed;
+	}
+
+	public final int getMinSize() {
+		return this.minSize;
+	}
+
+	public final int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 *
+	 * @return Amount of physical connections, idle and leased
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getTotalConnections() {
+		return this.totalConnections.get();
+	}
+
+	public final int getIdleConnections() {
+		return this.idle.size();
+	}
+
+	public final int getLeasedConnections() {
+		return this.leased.size();
+	}
+
+	/**
+	 *
+	 * @return Maximum amount of cached statements per connection, <code>0</code>
+	 *         if caching is disabled
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getStatementCacheSize() {
+		return this.statementCacheSize;
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPool[total=" + this.getTotalConnections() + ",idle=" + this.getIdleConnections()
+				+ ",leased=" + this.getLeasedConnections() + ",min=" + this.getMinSize() + ",max="
+				+ this.getMaxSize() + "]";
+	}
+
+	/**
+	 * Physical connection that is managed by the pool
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final class PooledConnection {
+
+		private final Connection connection;
+		private final Map<String, CachedStatement> statements;
+		private volatile long lastUsed;
+		private volatile long leasedAt;
+		private volatile String leaseThread;
+		private volatile Throwable leaseTrace;
+		private volatile boolean leakReported;
+
+		private PooledConnection(@Nonnull Connection connection) {
+			this.connection = connection;
+			this.lastUsed = System.currentTimeMillis();
+
+			// Least recently used statements are closed once the cache is full
+			this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+
+					if (this.size() <= statementCacheSize) {
+						return false;
+					}
+
+					CachedStatement cs = eldest.getValue();
+					cs.setEvicted(true);
+
+					if (!cs.isInUse()) {
+						cs.closeQuietly();
+					}
+
+					return true;
+				}
+
+			};
+		}
+
+		/**
+		 *
+		 * @param sql   - SQL of the statement
+		 * @param proxy - Leased connection
+		 * @return Cached statement or a new statement if the cached one is already in
+		 *         use by this lease
+		 * @throws SQLException If the statement could not be prepared
+		 */
+		private final PreparedStatement prepareCached(@Nonnull String sql, @Nonnull Connection proxy)
+				throws SQLException {
+
+			synchronized (this.statements) {
+
+				CachedStatement cs = this.statements.get(sql);
+
+				if (cs != null && cs.isInUse()) {
+					return this.connection.prepareStatement(sql);
+				}
+
+				if (cs == null || cs.getStatement().isClosed()) {
+					cs = new CachedStatement(this.connection.prepareStatement(sql));
+					this.statements.put(sql, cs);
+				}
+
+				cs.setInUse(true);
+				return cs.createProxy(this, proxy);
+			}
+
+		}
+
+		/**
+		 * Return a statement to the cache
+		 *
+		 * @param cs       - Statement
+		 * @param reusable - If the statement could be reset and may be handed out again
+		 */
+		private final void returnStatement(@Nonnull CachedStatement cs, boolean reusable) {
+
+			synchronized (this.statements) {
+
+				cs.setInUse(false);
+
+				if (cs.isEvicted() || !reusable) {
+					cs.setEvicted(true);
+					this.statements.values().remove(cs);
+					cs.closeQuietly();
+				}
+
+			}
+
+		}
+
+		private final void lease(boolean trace) {
+			this.leasedAt = System.currentTimeMillis();
+			this.leaseThread = Thread.currentThread().getName();
+			this.leaseTrace = trace ? new Throwable("Connection leased here") : null;
+			this.leakReported = false;
+		}
+
+		/**
+		 *
+		 * @return Connection that delegates towards the physical connection and will
+		 *         be returned to the pool on {@link Connection#close()}
+		 */
+		private final Connection createProxy() {
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[] { Connection.class }, new LeaseHandler(this));
+		}
+
+		private final Connection getConnection() {
+			return connection;
+		}
+
+		private final long getLastUsed() {
+			return lastUsed;
+		}
+
+		private final void setLastUsed(long lastUsed) {
+			this.lastUsed = lastUsed;
+		}
+
+		private final long getLeasedAt() {
+			return leasedAt;
+		}
+
+		private final String getLeaseThread() {
+			return leaseThread;
+		}
+
+		private final Throwable getLeaseTrace() {
+			return leaseTrace;
+		}
+
+		private final boolean isLeakReported() {
+			return leakReported;
+		}
+
+		private final void setLeakReported(boolean leakReported) {
+			this.leakReported = leakReported;
+		}
+
+	}
+
+	/**
+	 * Prepared statement that stays open after being closed by the caller, so that
+	 * it can be handed out again for the same SQL
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private static final class CachedStatement {
+
+		private final PreparedStatement statement;
+		private boolean inUse;
+		private boolean evicted;
+
+		private CachedStatement(@Nonnull PreparedStatement statement) {
+			this.statement = statement;
+		}
+
+		private final PreparedStatement createProxy(@Nonnull PooledConnection pc, @Nonnull Connection connection) {
+			return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, new StatementHandler(pc, this, connection));
+		}
+
+		private final void closeQuietly() {
+
+			try {
+				this.statement.close();
+			} catch (SQLException e) {
+				// Statement is gone anyway
+			}
+
+		}
+
+		private final PreparedStatement getStatement() {
+			return statement;
+		}
+
+		private final boolean isInUse() {
+			return inUse;
+		}
+
+		private final void setInUse(boolean inUse) {
+			this.inUse = inUse;
+		}
+
+		private final boolean isEvicted() {
+			return evicted;
+		}
+
+		private final void setEvicted(boolean evicted) {
+			this.evicted = evicted;
+		}
+
+	}
+
+	/**
+	 * Handler of a single usage of a {@link CachedStatement}. Closing it will close
+	 * the last {@link ResultSet}, reset the parameters and return the statement to
+	 * the cache.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private static final class StatementHandler implements InvocationHandler {
+
+		private final PooledConnection pc;
+		private final CachedStatement cs;
+		private final Connection connection;
+		private ResultSet resultSet;
+		private boolean returned;
+
+		private StatementHandler(@Nonnull PooledConnection pc, @Nonnull CachedStatement cs,
+				@Nonnull Connection connection) {
+			this.pc = pc;
+			this.cs = cs;
+			this.connection = connection;
+			this.returned = false;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			switch (method.getName()) {
+			case "close":
+				if (!this.returned) {
+					this.returned = true;
+					this.pc.returnStatement(this.cs, this.reset());
+				}
+				return null;
+			case "isClosed":
+				return this.returned || this.cs.getStatement().isClosed();
+			case "getConnection":
+				return this.connection;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "CachedStatement[" + this.cs.getStatement().toString() + "]";
+			default:
+				break;
+			}
+
+			if (this.returned) {
+				throw new SQLException("Statement has already been closed");
+			}
+
+			try {
+
+				Object result = method.invoke(this.cs.getStatement(), args);
+
+				// Previous results are closed by the driver on the next execution
+				if (result instanceof ResultSet) {
+					this.resultSet = (ResultSet) result;
+				}
+
+				return result;
+
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+		}
+
+		/**
+		 *
+		 * @return If the statement could be reset and can be used again
+		 */
+		private final boolean reset() {
+
+			try {
+
+				if (this.resultSet != null) {
+					this.resultSet.close();
+					this.resultSet = null;
+				}
+
+				this.cs.getStatement().clearParameters();
+				this.cs.getStatement().clearBatch();
+				return true;
+
+			} catch (SQLException e) {
+				return false;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Handler of a single lease. Once closed, the connection can't be used using
+	 * this lease anymore.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	private final class LeaseHandler implements InvocationHandler {
+
+		private final PooledConnection pc;
+		private final List<Statement> statements;
+		private boolean returned;
+
+		private LeaseHandler(@Nonnull PooledConnection pc) {
+			this.pc = pc;
+			this.statements = new ArrayList<>();
+			this.returned = false;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			switch (method.getName()) {
+			case "close":
+				if (!this.returned) {
+					this.returned = true;
+					this.closeStatements();
+					release(this.pc);
+				}
+				return null;
+			case "isClosed":
+				return this.returned || this.pc.getConnection().isClosed();
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "LeasedConnection[" + this.pc.getConnection().toString() + "]";
+			default:
+				break;
+			}
+
+			if (this.returned) {
+				throw new SQLException("Connection has already been returned to the pool");
+			}
+
+			if (statementCacheSize > 0 && method.getName().equals("prepareStatement") && args.length == 1) {
+				PreparedStatement stmt = this.pc.prepareCached((String) args[0], (Connection) proxy);
+				this.statements.add(stmt);
+				return stmt;
+			}
+
+			try {
+
+				Object result = method.invoke(this.pc.getConnection(), args);
+
+				// Statements that have not been closed by the caller are closed on return
+				if (result instanceof Statement) {
+					this.statements.add((Statement) result);
+				}
+
+				return result;
+
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+		}
+
+		private final void closeStatements() {
+
+			for (Statement stmt : this.statements) {
+
+				try {
+					stmt.close();
+				} catch (SQLException e) {
+					// Statement is gone anyway
+				}
+
+			}
+
+			this.statements.clear();
+
+		}
+
+	}
+
+}
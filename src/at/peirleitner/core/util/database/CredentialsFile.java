@@ -29,6 +29,14 @@ public class CredentialsFile {
 				bw.write("\nusername: root");
 				bw.write("\npassword: passy");
 				bw.write("\ntable-prefix: core_");
+				bw.write("\npool-min-size: 2");
+				bw.write("\npool-max-size: 10");
+				bw.write("\npool-borrow-timeout: 5000");
+				bw.write("\npool-idle-timeout: 600000");
+				bw.write("\npool-leak-threshold: 30000");
+				bw.write("\npool-leak-trace: false");
+				bw.write("\npool-validation-timeout: 3");
+				bw.write("\npool-statement-cache-size: 64");
 				bw.close();
 
 				Core.getInstance().log(pluginName, null, LogType.DEBUG, "Successfully created a new MySQL Data file.");
@@ -0,0 +1,332 @@
+package at.peirleitner.core.util.database;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.SpigotMain;
+import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.RunMode;
+
+/**
+ * Bounded executor that runs blocking database tasks off the main thread. All
+ * <code>*Async</code> methods of the systems are executed using this
+ * executor.<br>
+ * <br>
+ * Results that have to be processed on the main thread (ex. sending messages
+ * or opening GUIs) can be handed over using {@link #getMainThreadExecutor()}:
+ *
+ * <pre>
+ * Core.getInstance().getUserSystem().getUserAsync(uuid).thenAcceptAsync(user -> {
+ * 	// ..
+ * }, Core.getInstance().getDatabaseExecutor().getMainThreadExecutor());
+ * </pre>
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class DatabaseExecutor {
+
+	private final String pluginName;
+	private final ThreadPoolExecutor executor;
+	private final ScheduledExecutorService scheduler;
+	private final Executor mainThreadExecutor;
+	private final long slowTaskThreshold;
+
+	// Statistics
+	private final LongAdder submitted;
+	private final LongAdder completed;
+	private final LongAdder failed;
+	private final LongAdder rejected;
+	private final LongAdder totalWaitTime;
+	private final LongAdder totalRunTime;
+	private final AtomicLong maxRunTime;
+
+	/**
+	 *
+	 * @param pluginName        - Name of the plugin that owns this executor
+	 * @param threads           - Amount of worker threads, should not exceed the
+	 *                          size of the {@link ConnectionPool}
+	 * @param queueSize         - Maximum amount of waiting tasks
+	 * @param slowTaskThreshold - Tasks running longer than this amount of
+	 *                          milliseconds will be logged
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public DatabaseExecutor(@Nonnull String pluginName, @Nonnull int threads, @Nonnull int queueSize,
+			@Nonnull long slowTaskThreshold) {
+
+		this.pluginName = pluginName;
+		this.slowTaskThreshold = slowTaskThreshold;
+
+		this.submitted = new LongAdder();
+		this.completed = new LongAdder();
+		this.failed = new LongAdder();
+		this.rejected = new LongAdder();
+		this.totalWaitTime = new LongAdder();
+		this.totalRunTime = new LongAdder();
+		this.maxRunTime = new AtomicLong();
+
+		final AtomicInteger counter = new AtomicInteger();
+		final int size = Math.max(1, threads);
+
+		this.executor = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueSize)), runnable -> {
+					Thread thread = new Thread(runnable, "Core-Database-" + counter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+
+		// Only triggers repeating tasks, they are run by the executor itself
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Core-Database-Scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.mainThreadExecutor = runnable -> {
+
+			// The proxy doesn't have a main thread
+			if (Core.getInstance().getRunMode() != RunMode.LOCAL || org.bukkit.Bukkit.isPrimaryThread()) {
+				runnable.run();
+				return;
+			}
+
+			try {
+				org.bukkit.Bukkit.getScheduler().runTask(SpigotMain.getInstance(), runnable);
+			} catch (org.bukkit.plugin.IllegalPluginAccessException e) {
+				// Plugin is being disabled, no more ticks will follow
+				runnable.run();
+			}
+
+		};
+
+	}
+
+	/**
+	 * Run a task on the database executor
+	 *
+	 * @param name - Name of the task, used for logging
+	 * @param task - Task
+	 * @return Future that will be completed with the result of the task. If the
+	 *         queue is full, it will be completed exceptionally with a
+	 *         {@link RejectedExecutionException}.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final <T> CompletableFuture<T> supply(@Nonnull String name, @Nonnull Supplier<T> task) {
+
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final long queued = System.nanoTime();
+
+		try {
+
+			this.executor.execute(() -> {
+
+				final long started = System.nanoTime();
+				this.totalWaitTime.add(started - queued);
+
+				try {
+					T result = task.get();
+					this.completed.increment();
+					future.complete(result);
+				} catch (Throwable t) {
+					this.failed.increment();
+					Core.getInstance().log(this.pluginName, this.getClass(), LogType.ERROR,
+							"Database task '" + name + "' failed: " + t.toString());
+					future.completeExceptionally(t);
+				} finally {
+					this.record(name, queued, started);
+				}
+
+			});
+
+			this.submitted.increment();
+
+		} catch (RejectedExecutionException e) {
+			this.rejected.increment();
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING, "Rejected database task '"
+					+ name + "': " + (this.executor.isShutdown() ? "Executor has been shut down." : "Queue is full."));
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 *
+	 * @param name - Name of the task, used for logging
+	 * @param task - Task
+	 * @return Future that will be completed once the task has finished
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #supply(String, Supplier)
+	 */
+	public final CompletableFuture<Void> run(@Nonnull String name, @Nonnull Runnable task) {
+		return this.supply(name, () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Repeatedly submit a task towards the database executor. A run will be
+	 * skipped if the previous one is still queued or running.
+	 *
+	 * @param name   - Name of the task, used for logging
+	 * @param task   - Task
+	 * @param period - Period between two runs
+	 * @param unit   - Unit of the period
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void repeat(@Nonnull String name, @Nonnull Runnable task, @Nonnull long period,
+			@Nonnull TimeUnit unit) {
+
+		final AtomicBoolean running = new AtomicBoolean();
+
+		this.scheduler.scheduleWithFixedDelay(() -> {
+
+			if (!running.compareAndSet(false, true)) {
+				return;
+			}
+
+			this.run(name, task).whenComplete((result, throwable) -> running.set(false));
+
+		}, period, period, unit);
+
+	}
+
+	private final void record(@Nonnull String name, long queued, long started) {
+
+		final long runTime = System.nanoTime() - started;
+		this.totalRunTime.add(runTime);
+		this.maxRunTime.accumulateAndGet(runTime, Math::max);
+
+		final long runMillis = TimeUnit.NANOSECONDS.toMillis(runTime);
+
+		if (this.slowTaskThreshold > 0 && runMillis >= this.slowTaskThreshold) {
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING,
+					"Slow database task '" + name + "': Took " + runMillis + "ms after waiting "
+							+ TimeUnit.NANOSECONDS.toMillis(started - queued) + "ms in the queue.");
+		}
+
+	}
+
+	/**
+	 *
+	 * @return Executor that runs tasks on the server main thread. On the proxy
+	 *         the tasks will be run directly.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Executor getMainThreadExecutor() {
+		return this.mainThreadExecutor;
+	}
+
+	/**
+	 * Stop accepting new tasks and wait for queued tasks to finish
+	 *
+	 * @param timeout - Maximum amount of milliseconds to wait
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown(@Nonnull long timeout) {
+
+		this.scheduler.shutdownNow();
+		this.executor.shutdown();
+
+		try {
+
+			if (!this.executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+				Core.getInstance().log(this.pluginName, this.getClass(), LogType.WARNING,
+						"Database tasks did not finish within " + timeout + "ms, cancelling "
+								+ this.executor.shutdownNow().size() + " queued tasks.");
+			}
+
+		} catch (InterruptedException e) {
+			this.executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+
+	}
+
+	public final boolean isShutdown() {
+		return this.executor.isShutdown();
+	}
+
+	public final int getQueuedTasks() {
+		return this.executor.getQueue().size();
+	}
+
+	public final int getActiveTasks() {
+		return this.executor.getActiveCount();
+	}
+
+	public final long getSubmittedTasks() {
+		return this.submitted.sum();
+	}
+
+	public final long getCompletedTasks() {
+		return this.completed.sum();
+	}
+
+	public final long getFailedTasks() {
+		return this.failed.sum();
+	}
+
+	public final long getRejectedTasks() {
+		return this.rejected.sum();
+	}
+
+	/**
+	 *
+	 * @return Average amount of milliseconds a task has been waiting inside the
+	 *         queue
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final double getAverageWaitTime() {
+		final long finished = this.getCompletedTasks() + this.getFailedTasks();
+		return finished == 0 ? 0.0 : this.totalWaitTime.sum() / 1_000_000.0 / finished;
+	}
+
+	/**
+	 *
+	 * @return Average amount of milliseconds a task has been running
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final double getAverageRunTime() {
+		final long finished = this.getCompletedTasks() + this.getFailedTasks();
+		return finished == 0 ? 0.0 : this.totalRunTime.sum() / 1_000_000.0 / finished;
+	}
+
+	public final long getMaxRunTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxRunTime.get());
+	}
+
+	@Override
+	public String toString() {
+		return "DatabaseExecutor[threads=" + this.executor.getMaximumPoolSize() + ",active=" + this.getActiveTasks()
+				+ ",queued=" + this.getQueuedTasks() + ",completed=" + this.getCompletedTasks() + ",failed="
+				+ this.getFailedTasks() + ",rejected=" + this.getRejectedTasks() + ",avgWait="
+				+ String.format("%.2f", this.getAverageWaitTime()) + "ms,avgRun="
+				+ String.format("%.2f", this.getAverageRunTime()) + "ms,maxRun=" + this.getMaxRunTime() + "ms]";
+	}
+
+}
@@ -26,7 +26,19 @@ public final class MySQL {
 	private String pluginName, host, database, username, password, tablePrefix;
 	private int port;
 
+	// Pool settings (v1.0.19)
+	private int poolMinSize = 2;
+	private int poolMaxSize = 10;
+	private long poolBorrowTimeout = 5000L;
+	private long poolIdleTimeout = 600_000L;
+	private long poolLeakThreshold = 30_000L;
+	private boolean poolLeakTrace = false;
+	private int poolValidationTimeout = 3;
+	private int poolStatementCacheSize = 64;
+
+	private ConnectionPool pool;
 	private Connection connection;
+	private volatile String[] tableNames;
 
 	public MySQL(@Nonnull String pluginName, @Nonnull String host, @Nonnull String database, @Nonnull int port,
 			@Nonnull String username, @Nonnull String password, @Nonnull String tablePrefix) {
@@ -77,6 +89,30 @@ public final class MySQL {
 
 				} else if (s.startsWith("table-prefix: ")) {
 					this.tablePrefix = s.replace("table-prefix: ", "");
+
+				} else if (s.startsWith("pool-min-size: ")) {
+					this.poolMinSize = Integer.valueOf(s.replace("pool-min-size: ", ""));
+
+				} else if (s.startsWith("pool-max-size: ")) {
+					this.poolMaxSize = Integer.valueOf(s.replace("pool-max-size: ", ""));
+
+				} else if (s.startsWith("pool-borrow-timeout: ")) {
+					this.poolBorrowTimeout = Long.valueOf(s.replace("pool-borrow-timeout: ", ""));
+
+				} else if (s.startsWith("pool-idle-timeout: ")) {
+					this.poolIdleTimeout = Long.valueOf(s.replace("pool-idle-timeout: ", ""));
+
+				} else if (s.startsWith("pool-leak-threshold: ")) {
+					this.poolLeakThreshold = Long.valueOf(s.replace("pool-leak-threshold: ", ""));
+
+				} else if (s.startsWith("pool-leak-trace: ")) {
+					this.poolLeakTrace = Boolean.valueOf(s.replace("pool-leak-trace: ", ""));
+
+				} else if (s.startsWith("pool-validation-timeout: ")) {
+					this.poolValidationTimeout = Integer.valueOf(s.replace("pool-validation-timeout: ", ""));
+
+				} else if (s.startsWith("pool-statement-cache-size: ")) {
+					this.poolStatementCacheSize = Integer.valueOf(s.replace("pool-statement-cache-size: ", ""));
 				}
 
 			}
@@ -87,6 +123,9 @@ public final class MySQL {
 			Core.getInstance().log(pluginName, this.getClass(), LogType.ERROR,
 					"Could not create MySQL Instance: Error on closing reader: "
 							+ e.getMessage());
+		} catch (NumberFormatException e) {
+			Core.getInstance().log(pluginName, this.getClass(), LogType.WARNING,
+					"Invalid number inside MySQL Data file, using default values for the rest: " + e.getMessage());
 		}
 
 		this.connect();
@@ -105,32 +144,116 @@ public final class MySQL {
 	
 	public final void setTablePrefix(@Nonnull String prefix) {
 		this.tablePrefix = prefix;
+
+		if (this.isConnected()) {
+			this.updateTableNames();
+		}
+
 	}
 
 	/**
 	 * 
-	 * @return Connection
-	 * @since 1.0.0
+	 * @param tableType - TableType
+	 * @return Name of the table including the {@link #getTablePrefix()}
+	 * @since 1.0.19
 	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote The names are built once the connection has been established, the
+	 *          prefix will be <code>NOT_CONNECTED_</code> before.
 	 */
-	public final Connection getConnection() {
-		return this.connection;
+	public final String getTableName(@Nonnull TableType tableType) {
+
+		final String[] names = this.tableNames;
+
+		return names == null ? "NOT_CONNECTED_" + tableType.getTableName(false) : names[tableType.ordinal()];
+	}
+
+	private final void updateTableNames() {
+
+		final TableType[] types = TableType.values();
+		final String[] names = new String[types.length];
+
+		for (TableType tableType : types) {
+			names[tableType.ordinal()] = this.tablePrefix + tableType.getTableName(false);
+		}
+
+		this.tableNames = names;
 	}
 
 	/**
 	 * 
-	 * @return If this connection is established
+	 * @return Connection that is shared across all callers
 	 * @since 1.0.0
 	 * @author Markus Peirleitner (Rengobli)
+	 * @deprecated Since v1.0.19 all systems {@link #lease()} a connection from the
+	 *             {@link ConnectionPool}. This connection is only kept for plugins
+	 *             that have not been migrated yet and will be opened on first use.
 	 */
-	public final boolean isConnected() {
+	@Deprecated
+	public final synchronized Connection getConnection() {
+
 		try {
-			return this.connection != null && !connection.isClosed() ? true : false;
+
+			if (this.connection == null || this.connection.isClosed()) {
+				this.connection = DriverManager.getConnection(this.getURL() + "?autoReconnect=true", username,
+						password);
+			}
+
 		} catch (SQLException e) {
 			Core.getInstance().log(pluginName, this.getClass(), LogType.ERROR,
-					"Could not check for database connection: " + e.getMessage());
-			return false;
+					"Could not open shared database connection: " + e.getMessage());
 		}
+
+		return this.connection;
+	}
+
+	/**
+	 * Lease a connection from the {@link ConnectionPool}. The connection has to be
+	 * closed after usage to return it to the pool:
+	 * 
+	 * <pre>
+	 * try (Connection connection = Core.getInstance().getMySQL().lease()) {
+	 * 	// ..
+	 * }
+	 * </pre>
+	 * 
+	 * @return Leased connection
+	 * @throws SQLException If the pool is not available or no connection could be
+	 *                      leased within the borrow timeout
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Connection lease() throws SQLException {
+
+		if (this.pool == null) {
+			throw new SQLException("Not connected to the MySQL Database");
+		}
+
+		return this.pool.lease();
+	}
+
+	/**
+	 * 
+	 * @return Connection pool or <code>null</code> if the connection could not be
+	 *         established
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final ConnectionPool getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * 
+	 * @return If this connection is established
+	 * @since 1.0.0
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean isConnected() {
+		return this.pool != null && !this.pool.isClosed();
+	}
+
+	private final String getURL() {
+		return "jdbc:mysql://" + host + ":" + port + "/" + database;
 	}
 
 	/**
@@ -144,10 +267,18 @@ public final class MySQL {
 
 		try {
 
-			this.connection = DriverManager.getConnection(
-					"jdbc:mysql://" + host + ":" + port + "/" + database + "?autoReconnect=true", username, password);
+			// Cached statements are prepared on the server once and reused afterwards,
+			// batches are sent as multi-row statements
+			final String url = this.getURL() + "?rewriteBatchedStatements=true"
+					+ (poolStatementCacheSize > 0 ? "&useServerPrepStmts=true" : "");
+
+			this.pool = new ConnectionPool(pluginName, url, username, password, poolMinSize, poolMaxSize,
+					poolBorrowTimeout, poolIdleTimeout, poolLeakThreshold, poolLeakTrace, poolValidationTimeout,
+					poolStatementCacheSize);
+			this.updateTableNames();
 			Core.getInstance().log(pluginName, this.getClass(), LogType.DEBUG,
-					"Successfully connected to the MySQL Database " + database + ".");
+					"Successfully connected to the MySQL Database " + database + " using " + this.pool.toString()
+							+ ".");
 			return true;
 		} catch (SQLException e) {
 			Core.getInstance().log(pluginName, this.getClass(), LogType.ERROR,
@@ -167,8 +298,13 @@ public final class MySQL {
 	public final boolean close() {
 
 		try {
+
 			if (connection != null && !connection.isClosed()) {
 				connection.close();
+			}
+
+			if (pool != null && !pool.isClosed()) {
+				pool.close();
 				Core.getInstance().log(pluginName, this.getClass(), LogType.INFO, "Successfully closed MySQL Database connection.");
 				return true;
 			} else {
@@ -0,0 +1,418 @@
+package at.peirleitner.core.util.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.system.StatSystem;
+import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.user.UserStatisticMap;
+
+/**
+ * Write-behind buffer for {@link StatSystem#addStatistic(UUID,
+ * at.peirleitner.core.util.user.AvailableUserStatistic, int)}. Increments are
+ * merged per User and Statistic in memory and written towards the database as
+ * one batch, either once the flush interval has passed or once the amount of
+ * pending entries reaches the flush threshold.<br>
+ * <br>
+ * Pending increments of a User should be written using {@link #flush(UUID)} on
+ * disconnect, all remaining ones using {@link #shutdown()} before the
+ * {@link DatabaseExecutor} is being shut down.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class StatisticBuffer {
+
+	private final String pluginName;
+	private final String sql;
+	private final int threshold;
+	private final ConcurrentHashMap<Key, Pending> pending;
+	private final AtomicBoolean flushQueued;
+	private final AtomicLong writesStarted;
+	private final AtomicLong writesFinished;
+
+	// Statistics
+	private final LongAdder flushes;
+	private final LongAdder writtenRows;
+	private final LongAdder failedFlushes;
+
+	/**
+	 *
+	 * @param pluginName - Name of the plugin that owns this buffer
+	 * @param table      - Table name of {@link TableType#STATISTICS_USER}
+	 * @param interval   - Amount of seconds between two flushes
+	 * @param threshold  - Amount of pending entries that will trigger a flush
+	 *                   before the interval has passed
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public StatisticBuffer(@Nonnull String pluginName, @Nonnull String table, @Nonnull int interval,
+			@Nonnull int threshold) {
+
+		this.pluginName = pluginName;
+		this.threshold = Math.max(1, threshold);
+		this.pending = new ConcurrentHashMap<>();
+		this.flushQueued = new AtomicBoolean();
+		this.writesStarted = new AtomicLong();
+		this.writesFinished = new AtomicLong();
+
+		this.flushes = new LongAdder();
+		this.writtenRows = new LongAdder();
+		this.failedFlushes = new LongAdder();
+
+		// Parameter-free update clause, allows the driver to rewrite the batch into
+		// one multi-row insert
+		this.sql = "INSERT INTO " + table + " (uuid, statistic, amount, firstAdded, lastAdded) VALUES (?, ?, ?, ?, ?)"
+				+ " ON DUPLICATE KEY UPDATE amount = (amount + VALUES(amount)),"
+				+ " lastAdded = GREATEST(lastAdded, VALUES(lastAdded))";
+
+		Core.getInstance().getDatabaseExecutor().repeat("StatisticBuffer#flush", this::flush, Math.max(1, interval),
+				TimeUnit.SECONDS);
+
+	}
+
+	/**
+	 * Add an increment towards the buffer
+	 *
+	 * @param uuid      - UUID of the User
+	 * @param statistic - ID of the Statistic
+	 * @param amount    - Amount
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void add(@Nonnull UUID uuid, @Nonnull int statistic, @Nonnull int amount) {
+
+		final long now = System.currentTimeMillis();
+
+		// compute() locks only the bin of this key, concurrent increments on other
+		// keys won't block each other
+		this.pending.compute(new Key(uuid, statistic), (key, entry) -> {
+
+			if (entry == null) {
+				entry = new Pending(now);
+			}
+
+			entry.amount += amount;
+			entry.lastAdded = now;
+			return entry;
+		});
+
+		if (this.pending.size() >= this.threshold) {
+			this.requestFlush();
+		}
+
+	}
+
+	/**
+	 *
+	 * @param uuid      - UUID of the User
+	 * @param statistic - ID of the Statistic
+	 * @return Amount that has been added but not yet been written towards the
+	 *         database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getPendingAmount(@Nonnull UUID uuid, @Nonnull int statistic) {
+		Pending entry = this.pending.get(new Key(uuid, statistic));
+		return entry == null ? 0 : entry.amount;
+	}
+
+	/**
+	 * Add all pending increments of a User towards the given map
+	 *
+	 * @param uuid   - UUID of the User
+	 * @param target - Map that will receive the increments
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void applyPending(@Nonnull UUID uuid, @Nonnull UserStatisticMap target) {
+
+		for (Map.Entry<Key, Pending> e : this.pending.entrySet()) {
+
+			if (e.getKey().uuid.equals(uuid)) {
+				this.applyPending(e.getKey().statistic, e.getValue(), target);
+			}
+
+		}
+
+	}
+
+	/**
+	 * Add the pending increments of a single Statistic of a User towards the
+	 * given map
+	 *
+	 * @param uuid      - UUID of the User
+	 * @param statistic - ID of the Statistic
+	 * @param target    - Map that will receive the increments
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void applyPending(@Nonnull UUID uuid, @Nonnull int statistic, @Nonnull UserStatisticMap target) {
+
+		final Pending entry = this.pending.get(new Key(uuid, statistic));
+
+		if (entry != null) {
+			this.applyPending(statistic, entry, target);
+		}
+
+	}
+
+	private final void applyPending(int statistic, @Nonnull Pending entry, @Nonnull UserStatisticMap target) {
+
+		// Statistics that have never been written start with their first increment
+		if (target.contains(statistic)) {
+			target.add(statistic, (int) entry.amount, entry.lastAdded);
+		} else {
+			target.put(statistic, (int) entry.amount, entry.firstAdded, entry.lastAdded);
+		}
+
+	}
+
+	/**
+	 * Queue a flush on the {@link DatabaseExecutor} unless one is already queued
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void requestFlush() {
+
+		if (this.pending.isEmpty() || !this.flushQueued.compareAndSet(false, true)) {
+			return;
+		}
+
+		Core.getInstance().getDatabaseExecutor().run("StatisticBuffer#flush", this::flush)
+				.whenComplete((result, throwable) -> this.flushQueued.set(false));
+
+	}
+
+	/**
+	 * Write all pending increments towards the database. This will block until
+	 * the batch has been executed.
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void flush() {
+		this.flush(null);
+	}
+
+	/**
+	 * Write all pending increments of the given User towards the database. This
+	 * will block until the batch has been executed.
+	 *
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void flush(@Nonnull UUID uuid) {
+
+		// Drained increments are neither pending nor written until this is finished
+		this.writesStarted.incrementAndGet();
+
+		try {
+			this.write(this.drain(uuid));
+		} finally {
+			this.writesFinished.incrementAndGet();
+		}
+
+	}
+
+	/**
+	 * Used to detect if pending increments have been drained while the database
+	 * has been read. If the version is the same before and after reading, no
+	 * increment has been moved from this buffer towards the database meanwhile.
+	 * 
+	 * @return Amount of started writes or <code>-1</code> if a write is still in
+	 *         progress
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getWriteVersion() {
+		final long started = this.writesStarted.get();
+		return this.writesFinished.get() == started ? started : -1;
+	}
+
+	private final List<Map.Entry<Key, Pending>> drain(UUID uuid) {
+
+		final List<Map.Entry<Key, Pending>> drained = new ArrayList<>();
+
+		for (Key key : this.pending.keySet()) {
+
+			if (uuid != null && !key.uuid.equals(uuid)) {
+				continue;
+			}
+
+			// Removing inside computeIfPresent ensures no increment is lost in between
+			this.pending.computeIfPresent(key, (k, entry) -> {
+				drained.add(new AbstractMap.SimpleImmutableEntry<>(k, entry));
+				return null;
+			});
+
+		}
+
+		return drained;
+	}
+
+	private final void write(@Nonnull List<Map.Entry<Key, Pending>> drained) {
+
+		if (drained.isEmpty()) {
+			return;
+		}
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			connection.setAutoCommit(false);
+
+			try {
+
+				PreparedStatement stmt = connection.prepareStatement(this.sql);
+
+				for (Map.Entry<Key, Pending> e : drained) {
+					stmt.setString(1, e.getKey().uuid.toString());
+					stmt.setInt(2, e.getKey().statistic);
+					stmt.setLong(3, e.getValue().amount);
+					stmt.setLong(4, e.getValue().firstAdded);
+					stmt.setLong(5, e.getValue().lastAdded);
+					stmt.addBatch();
+				}
+
+				stmt.executeBatch();
+				connection.commit();
+
+			} catch (SQLException e) {
+				connection.rollback();
+				throw e;
+			}
+
+			this.flushes.increment();
+			this.writtenRows.add(drained.size());
+
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.DEBUG,
+					"Flushed " + drained.size() + " pending User Statistics.");
+
+		} catch (SQLException e) {
+
+			this.failedFlushes.increment();
+			this.restore(drained);
+
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.ERROR, "Could not flush "
+					+ drained.size() + " pending User Statistics, will retry on next flush/SQL: " + e.getMessage());
+		}
+
+	}
+
+	private final void restore(@Nonnull List<Map.Entry<Key, Pending>> drained) {
+
+		for (Map.Entry<Key, Pending> e : drained) {
+
+			final Pending failed = e.getValue();
+
+			this.pending.merge(e.getKey(), failed, (current, ignored) -> {
+				current.amount += failed.amount;
+				current.firstAdded = Math.min(current.firstAdded, failed.firstAdded);
+				current.lastAdded = Math.max(current.lastAdded, failed.lastAdded);
+				return current;
+			});
+
+		}
+
+	}
+
+	/**
+	 * Write all pending increments towards the database, the flush interval is
+	 * stopped together with the {@link DatabaseExecutor}
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+		this.flush();
+	}
+
+	public final int getPendingSize() {
+		return this.pending.size();
+	}
+
+	public final long getFlushes() {
+		return this.flushes.sum();
+	}
+
+	public final long getWrittenRows() {
+		return this.writtenRows.sum();
+	}
+
+	public final long getFailedFlushes() {
+		return this.failedFlushes.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "StatisticBuffer[pending=" + this.getPendingSize() + ",threshold=" + this.threshold + ",flushes="
+				+ this.getFlushes() + ",written=" + this.getWrittenRows() + ",failed=" + this.getFailedFlushes()
+				+ "]";
+	}
+
+	private static final class Key {
+
+		private final UUID uuid;
+		private final int statistic;
+
+		private Key(UUID uuid, int statistic) {
+			this.uuid = uuid;
+			this.statistic = statistic;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.uuid, this.statistic);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key other = (Key) obj;
+			return this.statistic == other.statistic && this.uuid.equals(other.uuid);
+		}
+
+	}
+
+	/**
+	 * Only modified inside of the map's compute functions
+	 */
+	private static final class Pending {
+
+		private volatile long amount;
+		private volatile long firstAdded;
+		private volatile long lastAdded;
+
+		private Pending(long firstAdded) {
+			this.firstAdded = firstAdded;
+			this.lastAdded = firstAdded;
+		}
+
+	}
+
+}
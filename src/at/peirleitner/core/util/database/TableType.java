@@ -12,8 +12,10 @@ import at.peirleitner.core.system.StatSystem;
 import at.peirleitner.core.system.UserSystem;
 import at.peirleitner.core.system.VoucherSystem;
 import at.peirleitner.core.util.MOTD;
+import at.peirleitner.core.util.economy.EconomyLedger;
 import at.peirleitner.core.util.local.GameMap;
 import at.peirleitner.core.util.moderation.ChatLog;
+import at.peirleitner.core.util.moderation.ChatMessageLogger;
 import at.peirleitner.core.util.user.MasterLicense;
 import at.peirleitner.core.util.user.User;
 
@@ -187,7 +189,25 @@ public enum TableType {
 	 * @author Markus Peirleitner (Rengobli)
 	 * @see VoucherSystem
 	 */
-	VOUCHER_USERS("voucher_users")
+	VOUCHER_USERS("voucher_users"),
+
+	/**
+	 * Table name for ID sequences that are reserved in blocks
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see ChatMessageLogger
+	 */
+	SEQUENCES("sequences"),
+
+	/**
+	 * Table name for the append-only ledger of all balance changes
+	 * 
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see EconomyLedger
+	 */
+	ECONOMY_LEDGER("economy_ledger")
 	
 	;
 
@@ -202,9 +222,12 @@ public enum TableType {
 	 * @return Table name
 	 * @since 1.0.6
 	 * @author Markus Peirleitner (Rengobli)
+	 * @apiNote Since v1.0.19 the prefixed name is taken from
+	 *          {@link MySQL#getTableName(TableType)} instead of being built on
+	 *          every call.
 	 */
 	public final String getTableName(@Nonnull boolean prefix) {
-		return (prefix ? this.getTablePrefix() : "") + this.tableName;
+		return prefix ? Core.getInstance().getMySQL().getTableName(this) : this.tableName;
 	}
 
 	/**
@@ -0,0 +1,374 @@
+package at.peirleitner.core.util.economy;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.system.EconomySystem;
+import at.peirleitner.core.util.database.DatabaseExecutor;
+
+/**
+ * In-memory balances of online Users. Every balance is stored as minor units
+ * of {@link Money} inside an {@link AtomicLong}, so reading a balance does not
+ * access the database at all.<br>
+ * <br>
+ * Writes of an {@link Account} that are not awaited by the caller are executed
+ * on the {@link DatabaseExecutor} one after another in the order they have
+ * been submitted. An Account is only reconciled with the database while it is
+ * locked and neither has queued writes nor changes in progress.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem#getBalanceCache()
+ */
+public final class BalanceCache {
+
+	/**
+	 * Cached balances of a single User
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final class Account {
+
+		private final UUID uuid;
+		private final ConcurrentHashMap<Integer, AtomicLong> balances;
+		private final AtomicInteger changes;
+		private final AtomicLong version;
+
+		// Guarded by this
+		private CompletableFuture<?> tail;
+		private volatile boolean online;
+
+		private Account(@Nonnull UUID uuid) {
+			this.uuid = uuid;
+			this.balances = new ConcurrentHashMap<>();
+			this.changes = new AtomicInteger();
+			this.version = new AtomicLong();
+			this.tail = CompletableFuture.completedFuture(null);
+			this.online = true;
+		}
+
+		private final AtomicLong getBalance(int saveType) {
+			return this.balances.computeIfAbsent(saveType, key -> new AtomicLong());
+		}
+
+		public final UUID getUUID() {
+			return uuid;
+		}
+
+		/**
+		 *
+		 * @param saveType - ID of the SaveType
+		 * @return Balance in minor units, <code>0</code> if there is none
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final long get(@Nonnull int saveType) {
+			final AtomicLong balance = this.balances.get(saveType);
+			return balance == null ? 0L : balance.get();
+		}
+
+		/**
+		 *
+		 * @param saveType - ID of the SaveType
+		 * @param amount   - Minor units to add, may be negative
+		 * @return If the amount has been added, <code>false</code> if the balance
+		 *         would overflow or become negative
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final boolean add(@Nonnull int saveType, @Nonnull long amount) {
+
+			final AtomicLong balance = this.getBalance(saveType);
+
+			while (true) {
+
+				final long current = balance.get();
+				final long next = current + amount;
+
+				// Overflow in either direction or a negative result
+				if (((current ^ next) & (amount ^ next)) < 0 || next < 0) {
+					return false;
+				}
+
+				if (balance.compareAndSet(current, next)) {
+					return true;
+				}
+
+			}
+
+		}
+
+		/**
+		 *
+		 * @param saveType - ID of the SaveType
+		 * @param amount   - Minor units to remove
+		 * @return If the amount has been removed, <code>false</code> if the
+		 *         balance is too low
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final boolean withdraw(@Nonnull int saveType, @Nonnull long amount) {
+			return amount >= 0 && this.add(saveType, -amount);
+		}
+
+		/**
+		 *
+		 * @param saveType - ID of the SaveType
+		 * @param amount   - New balance in minor units
+		 * @return Previous balance in minor units
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final long set(@Nonnull int saveType, @Nonnull long amount) {
+			return this.getBalance(saveType).getAndSet(amount);
+		}
+
+		/**
+		 * Mark a change of this Account that is made without holding its lock,
+		 * for example by a transfer or a bulk operation. It must be started
+		 * before the change is committed to the database and ended once it has
+		 * been applied in memory.
+		 *
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 * @see #endChange()
+		 */
+		public final void beginChange() {
+			this.version.incrementAndGet();
+			this.changes.incrementAndGet();
+		}
+
+		/**
+		 *
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 * @see #beginChange()
+		 */
+		public final void endChange() {
+			this.changes.decrementAndGet();
+			this.version.incrementAndGet();
+		}
+
+		/**
+		 * Replace all balances with the ones loaded from the database. The
+		 * balances are loaded while this Account is locked, so changes that are
+		 * applied and persisted under the same lock can't be lost.
+		 *
+		 * @param loader - Loads the balances in minor units by the ID of their
+		 *               SaveType, returns <code>null</code> if they could not be
+		 *               loaded
+		 * @return If the balances have been replaced, <code>false</code> if they
+		 *         could not be loaded or the Account has been changed meanwhile
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final synchronized boolean reconcile(@Nonnull Supplier<Map<Integer, Long>> loader) {
+
+			// Queued writes and changes in progress are not part of the database yet
+			if (!this.tail.isDone() || this.changes.get() > 0) {
+				return false;
+			}
+
+			final long version = this.version.get();
+			final Map<Integer, Long> balances = loader.get();
+
+			if (balances == null || this.changes.get() > 0 || this.version.get() != version) {
+				return false;
+			}
+
+			this.reload(balances);
+			return true;
+		}
+
+		private final void reload(@Nonnull Map<Integer, Long> balances) {
+
+			for (Map.Entry<Integer, AtomicLong> entry : this.balances.entrySet()) {
+				if (!balances.containsKey(entry.getKey())) {
+					entry.getValue().set(0L);
+				}
+			}
+
+			for (Map.Entry<Integer, Long> entry : balances.entrySet()) {
+				this.getBalance(entry.getKey()).set(entry.getValue());
+			}
+
+		}
+
+		/**
+		 * Queue a write of this Account. It will be started once all previously
+		 * queued writes have been completed.
+		 *
+		 * @param name       - Name of the task
+		 * @param task       - Task
+		 * @param completion - Called with the result of the task or the exception
+		 *                   if it failed or has been rejected by the
+		 *                   {@link DatabaseExecutor}. The write is only completed
+		 *                   once this has returned, so it is not interleaved with
+		 *                   a reconcile.
+		 * @return Future that will be completed with the result of the task
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final synchronized <T> CompletableFuture<T> write(@Nonnull String name, @Nonnull Supplier<T> task,
+				@Nonnull BiConsumer<? super T, ? super Throwable> completion) {
+
+			// A failed write must not stop the following ones
+			final CompletableFuture<T> future = this.tail.handle((result, throwable) -> (Void) null)
+					.thenCompose(v -> Core.getInstance().getDatabaseExecutor().supply(name, task))
+					.whenComplete(completion);
+
+			this.tail = future;
+			return future;
+		}
+
+		/**
+		 *
+		 * @return Future that will be completed once all queued writes have been
+		 *         completed
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final synchronized CompletableFuture<Void> getPendingWrites() {
+			return this.tail.handle((result, throwable) -> (Void) null);
+		}
+
+		@Override
+		public String toString() {
+			return "Account[uuid=" + uuid + ",balances=" + balances + ",online=" + online + "]";
+		}
+
+	}
+
+	private final ConcurrentHashMap<UUID, Account> accounts;
+
+	public BalanceCache() {
+		this.accounts = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Cached Account or <code>null</code> if the User is not cached
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final Account getAccount(@Nonnull UUID uuid) {
+		return this.accounts.get(uuid);
+	}
+
+	/**
+	 * Add the Account of a User. If it is still cached, it is marked as online
+	 * again and reconciled with the database.
+	 *
+	 * @param uuid   - UUID of the User
+	 * @param loader - Loads the balances in minor units by the ID of their
+	 *               SaveType, returns <code>null</code> if they could not be
+	 *               loaded
+	 * @return Cached Account or <code>null</code> if it could not be loaded
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see Account#reconcile(Supplier)
+	 */
+	@Nullable
+	public final Account load(@Nonnull UUID uuid, @Nonnull Supplier<Map<Integer, Long>> loader) {
+
+		Account account = this.accounts.get(uuid);
+
+		if (account == null) {
+
+			final Map<Integer, Long> balances = loader.get();
+
+			if (balances == null) {
+				return null;
+			}
+
+			final Account created = new Account(uuid);
+			created.reload(balances);
+
+			account = this.accounts.putIfAbsent(uuid, created);
+
+			if (account == null) {
+				return created;
+			}
+
+		}
+
+		account.online = true;
+		account.reconcile(loader);
+
+		return account;
+	}
+
+	/**
+	 * Remove the Account of a User once all of its queued writes have been
+	 * completed, unless it has been loaded again in the meantime
+	 *
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void unload(@Nonnull UUID uuid) {
+
+		final Account account = this.accounts.get(uuid);
+
+		if (account == null) {
+			return;
+		}
+
+		account.online = false;
+		account.getPendingWrites().thenRun(() -> {
+
+			if (!account.online) {
+				this.accounts.remove(uuid, account);
+			}
+
+		});
+
+	}
+
+	/**
+	 *
+	 * @return Future that will be completed once all queued writes of all
+	 *         Accounts have been completed
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final CompletableFuture<Void> getPendingWrites() {
+		return CompletableFuture.allOf(this.accounts.values().stream().map(Account::getPendingWrites)
+				.toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 *
+	 * @return View of all cached Accounts
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final Collection<Account> getAccounts() {
+		return Collections.unmodifiableCollection(this.accounts.values());
+	}
+
+	public final int size() {
+		return this.accounts.size();
+	}
+
+	@Override
+	public String toString() {
+		return "BalanceCache[accounts=" + this.accounts.size() + "]";
+	}
+
+}
@@ -0,0 +1,341 @@
+package at.peirleitner.core.util.economy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import at.peirleitner.core.system.EconomySystem;
+import at.peirleitner.core.util.user.Leaderboard;
+
+/**
+ * Bounded ranking of the highest balances of a single SaveType. Works like the
+ * {@link Leaderboard} of statistics, but balances may decrease as well.<br>
+ * <br>
+ * All Users that are not ranked are known to have a balance of at most
+ * {@link #getFloor()}. A ranked User whose balance falls below it is dropped, as
+ * unranked Users might be ahead of it now. The ranking may therefore shrink
+ * until it is rebuilt, see {@link #isComplete()}. All methods are synchronized
+ * on the instance.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem#getLeaderboard(at.peirleitner.core.util.database.SaveType)
+ */
+public final class BalanceLeaderboard {
+
+	/**
+	 * Single ranking entry
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final class Entry {
+
+		private final UUID uuid;
+		private final String name;
+		private final long amount;
+
+		public Entry(@Nonnull UUID uuid, @Nullable String name, @Nonnull long amount) {
+			this.uuid = uuid;
+			this.name = name;
+			this.amount = amount;
+		}
+
+		public final UUID getUUID() {
+			return uuid;
+		}
+
+		/**
+		 *
+		 * @return Last known name or <code>null</code> if it has not been resolved yet
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final String getName() {
+			return name;
+		}
+
+		/**
+		 *
+		 * @return Balance in minor units
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final long getAmount() {
+			return amount;
+		}
+
+		public final Money getBalance() {
+			return Money.ofMinor(amount);
+		}
+
+		@Override
+		public String toString() {
+			return "BalanceLeaderboard.Entry [uuid=" + uuid + ", name=" + name + ", amount="
+					+ Money.toString(amount) + "]";
+		}
+
+	}
+
+	private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::getAmount).reversed()
+			.thenComparing(Entry::getUUID);
+
+	private final int saveType;
+	private final int capacity;
+	private final TreeSet<Entry> ranking;
+	private final HashMap<UUID, Entry> index;
+	private final long lastRefresh;
+	private long floor;
+
+	/**
+	 *
+	 * @param saveType - ID of the SaveType
+	 * @param capacity - Amount of places
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public BalanceLeaderboard(@Nonnull int saveType, @Nonnull int capacity) {
+		this.saveType = saveType;
+		this.capacity = Math.max(1, capacity);
+		this.ranking = new TreeSet<>(ORDER);
+		this.index = new HashMap<>();
+		this.lastRefresh = System.currentTimeMillis();
+		this.floor = 0L;
+	}
+
+	/**
+	 * Update the balance of a User. The User will be added if the balance is
+	 * high enough to reach a place, the previous last place will be removed in
+	 * that case.
+	 *
+	 * @param uuid   - UUID of the User
+	 * @param name   - Name of the User, <code>null</code> keeps the known name
+	 * @param amount - Current balance in minor units
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void offer(@Nonnull UUID uuid, @Nullable String name, @Nonnull long amount) {
+
+		Entry current = this.index.get(uuid);
+
+		if (current != null) {
+
+			if (current.getAmount() == amount && (name == null || name.equals(current.getName()))) {
+				return;
+			}
+
+			this.ranking.remove(current);
+			this.index.remove(uuid);
+
+			// Unranked Users might be ahead now
+			if (amount <= 0 || amount < this.floor) {
+				return;
+			}
+
+			this.insert(new Entry(uuid, name == null ? current.getName() : name, amount));
+			return;
+
+		}
+
+		if (amount <= this.floor) {
+			return;
+		}
+
+		if (this.ranking.size() >= this.capacity) {
+
+			Entry last = this.ranking.last();
+
+			if (ORDER.compare(new Entry(uuid, name, amount), last) >= 0) {
+				return;
+			}
+
+			this.ranking.pollLast();
+			this.index.remove(last.getUUID());
+			this.floor = Math.max(this.floor, last.getAmount());
+
+		}
+
+		this.insert(new Entry(uuid, name, amount));
+
+	}
+
+	/**
+	 * Change the balance of a User whose current balance is not known. If the
+	 * User is not ranked, an increase raises the floor by the same amount, as
+	 * the User may now have up to that balance. Places below the new floor are
+	 * dropped until the next refresh.
+	 *
+	 * @param uuid       - UUID of the User
+	 * @param difference - Change of the balance in minor units
+	 * @return If the User is ranked
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized boolean adjust(@Nonnull UUID uuid, @Nonnull long difference) {
+
+		Entry current = this.index.get(uuid);
+
+		if (current == null) {
+
+			if (difference <= 0) {
+				return false;
+			}
+
+			// All Users with a balance are ranked, so this one had none before
+			if (this.floor == 0L) {
+				this.offer(uuid, null, difference);
+				return false;
+			}
+
+			this.floor = difference > Long.MAX_VALUE - this.floor ? Long.MAX_VALUE : this.floor + difference;
+
+			while (!this.ranking.isEmpty() && this.ranking.last().getAmount() < this.floor) {
+				this.index.remove(this.ranking.pollLast().getUUID());
+			}
+
+			return false;
+		}
+
+		try {
+			this.offer(uuid, null, Money.add(current.getAmount(), difference));
+		} catch (ArithmeticException e) {
+			this.ranking.remove(current);
+			this.index.remove(uuid);
+		}
+
+		return true;
+	}
+
+	private final void insert(@Nonnull Entry entry) {
+		this.ranking.add(entry);
+		this.index.put(entry.getUUID(), entry);
+	}
+
+	/**
+	 *
+	 * @return Snapshot of all places, starting with the first one
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized List<Entry> getEntries() {
+		return new ArrayList<>(this.ranking);
+	}
+
+	/**
+	 *
+	 * @param offset - Amount of places to skip
+	 * @param limit  - Maximum amount of places
+	 * @return Snapshot of the requested places
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized List<Entry> getEntries(@Nonnull int offset, @Nonnull int limit) {
+
+		final List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, this.ranking.size() - offset)));
+		final Iterator<Entry> iterator = this.ranking.iterator();
+
+		for (int i = 0; iterator.hasNext() && entries.size() < limit; i++) {
+
+			final Entry entry = iterator.next();
+
+			if (i >= offset) {
+				entries.add(entry);
+			}
+
+		}
+
+		return entries;
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Place of the User starting at <code>1</code> or <code>-1</code> if
+	 *         the User is not ranked
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized int getRank(@Nonnull UUID uuid) {
+
+		Entry entry = this.index.get(uuid);
+
+		if (entry == null) {
+			return -1;
+		}
+
+		return this.ranking.headSet(entry).size() + 1;
+	}
+
+	public final synchronized boolean contains(@Nonnull UUID uuid) {
+		return this.index.containsKey(uuid);
+	}
+
+	/**
+	 *
+	 * @return If all places are known, <code>false</code> if places have been
+	 *         dropped since the last refresh
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized boolean isComplete() {
+		return this.floor == 0L || this.ranking.size() >= this.capacity;
+	}
+
+	public final int getSaveType() {
+		return saveType;
+	}
+
+	public final int getCapacity() {
+		return capacity;
+	}
+
+	public final synchronized int getSize() {
+		return this.ranking.size();
+	}
+
+	/**
+	 *
+	 * @return Highest balance in minor units that an unranked User may have
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized long getFloor() {
+		return floor;
+	}
+
+	/**
+	 * Raise the floor once the places loaded from the database have been offered
+	 *
+	 * @param floor - Highest balance in minor units that an unranked User may
+	 *              have, <code>0</code> if all Users with a balance are ranked
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void setFloor(@Nonnull long floor) {
+		this.floor = Math.max(this.floor, floor);
+	}
+
+	/**
+	 *
+	 * @return Timestamp of the last reconciliation with the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getLastRefresh() {
+		return lastRefresh;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "BalanceLeaderboard [saveType=" + saveType + ", capacity=" + capacity + ", size="
+				+ this.ranking.size() + ", floor=" + Money.toString(floor) + ", lastRefresh=" + lastRefresh + "]";
+	}
+
+}
@@ -0,0 +1,166 @@
+package at.peirleitner.core.util.economy;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.EconomySystem;
+
+/**
+ * Progress of an operation that changes the balances of many Users at once.
+ * The operation is processed in chunks, each of them being written as a batch
+ * inside its own transaction. The counters are updated by the executing thread
+ * once a chunk has been committed or rolled back.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem#payoutAll(java.util.Collection,
+ *      at.peirleitner.core.util.database.SaveType, Money,
+ *      java.util.function.Consumer)
+ */
+public final class EconomyBulkOperation {
+
+	private final String name;
+	private final int saveType;
+	private final int total;
+	private final long started;
+
+	private volatile int processed;
+	private volatile int changed;
+	private volatile int failed;
+	private volatile int chunks;
+	private volatile int failedChunks;
+	private volatile long finished;
+
+	/**
+	 *
+	 * @param name     - Name of the operation
+	 * @param saveType - ID of the SaveType
+	 * @param total    - Amount of Users to process or <code>-1</code> if it is
+	 *                 not known in advance
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public EconomyBulkOperation(@Nonnull String name, @Nonnull int saveType, @Nonnull int total) {
+		this.name = name;
+		this.saveType = saveType;
+		this.total = total;
+		this.started = System.currentTimeMillis();
+	}
+
+	/**
+	 * Count a committed chunk
+	 *
+	 * @param processed - Users that have been processed
+	 * @param changed   - Balances that have been changed
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void completeChunk(@Nonnull int processed, @Nonnull int changed) {
+		this.processed += processed;
+		this.changed += changed;
+		this.chunks++;
+	}
+
+	/**
+	 * Count a chunk that has been rolled back
+	 *
+	 * @param failed - Users that have not been processed, <code>0</code> if they
+	 *               have not been loaded yet
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void failChunk(@Nonnull int failed) {
+		this.failed += failed;
+		this.chunks++;
+		this.failedChunks++;
+	}
+
+	public final void finish() {
+		this.finished = System.currentTimeMillis();
+	}
+
+	public final String getName() {
+		return name;
+	}
+
+	public final int getSaveTypeID() {
+		return saveType;
+	}
+
+	/**
+	 *
+	 * @return Amount of Users to process or <code>-1</code> if it is not known in
+	 *         advance
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getTotal() {
+		return total;
+	}
+
+	public final int getProcessed() {
+		return processed;
+	}
+
+	public final int getChanged() {
+		return changed;
+	}
+
+	public final int getFailed() {
+		return failed;
+	}
+
+	public final int getChunks() {
+		return chunks;
+	}
+
+	public final int getFailedChunks() {
+		return failedChunks;
+	}
+
+	/**
+	 *
+	 * @return Processed share in percent or <code>-1</code> if the total is not
+	 *         known
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getPercentage() {
+
+		if (this.isFinished()) {
+			return 100;
+		}
+
+		if (this.total <= 0) {
+			return -1;
+		}
+
+		return (int) ((this.processed + this.failed) * 100L / this.total);
+	}
+
+	public final long getStarted() {
+		return started;
+	}
+
+	public final boolean isFinished() {
+		return this.finished != 0L;
+	}
+
+	/**
+	 *
+	 * @return If all chunks have been committed
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean isSuccess() {
+		return this.isFinished() && this.failedChunks == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "EconomyBulkOperation[name=" + name + ",saveType=" + saveType + ",total=" + total + ",processed="
+				+ processed + ",changed=" + changed + ",failed=" + failed + ",chunks=" + chunks + ",failedChunks="
+				+ failedChunks + ",duration="
+				+ ((this.isFinished() ? finished : System.currentTimeMillis()) - started) + "ms]";
+	}
+
+}
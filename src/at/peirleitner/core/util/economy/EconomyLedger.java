@@ -0,0 +1,155 @@
+package at.peirleitner.core.util.economy;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.EconomySystem;
+import at.peirleitner.core.util.database.BatchWriter;
+import at.peirleitner.core.util.database.DatabaseExecutor;
+import at.peirleitner.core.util.database.SaveType;
+import at.peirleitner.core.util.database.TableType;
+
+/**
+ * Append-only double-entry ledger of all balance changes. Every transaction is
+ * recorded as a debit and a credit entry, money that is created or destroyed
+ * by an administrator is booked against {@link #SYSTEM_ACCOUNT}.<br>
+ * <br>
+ * Entries are written by a {@link BatchWriter} after the balance has been
+ * changed. Both entries of a transaction are queued and written as one
+ * element, so the written entries of every SaveType always add up to zero. If
+ * the database stays unavailable for longer than the queue can hold, the
+ * oldest transactions are dropped as a whole, see
+ * {@link #getDroppedTransactions()}. {@link #shutdown()} has to be called
+ * before the {@link DatabaseExecutor} is being shut down.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem#getLedger()
+ */
+public final class EconomyLedger {
+
+	/**
+	 * Account that is used as the counterpart of money that has been added,
+	 * removed or set by an administrator
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final UUID SYSTEM_ACCOUNT = new UUID(0L, 0L);
+
+	// Statements are cached by their SQL, build it only once
+	private final String sqlInsert = "INSERT INTO " + TableType.ECONOMY_LEDGER.getTableName(true)
+			+ " (transactionID, uuid, saveType, amount, type, created) VALUES (?, ?, ?, ? * " + Money.SQL_UNIT
+			+ ", ?, ?)";
+
+	// Debit and credit of a single transaction
+	private final BatchWriter<LedgerEntry[]> writer;
+
+	/**
+	 *
+	 * @param pluginName    - Name of the plugin that owns this ledger
+	 * @param queueSize     - Maximum amount of queued transactions
+	 * @param batchSize     - Maximum amount of transactions per batch, reaching
+	 *                      it triggers a flush
+	 * @param flushInterval - Milliseconds between two flushes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public EconomyLedger(@Nonnull String pluginName, @Nonnull int queueSize, @Nonnull int batchSize,
+			@Nonnull long flushInterval) {
+		this.writer = new BatchWriter<>(pluginName, this.getClass(), "Ledger Transactions", this.sqlInsert,
+				this::addBatch, queueSize, batchSize, flushInterval);
+	}
+
+	/**
+	 * Record a transaction that moved money from one account to another
+	 *
+	 * @param type     - Type of the transaction
+	 * @param saveType - SaveType
+	 * @param from     - Account that has been debited
+	 * @param to       - Account that has been credited
+	 * @param amount   - Minor units of {@link Money} that have been moved, must be
+	 *                 positive
+	 * @return ID of the transaction
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final UUID record(@Nonnull EconomyTransactionType type, @Nonnull SaveType saveType, @Nonnull UUID from,
+			@Nonnull UUID to, @Nonnull long amount) {
+
+		final UUID transaction = UUID.randomUUID();
+		final long now = System.currentTimeMillis();
+
+		this.writer.queue(new LedgerEntry[] {
+				new LedgerEntry(transaction, from, saveType.getID(), -amount, type, now),
+				new LedgerEntry(transaction, to, saveType.getID(), amount, type, now) });
+
+		return transaction;
+	}
+
+	private final void addBatch(@Nonnull PreparedStatement stmt, @Nonnull LedgerEntry[] transaction)
+			throws SQLException {
+
+		for (LedgerEntry entry : transaction) {
+			stmt.setString(1, entry.getTransaction().toString());
+			stmt.setString(2, entry.getUUID().toString());
+			stmt.setInt(3, entry.getSaveTypeID());
+			stmt.setLong(4, entry.getAmount());
+			stmt.setString(5, entry.getType().toString());
+			stmt.setLong(6, entry.getCreated());
+			stmt.addBatch();
+		}
+
+	}
+
+	/**
+	 * Write all queued transactions towards the database
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see BatchWriter#flush()
+	 */
+	public final void flush() {
+		this.writer.flush();
+	}
+
+	/**
+	 * Write all remaining transactions
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+		this.writer.shutdown();
+	}
+
+	public final int getQueuedTransactions() {
+		return this.writer.getQueued();
+	}
+
+	public final long getWrittenTransactions() {
+		return this.writer.getWritten();
+	}
+
+	/**
+	 *
+	 * @return Amount of transactions that have been dropped as they could not be
+	 *         written towards the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getDroppedTransactions() {
+		return this.writer.getDropped();
+	}
+
+	@Override
+	public String toString() {
+		return "EconomyLedger[queued=" + this.getQueuedTransactions() + ",written=" + this.getWrittenTransactions()
+				+ ",callerWrites=" + this.writer.getCallerWrites() + ",failedBatches="
+				+ this.writer.getFailedBatches() + ",dropped=" + this.getDroppedTransactions() + "]";
+	}
+
+}
@@ -0,0 +1,16 @@
+package at.peirleitner.core.util.economy;
+
+import at.peirleitner.core.system.EconomySystem;
+
+/**
+ * Type of a transaction recorded inside the {@link EconomyLedger}
+ * 
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem
+ */
+public enum EconomyTransactionType {
+
+	ADD, REMOVE, SET, TRANSFER;
+
+}
@@ -0,0 +1,76 @@
+package at.peirleitner.core.util.economy;
+
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Single entry of the {@link EconomyLedger}. Every transaction consists of two
+ * entries sharing the same transaction ID whose amounts add up to zero, they
+ * are always written together.
+ * 
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class LedgerEntry {
+
+	private final UUID transaction;
+	private final UUID uuid;
+	private final int saveType;
+	private final long amount;
+	private final EconomyTransactionType type;
+	private final long created;
+
+	/**
+	 * 
+	 * @param transaction - ID of the transaction
+	 * @param uuid        - Account that has been changed
+	 * @param saveType    - ID of the SaveType
+	 * @param amount      - Change of the balance in minor units of {@link Money},
+	 *                    negative if it has been reduced
+	 * @param type        - Type of the transaction
+	 * @param created     - Timestamp of the transaction
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public LedgerEntry(@Nonnull UUID transaction, @Nonnull UUID uuid, @Nonnull int saveType,
+			@Nonnull long amount, @Nonnull EconomyTransactionType type, @Nonnull long created) {
+		this.transaction = transaction;
+		this.uuid = uuid;
+		this.saveType = saveType;
+		this.amount = amount;
+		this.type = type;
+		this.created = created;
+	}
+
+	public final UUID getTransaction() {
+		return transaction;
+	}
+
+	public final UUID getUUID() {
+		return uuid;
+	}
+
+	public final int getSaveTypeID() {
+		return saveType;
+	}
+
+	public final long getAmount() {
+		return amount;
+	}
+
+	public final EconomyTransactionType getType() {
+		return type;
+	}
+
+	public final long getCreated() {
+		return created;
+	}
+
+	@Override
+	public String toString() {
+		return "LedgerEntry [transaction=" + transaction + ", uuid=" + uuid + ", saveType=" + saveType + ", amount="
+				+ Money.toString(amount) + ", type=" + type + ", created=" + created + "]";
+	}
+
+}
@@ -0,0 +1,313 @@
+package at.peirleitner.core.util.economy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.EconomySystem;
+
+/**
+ * Immutable amount of money stored as a fixed-point <code>long</code> of minor
+ * units with {@link #SCALE} decimal places, matching the scale of the database.
+ * The static methods operate on plain minor units and don't allocate any
+ * objects, all arithmetic is checked for overflows.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem
+ */
+public final class Money implements Comparable<Money> {
+
+	/**
+	 * Amount of decimal places
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final int SCALE = EconomySystem.MAX_COMMA;
+
+	/**
+	 * Minor units of a single major unit
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final long UNIT;
+
+	/**
+	 * Factor to convert minor units inside SQL without losing precision, as
+	 * decimal division is rounded by the database
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final String SQL_UNIT = BigDecimal.ONE.movePointLeft(SCALE).toPlainString();
+
+	public static final Money ZERO = new Money(0L);
+
+	static {
+
+		long unit = 1L;
+
+		for (int i = 0; i < SCALE; i++) {
+			unit = Math.multiplyExact(unit, 10L);
+		}
+
+		UNIT = unit;
+	}
+
+	private final long minor;
+
+	private Money(long minor) {
+		this.minor = minor;
+	}
+
+	/**
+	 *
+	 * @param minor - Amount in minor units
+	 * @return Money
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static Money ofMinor(@Nonnull long minor) {
+		return minor == 0L ? ZERO : new Money(minor);
+	}
+
+	/**
+	 *
+	 * @param major - Amount in major units
+	 * @return Money rounded towards the closest minor unit
+	 * @throws ArithmeticException If the amount is not a number or too big
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static Money of(@Nonnull double major) {
+
+		final double minor = Math.rint(major * UNIT);
+
+		if (Double.isNaN(minor) || minor >= 0x1p63 || minor < -0x1p63) {
+			throw new ArithmeticException("Amount out of range: " + major);
+		}
+
+		return ofMinor((long) minor);
+	}
+
+	/**
+	 *
+	 * @param amount - Amount in major units
+	 * @return Money, further decimal places are cut off
+	 * @throws ArithmeticException If the amount is too big
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static Money of(@Nonnull BigDecimal amount) {
+		return ofMinor(amount.movePointRight(SCALE).setScale(0, RoundingMode.DOWN).longValueExact());
+	}
+
+	/**
+	 * Parse an amount as entered by a User, a comma is accepted as decimal
+	 * separator as well
+	 *
+	 * @param input - Input such as <code>12</code>, <code>-3.5</code> or
+	 *              <code>0,25</code>
+	 * @return Money
+	 * @throws NumberFormatException If the input is not a valid amount or has
+	 *                               more than {@link #SCALE} decimal places
+	 * @throws ArithmeticException   If the amount is too big
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static Money parse(@Nonnull String input) {
+
+		final int length = input.length();
+		final boolean negative = length > 0 && input.charAt(0) == '-';
+		int i = negative || (length > 0 && input.charAt(0) == '+') ? 1 : 0;
+
+		long minor = 0L;
+		int digits = 0;
+		int decimals = -1;
+
+		for (; i < length; i++) {
+
+			final char c = input.charAt(i);
+
+			if (c == '.' || c == ',') {
+
+				if (decimals >= 0) {
+					throw new NumberFormatException("Multiple decimal separators: " + input);
+				}
+
+				decimals = 0;
+				continue;
+			}
+
+			if (c < '0' || c > '9') {
+				throw new NumberFormatException("Invalid character '" + c + "': " + input);
+			}
+
+			if (decimals >= 0 && ++decimals > SCALE) {
+				throw new NumberFormatException("More than " + SCALE + " decimal places: " + input);
+			}
+
+			minor = Math.addExact(Math.multiplyExact(minor, 10L), c - '0');
+			digits++;
+		}
+
+		if (digits == 0) {
+			throw new NumberFormatException("No digits: " + input);
+		}
+
+		for (int j = Math.max(0, decimals); j < SCALE; j++) {
+			minor = Math.multiplyExact(minor, 10L);
+		}
+
+		return ofMinor(negative ? -minor : minor);
+	}
+
+	// | Allocation-free arithmetic on minor units | \\
+
+	/**
+	 *
+	 * @return Sum of both amounts
+	 * @throws ArithmeticException On overflow
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static long add(@Nonnull long a, @Nonnull long b) {
+		return Math.addExact(a, b);
+	}
+
+	/**
+	 *
+	 * @return Difference of both amounts
+	 * @throws ArithmeticException On overflow
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static long subtract(@Nonnull long a, @Nonnull long b) {
+		return Math.subtractExact(a, b);
+	}
+
+	public static int compare(@Nonnull long a, @Nonnull long b) {
+		return Long.compare(a, b);
+	}
+
+	/**
+	 *
+	 * @param minor - Amount in minor units
+	 * @return Amount in major units, may lose precision
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static double toDouble(@Nonnull long minor) {
+		return ((double) minor) / UNIT;
+	}
+
+	/**
+	 *
+	 * @param minor - Amount in minor units
+	 * @return Amount in major units without trailing zeros
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static String toString(@Nonnull long minor) {
+
+		final StringBuilder sb = new StringBuilder(24);
+
+		if (minor < 0) {
+			sb.append('-');
+		}
+
+		// Long.MIN_VALUE can't be negated
+		long major = Math.abs(minor / UNIT);
+		long fraction = Math.abs(minor % UNIT);
+		sb.append(major);
+
+		if (fraction != 0) {
+
+			int decimals = SCALE;
+
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				decimals--;
+			}
+
+			sb.append('.');
+			final String digits = Long.toString(fraction);
+
+			for (int i = digits.length(); i < decimals; i++) {
+				sb.append('0');
+			}
+
+			sb.append(digits);
+		}
+
+		return sb.toString();
+	}
+
+	// | Instance | \\
+
+	public final long getMinor() {
+		return minor;
+	}
+
+	public final Money add(@Nonnull Money other) {
+		return ofMinor(add(this.minor, other.minor));
+	}
+
+	public final Money subtract(@Nonnull Money other) {
+		return ofMinor(subtract(this.minor, other.minor));
+	}
+
+	public final Money negate() {
+		return ofMinor(Math.negateExact(this.minor));
+	}
+
+	public final int signum() {
+		return Long.signum(this.minor);
+	}
+
+	public final boolean isPositive() {
+		return this.minor > 0L;
+	}
+
+	public final double toDouble() {
+		return toDouble(this.minor);
+	}
+
+	/**
+	 *
+	 * @return Amount with a scale of {@link #SCALE}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(this.minor, SCALE);
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		return compare(this.minor, other.minor);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Money && ((Money) obj).minor == this.minor;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.minor);
+	}
+
+	/**
+	 *
+	 * @return Amount in major units without trailing zeros
+	 */
+	@Override
+	public String toString() {
+		return toString(this.minor);
+	}
+
+}
@@ -0,0 +1,31 @@
+package at.peirleitner.core.util.economy;
+
+import at.peirleitner.core.system.EconomySystem;
+
+/**
+ * Result of a transfer between two Users
+ * 
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see EconomySystem#transfer(java.util.UUID, java.util.UUID,
+ *      at.peirleitner.core.util.database.SaveType, Money)
+ */
+public enum TransferResult {
+
+	/**
+	 * The amount has been moved between both Users
+	 */
+	SUCCESS,
+
+	/**
+	 * The sender does not have enough balance, nothing has been changed
+	 */
+	INSUFFICIENT_BALANCE,
+
+	/**
+	 * The transfer could not be performed due to a database error, nothing has
+	 * been changed
+	 */
+	FAILED;
+
+}
@@ -1,7 +1,6 @@
 package at.peirleitner.core.util.local;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -73,6 +72,9 @@ public class LocalScoreboard {
 	}
 
 	public void refreshDefaultTeams() {
+		// Pick up permission changes, v1.0.19
+		Core.getInstance().invalidateRanks();
+
 		for (Player all : Bukkit.getOnlinePlayers())
 			refreshDefaultTeams(all);
 	}
@@ -124,23 +126,7 @@ public class LocalScoreboard {
 	}
 
 	private int getTeamID(@Nonnull Rank rank) {
-
-		List<Rank> ranks = Core.getInstance().getInRightOrder();
-
-		int i = 0;
-
-		for (Rank r : ranks) {
-
-			if (r == rank) {
-				return i;
-			}
-
-			i++;
-
-		}
-
-		return -1;
-
+		return Core.getInstance().getRankTable().indexOf(rank);
 	}
 
 }
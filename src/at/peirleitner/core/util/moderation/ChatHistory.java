@@ -0,0 +1,225 @@
+package at.peirleitner.core.util.moderation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import at.peirleitner.core.system.ModerationSystem;
+
+/**
+ * Bounded history of the latest chat messages of a single User. Once the
+ * capacity has been reached, the oldest message is overwritten.<br>
+ * <br>
+ * All methods are synchronized on the instance.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see ModerationSystem#getChatHistory(java.util.UUID)
+ */
+public final class ChatHistory {
+
+	/**
+	 * Single message inside the history
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final class Entry {
+
+		private final int id;
+		private final String message;
+		private final String normalized;
+		private final long sent;
+
+		private Entry(int id, String message, String normalized, long sent) {
+			this.id = id;
+			this.message = message;
+			this.normalized = normalized;
+			this.sent = sent;
+		}
+
+		/**
+		 *
+		 * @return Unique ID of the {@link UserChatMessage}
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final int getID() {
+			return id;
+		}
+
+		public final String getMessage() {
+			return message;
+		}
+
+		/**
+		 *
+		 * @return Message as of {@link ChatHistory#normalize(String)}
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final String getNormalized() {
+			return normalized;
+		}
+
+		public final long getSent() {
+			return sent;
+		}
+
+		@Override
+		public String toString() {
+			return "ChatHistory.Entry [id=" + id + ", message=" + message + ", sent=" + sent + "]";
+		}
+
+	}
+
+	private final Entry[] entries;
+	private int next;
+	private int size;
+
+	/**
+	 *
+	 * @param capacity - Maximum amount of messages
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public ChatHistory(@Nonnull int capacity) {
+		this.entries = new Entry[Math.max(1, capacity)];
+	}
+
+	/**
+	 *
+	 * @param message - Message
+	 * @return Message in lower case with surrounding whitespace removed and
+	 *         inner whitespace collapsed, used to compare messages
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static String normalize(@Nonnull String message) {
+
+		final StringBuilder sb = new StringBuilder(message.length());
+		boolean whitespace = false;
+
+		for (int i = 0; i < message.length(); i++) {
+
+			final char c = message.charAt(i);
+
+			if (Character.isWhitespace(c)) {
+				whitespace = sb.length() > 0;
+				continue;
+			}
+
+			if (whitespace) {
+				sb.append(' ');
+				whitespace = false;
+			}
+
+			sb.append(Character.toLowerCase(c));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Add a message, overwriting the oldest one if the history is full
+	 *
+	 * @param id      - Unique ID of the {@link UserChatMessage}
+	 * @param message - Message
+	 * @param sent    - Timestamp
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void add(@Nonnull int id, @Nonnull String message, @Nonnull long sent) {
+		this.add(id, message, normalize(message), sent);
+	}
+
+	/**
+	 * Add a message that has already been normalized, overwriting the oldest one
+	 * if the history is full
+	 *
+	 * @param id         - Unique ID of the {@link UserChatMessage}
+	 * @param message    - Message
+	 * @param normalized - Message as of {@link #normalize(String)}
+	 * @param sent       - Timestamp
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see ChatMessageAnalysis#getNormalized()
+	 */
+	public final synchronized void add(@Nonnull int id, @Nonnull String message, @Nonnull String normalized,
+			@Nonnull long sent) {
+
+		this.entries[this.next] = new Entry(id, message, normalized, sent);
+		this.next = (this.next + 1) % this.entries.length;
+
+		if (this.size < this.entries.length) {
+			this.size++;
+		}
+
+	}
+
+	/**
+	 *
+	 * @return Latest message or <code>null</code> if the history is empty
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final synchronized Entry getLast() {
+		return this.size == 0 ? null : this.entries[(this.next - 1 + this.entries.length) % this.entries.length];
+	}
+
+	/**
+	 *
+	 * @param normalized - Normalized message
+	 * @param since      - Only messages sent after this timestamp are checked
+	 * @return Amount of messages that are equal to the given one
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #normalize(String)
+	 */
+	public final synchronized int count(@Nonnull String normalized, @Nonnull long since) {
+
+		int count = 0;
+
+		for (int i = 0; i < this.size; i++) {
+
+			final Entry entry = this.entries[i];
+
+			if (entry.getSent() >= since && entry.getNormalized().equals(normalized)) {
+				count++;
+			}
+
+		}
+
+		return count;
+	}
+
+	/**
+	 *
+	 * @return Snapshot of all messages, starting with the oldest one
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized List<Entry> getEntries() {
+
+		final List<Entry> list = new ArrayList<>(this.size);
+		final int start = (this.next - this.size + this.entries.length) % this.entries.length;
+
+		for (int i = 0; i < this.size; i++) {
+			list.add(this.entries[(start + i) % this.entries.length]);
+		}
+
+		return list;
+	}
+
+	public final synchronized int size() {
+		return this.size;
+	}
+
+	public final int getCapacity() {
+		return this.entries.length;
+	}
+
+}
@@ -0,0 +1,293 @@
+package at.peirleitner.core.util.moderation;
+
+import java.nio.CharBuffer;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.ModerationSystem;
+
+/**
+ * Features of a single chat message that are required by the
+ * {@link UserChatMessageFlag} checks, computed in a single pass over the
+ * message:
+ * <ul>
+ * <li>Case-folded view as used by the {@link PhraseMatcher}</li>
+ * <li>Normalized message as used by the {@link ChatHistory}</li>
+ * <li>Skeleton with leetspeak and confusable characters replaced by the letter
+ * they resemble and punctuation removed</li>
+ * <li>Amount of upper case characters</li>
+ * <li>Boundaries of all whitespace separated tokens</li>
+ * </ul>
+ * Instances are immutable.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see ModerationSystem#checkMessage(java.util.UUID, ChatMessageAnalysis)
+ */
+public final class ChatMessageAnalysis {
+
+	// Replacement of every folded character below its length, 0 drops it
+	private static final char[] SKELETON = new char[0x0530];
+
+	static {
+
+		for (char c = 0; c < SKELETON.length; c++) {
+			SKELETON[c] = Character.isLetterOrDigit(c) ? c : 0;
+		}
+
+		// Leetspeak
+		map("0o1i3e4a5s7t8b@a$s!i|l");
+
+		// Latin-1 Supplement and Latin Extended-A
+		map("\u00E0a\u00E1a\u00E2a\u00E3a\u00E4a\u00E5a\u00E7c\u00E8e\u00E9e\u00EAe\u00EBe\u00ECi\u00EDi\u00EEi\u00EFi\u00F1n\u00F2o\u00F3o\u00F4o\u00F5o\u00F6o\u00F8o\u00F9u\u00FAu\u00FBu\u00FCu\u00FDy\u00FFy\u0101a\u0103a\u0105a\u0107c\u010Dc\u010Fd\u0113e\u0119e\u011Be\u011Fg\u012Bi\u0131i\u0142l\u0144n\u0148n\u014Do\u0151o\u0159r\u015Bs\u015Fs\u0161s\u0165t\u016Bu\u016Fu\u0171u\u017Az\u017Cz\u017Ez");
+
+		// Greek and Cyrillic letters looking like Latin ones
+		map("\u03B1a\u03B2b\u03B5e\u03B9i\u03BAk\u03BDv\u03BFo\u03C1p\u03C4t\u03C5u\u03C7x\u0430a\u0432b\u0435e\u043Ak\u043Cm\u043Dh\u043Eo\u0440p\u0441c\u0442t\u0443y\u0445x\u0455s\u0456i\u0457i\u0458j\u0501d\u04BBh");
+
+	}
+
+	private static void map(@Nonnull String pairs) {
+		for (int i = 0; i < pairs.length(); i += 2) {
+			SKELETON[pairs.charAt(i)] = pairs.charAt(i + 1);
+		}
+	}
+
+	private final String message;
+	private final char[] folded;
+	private final String normalized;
+	private final String skeleton;
+	private final int uppercase;
+	private final int[] tokens;
+	private final int tokenCount;
+
+	/**
+	 *
+	 * @param message - Message to analyze
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public ChatMessageAnalysis(@Nonnull String message) {
+
+		final int length = message.length();
+		final char[] folded = new char[length];
+		final char[] normalized = new char[length];
+		final char[] skeleton = new char[length];
+		final int[] tokens = new int[length + 1];
+
+		int normalizedLength = 0;
+		int skeletonLength = 0;
+		int tokenCount = 0;
+		int uppercase = 0;
+		boolean normalizedSpace = false;
+		boolean skeletonSpace = false;
+		boolean inToken = false;
+
+		for (int i = 0; i < length; i++) {
+
+			final char c = message.charAt(i);
+			final char f = PhraseMatcher.fold(c);
+			folded[i] = f;
+
+			if (Character.isWhitespace(c)) {
+
+				if (inToken) {
+					tokens[tokenCount * 2 + 1] = i;
+					tokenCount++;
+					inToken = false;
+				}
+
+				// Only separate content that has already been written
+				normalizedSpace = normalizedLength > 0;
+				skeletonSpace = skeletonLength > 0;
+				continue;
+			}
+
+			if (!inToken) {
+				tokens[tokenCount * 2] = i;
+				inToken = true;
+			}
+
+			if (Character.isUpperCase(c)) {
+				uppercase++;
+			}
+
+			if (normalizedSpace) {
+				normalized[normalizedLength++] = ' ';
+				normalizedSpace = false;
+			}
+
+			normalized[normalizedLength++] = Character.toLowerCase(c);
+
+			final char s = skeleton(f);
+
+			if (s != 0) {
+
+				if (skeletonSpace) {
+					skeleton[skeletonLength++] = ' ';
+					skeletonSpace = false;
+				}
+
+				skeleton[skeletonLength++] = s;
+			}
+
+		}
+
+		if (inToken) {
+			tokens[tokenCount * 2 + 1] = length;
+			tokenCount++;
+		}
+
+		this.message = message;
+		this.folded = folded;
+		this.normalized = new String(normalized, 0, normalizedLength);
+		this.skeleton = new String(skeleton, 0, skeletonLength);
+		this.uppercase = uppercase;
+		this.tokens = tokens;
+		this.tokenCount = tokenCount;
+	}
+
+	private static char skeleton(char folded) {
+
+		// Fullwidth forms
+		if (folded >= '\uFF01' && folded <= '\uFF5E') {
+			folded = PhraseMatcher.fold((char) (folded - 0xFEE0));
+		}
+
+		if (folded < SKELETON.length) {
+			return SKELETON[folded];
+		}
+
+		return Character.isLetterOrDigit(folded) ? folded : 0;
+	}
+
+	/**
+	 *
+	 * @param text - Text
+	 * @return Skeleton of the text as of {@link #getSkeleton()}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static String toSkeleton(@Nonnull String text) {
+		return new ChatMessageAnalysis(text).getSkeleton();
+	}
+
+	public final String getMessage() {
+		return message;
+	}
+
+	public final int getLength() {
+		return this.folded.length;
+	}
+
+	/**
+	 *
+	 * @return Message with every character case-folded, the length is equal to
+	 *         the original message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final CharSequence getFolded() {
+		return CharBuffer.wrap(this.folded).asReadOnlyBuffer();
+	}
+
+	/**
+	 *
+	 * @param matcher - Matcher
+	 * @return Result of {@link PhraseMatcher#match(CharSequence)} over the
+	 *         case-folded message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int match(@Nonnull PhraseMatcher matcher) {
+		return matcher.match(this.folded, this.folded.length);
+	}
+
+	/**
+	 *
+	 * @return Message as of {@link ChatHistory#normalize(String)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final String getNormalized() {
+		return normalized;
+	}
+
+	/**
+	 *
+	 * @return Lower case message with leetspeak and confusable characters replaced,
+	 *         punctuation removed and whitespace collapsed
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final String getSkeleton() {
+		return skeleton;
+	}
+
+	public final int getUppercase() {
+		return uppercase;
+	}
+
+	/**
+	 *
+	 * @return Share of upper case characters in the whole message between
+	 *         <code>0</code> and <code>1</code>
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final double getUppercaseRatio() {
+		return this.folded.length == 0 ? 0D : (this.uppercase * 1D) / (this.folded.length * 1D);
+	}
+
+	public final int getTokenCount() {
+		return tokenCount;
+	}
+
+	/**
+	 *
+	 * @param index - Index of the token
+	 * @return Start of the token inside the message, inclusive
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getTokenStart(@Nonnull int index) {
+		return this.tokens[this.checkToken(index) * 2];
+	}
+
+	/**
+	 *
+	 * @param index - Index of the token
+	 * @return End of the token inside the message, exclusive
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getTokenEnd(@Nonnull int index) {
+		return this.tokens[this.checkToken(index) * 2 + 1];
+	}
+
+	/**
+	 *
+	 * @param index - Index of the token
+	 * @return Token as it has been written inside the message
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final String getToken(@Nonnull int index) {
+		return this.message.substring(this.getTokenStart(index), this.getTokenEnd(index));
+	}
+
+	private final int checkToken(int index) {
+
+		if (index < 0 || index >= this.tokenCount) {
+			throw new IndexOutOfBoundsException("Token " + index + " of " + this.tokenCount);
+		}
+
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "ChatMessageAnalysis [message=" + message + ", skeleton=" + skeleton + ", uppercase=" + uppercase
+				+ ", tokens=" + tokenCount + "]";
+	}
+
+}
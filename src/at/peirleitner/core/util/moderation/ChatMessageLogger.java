@@ -0,0 +1,251 @@
+package at.peirleitner.core.util.moderation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.Core;
+import at.peirleitner.core.system.ModerationSystem;
+import at.peirleitner.core.util.LogType;
+import at.peirleitner.core.util.database.BatchWriter;
+import at.peirleitner.core.util.database.DatabaseExecutor;
+import at.peirleitner.core.util.database.TableType;
+
+/**
+ * Write-behind logger for {@link UserChatMessage}s. IDs are assigned from a
+ * block that has been reserved inside {@link TableType#SEQUENCES}, so the
+ * caller knows the ID right away while the message is written later on as
+ * part of a batch by a {@link BatchWriter}.<br>
+ * <br>
+ * If the database stays unavailable for longer than the queue can hold, the
+ * oldest messages are dropped, see {@link #getDroppedMessages()}.
+ * {@link #shutdown()} has to be called before the {@link DatabaseExecutor} is
+ * being shut down.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see ModerationSystem#logChatMessage(UserChatMessage)
+ */
+public final class ChatMessageLogger {
+
+	private static final String SEQUENCE = "moderation_log_user_messages";
+
+	private final String pluginName;
+	private final int blockSize;
+	private final BatchWriter<UserChatMessage> writer;
+
+	// Guarded by idLock
+	private final Object idLock = new Object();
+	private boolean sequenceCreated;
+	private int nextID;
+	private int endID;
+
+	// Messages written right away
+	private final LongAdder written;
+
+	// Statements are cached by their SQL, build it only once
+	private final String sqlInitSequence = "INSERT IGNORE INTO " + TableType.SEQUENCES.getTableName(true)
+			+ " (name, nextValue) SELECT ?, COALESCE(MAX(id), 0) + 1 FROM "
+			+ TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true);
+	private final String sqlReserve = "UPDATE " + TableType.SEQUENCES.getTableName(true)
+			+ " SET nextValue = LAST_INSERT_ID(nextValue + ?) WHERE name = ?";
+	private final String sqlInsert = "INSERT INTO " + TableType.MODERATION_LOG_USER_MESSAGES.getTableName(true)
+			+ " (id, uuid, message, sent, saveType, type, recipient, metaData) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	/**
+	 *
+	 * @param pluginName    - Name of the plugin that owns this logger
+	 * @param queueSize     - Maximum amount of queued messages
+	 * @param batchSize     - Maximum amount of messages per batch, reaching it
+	 *                      triggers a flush
+	 * @param blockSize     - Amount of IDs reserved at once
+	 * @param flushInterval - Milliseconds between two flushes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public ChatMessageLogger(@Nonnull String pluginName, @Nonnull int queueSize, @Nonnull int batchSize,
+			@Nonnull int blockSize, @Nonnull long flushInterval) {
+
+		this.pluginName = pluginName;
+		this.blockSize = Math.max(1, blockSize);
+		this.written = new LongAdder();
+		this.writer = new BatchWriter<>(pluginName, this.getClass(), "ChatMessages", this.sqlInsert,
+				this::addBatch, queueSize, batchSize, flushInterval);
+
+	}
+
+	/**
+	 *
+	 * @return Next unique ID for a {@link UserChatMessage}
+	 * @throws SQLException If a new block of IDs could not be reserved
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int nextID() throws SQLException {
+
+		synchronized (this.idLock) {
+
+			if (this.nextID >= this.endID) {
+				this.reserve();
+			}
+
+			return this.nextID++;
+		}
+
+	}
+
+	private final void reserve() throws SQLException {
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			// Continue after the highest existing ID on first use
+			if (!this.sequenceCreated) {
+				PreparedStatement stmt = connection.prepareStatement(this.sqlInitSequence);
+				stmt.setString(1, SEQUENCE);
+				stmt.executeUpdate();
+				this.sequenceCreated = true;
+			}
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlReserve);
+			stmt.setInt(1, this.blockSize);
+			stmt.setString(2, SEQUENCE);
+			stmt.executeUpdate();
+
+			// LAST_INSERT_ID is bound to the connection
+			ResultSet rs = connection.prepareStatement("SELECT LAST_INSERT_ID()").executeQuery();
+			rs.next();
+
+			this.endID = rs.getInt(1);
+			this.nextID = this.endID - this.blockSize;
+		}
+
+	}
+
+	/**
+	 * Assign an ID to the message and queue it for writing
+	 *
+	 * @param message - Message
+	 * @return Assigned ID or <code>-1</code> if none could be reserved
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int log(@Nonnull UserChatMessage message) {
+
+		try {
+			message.setID(this.nextID());
+		} catch (SQLException e) {
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.ERROR,
+					"Could not reserve ID for ChatMessage '" + message.toString() + "'/SQL: " + e.getMessage());
+			return -1;
+		}
+
+		this.writer.queue(message);
+		return message.getID();
+	}
+
+	/**
+	 * Write a message right away, bypassing the queue
+	 *
+	 * @param message - Message
+	 * @return Assigned ID or <code>-1</code> if an error occurs
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int write(@Nonnull UserChatMessage message) {
+
+		// Reserving a block leases its own connection
+		try {
+			message.setID(this.nextID());
+		} catch (SQLException e) {
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.ERROR,
+					"Could not reserve ID for ChatMessage '" + message.toString() + "'/SQL: " + e.getMessage());
+			return -1;
+		}
+
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
+
+			PreparedStatement stmt = connection.prepareStatement(this.sqlInsert);
+			this.setParameters(stmt, message);
+			stmt.executeUpdate();
+
+			this.written.increment();
+			return message.getID();
+
+		} catch (SQLException e) {
+			Core.getInstance().log(this.pluginName, this.getClass(), LogType.ERROR,
+					"Could not log ChatMessage '" + message.toString() + "' to Database/SQL: " + e.getMessage());
+			return -1;
+		}
+
+	}
+
+	/**
+	 * Write all queued messages towards the database
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see BatchWriter#flush()
+	 */
+	public final void flush() {
+		this.writer.flush();
+	}
+
+	private final void addBatch(@Nonnull PreparedStatement stmt, @Nonnull UserChatMessage message)
+			throws SQLException {
+		this.setParameters(stmt, message);
+		stmt.addBatch();
+	}
+
+	private final void setParameters(@Nonnull PreparedStatement stmt, @Nonnull UserChatMessage message)
+			throws SQLException {
+		stmt.setInt(1, message.getID());
+		stmt.setString(2, message.getUUID().toString());
+		stmt.setString(3, message.getMessage());
+		stmt.setLong(4, message.getSent());
+		stmt.setInt(5, message.getSaveTypeID());
+		stmt.setString(6, message.getType().toString());
+		stmt.setString(7, message.getRecipient());
+		stmt.setString(8, message.getMetaData());
+	}
+
+	/**
+	 * Write all remaining messages
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void shutdown() {
+		this.writer.shutdown();
+	}
+
+	public final int getQueuedMessages() {
+		return this.writer.getQueued();
+	}
+
+	public final long getWrittenMessages() {
+		return this.writer.getWritten() + this.written.sum();
+	}
+
+	/**
+	 *
+	 * @return Amount of messages that have been dropped as they could not be
+	 *         written towards the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getDroppedMessages() {
+		return this.writer.getDropped();
+	}
+
+	@Override
+	public String toString() {
+		return "ChatMessageLogger[queued=" + this.getQueuedMessages() + ",written=" + this.getWrittenMessages()
+				+ ",callerWrites=" + this.writer.getCallerWrites() + ",failedBatches="
+				+ this.writer.getFailedBatches() + ",dropped=" + this.getDroppedMessages() + "]";
+	}
+
+}
@@ -0,0 +1,164 @@
+package at.peirleitner.core.util.moderation;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.ModerationSystem;
+
+/**
+ * Token bucket that limits the amount of chat messages per User. Every User
+ * may send up to {@link #getBurst()} messages at once, afterwards a new
+ * message is granted every {@link #getRefillSeconds()} seconds.<br>
+ * <br>
+ * The bucket of a User is stored as the time at which it will be full again
+ * inside a single {@link AtomicLong}, messages are granted using
+ * compare-and-set without any lock, database or file access.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see ModerationSystem#getChatRateLimiter()
+ */
+public final class ChatRateLimiter {
+
+	/**
+	 * Immutable configuration, swapped as a whole
+	 */
+	private static final class Config {
+
+		private final int burst;
+		private final int refillSeconds;
+		private final long interval;
+		private final long tolerance;
+
+		private Config(int burst, int refillSeconds) {
+			this.burst = Math.max(1, burst);
+			this.refillSeconds = Math.max(0, refillSeconds);
+			this.interval = TimeUnit.SECONDS.toNanos(this.refillSeconds);
+			this.tolerance = this.interval * (this.burst - 1);
+		}
+
+	}
+
+	private final ConcurrentHashMap<UUID, AtomicLong> buckets;
+	private volatile Config config;
+
+	/**
+	 *
+	 * @param burst         - Amount of messages that may be sent at once
+	 * @param refillSeconds - Seconds until another message is granted,
+	 *                      <code>0</code> to disable the limit
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public ChatRateLimiter(@Nonnull int burst, @Nonnull int refillSeconds) {
+		this.buckets = new ConcurrentHashMap<>();
+		this.config = new Config(burst, refillSeconds);
+	}
+
+	/**
+	 * Apply a new configuration, existing buckets are kept
+	 *
+	 * @param burst         - Amount of messages that may be sent at once
+	 * @param refillSeconds - Seconds until another message is granted,
+	 *                      <code>0</code> to disable the limit
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void configure(@Nonnull int burst, @Nonnull int refillSeconds) {
+		this.config = new Config(burst, refillSeconds);
+	}
+
+	/**
+	 * Take a message from the bucket of the User
+	 *
+	 * @param uuid - UUID of the User
+	 * @return If the User may send a message. Denied messages are not counted.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean tryAcquire(@Nonnull UUID uuid) {
+
+		final Config config = this.config;
+
+		if (config.interval == 0) {
+			return true;
+		}
+
+		// A new bucket is full
+		final AtomicLong bucket = this.buckets.computeIfAbsent(uuid, key -> new AtomicLong(System.nanoTime()));
+
+		while (true) {
+
+			final long now = System.nanoTime();
+			final long full = bucket.get();
+			final long start = Math.max(full, now);
+
+			// Not a single message left
+			if (start - now > config.tolerance) {
+				return false;
+			}
+
+			if (bucket.compareAndSet(full, start + config.interval)) {
+				return true;
+			}
+
+		}
+
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Milliseconds until the User may send another message,
+	 *         <code>0</code> if a message may be sent right away
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getRetryAfter(@Nonnull UUID uuid) {
+
+		final Config config = this.config;
+		final AtomicLong bucket = this.buckets.get(uuid);
+
+		if (config.interval == 0 || bucket == null) {
+			return 0L;
+		}
+
+		final long wait = bucket.get() - System.nanoTime() - config.tolerance;
+		return wait <= 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(wait) + 1;
+	}
+
+	/**
+	 * Remove the bucket of a User, should be called on disconnect
+	 *
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final void remove(@Nonnull UUID uuid) {
+		this.buckets.remove(uuid);
+	}
+
+	public final int getBurst() {
+		return this.config.burst;
+	}
+
+	public final int getRefillSeconds() {
+		return this.config.refillSeconds;
+	}
+
+	public final int size() {
+		return this.buckets.size();
+	}
+
+	@Override
+	public String toString() {
+		final Config config = this.config;
+		return "ChatRateLimiter[burst=" + config.burst + ",refill=" + config.refillSeconds + "s,buckets="
+				+ this.buckets.size() + "]";
+	}
+
+}
@@ -0,0 +1,304 @@
+package at.peirleitner.core.util.moderation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.ModerationSystem;
+
+/**
+ * Case-insensitive multi-pattern matcher based on the Aho-Corasick algorithm.
+ * Every pattern is registered with a set of flags, {@link #match(CharSequence)}
+ * returns all flags of the patterns contained in a text after a single pass
+ * over it.<br>
+ * <br>
+ * Instances are immutable and may be shared between threads, use a
+ * {@link Builder} to create them.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see ModerationSystem
+ */
+public final class PhraseMatcher {
+
+	private static final char[] NO_KEYS = new char[0];
+	private static final int[] NO_TARGETS = new int[0];
+
+	// Transitions of each state, keys are sorted for binary search
+	private final char[][] keys;
+	private final int[][] targets;
+	private final int[] fail;
+	private final int[] output;
+	private final int allFlags;
+	private final int patterns;
+
+	private PhraseMatcher(char[][] keys, int[][] targets, int[] fail, int[] output, int allFlags, int patterns) {
+		this.keys = keys;
+		this.targets = targets;
+		this.fail = fail;
+		this.output = output;
+		this.allFlags = allFlags;
+		this.patterns = patterns;
+	}
+
+	/**
+	 *
+	 * @return Matcher without any patterns
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static PhraseMatcher empty() {
+		return new Builder().build();
+	}
+
+	static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private final int next(int state, char c) {
+
+		final char[] k = this.keys[state];
+		int index = Arrays.binarySearch(k, c);
+		return index < 0 ? -1 : this.targets[state][index];
+	}
+
+	private final int advance(int state, char c) {
+
+		int target;
+
+		while ((target = this.next(state, c)) < 0 && state != 0) {
+			state = this.fail[state];
+		}
+
+		return target < 0 ? 0 : target;
+	}
+
+	/**
+	 *
+	 * @param text - Text to search in
+	 * @return Flags of all patterns that are contained in the text, combined
+	 *         using bitwise OR. <code>0</code> if none matched.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int match(@Nonnull CharSequence text) {
+
+		int state = 0;
+		int flags = 0;
+
+		for (int i = 0; i < text.length(); i++) {
+
+			state = this.advance(state, fold(text.charAt(i)));
+			flags |= this.output[state];
+
+			// Nothing more to find
+			if (flags == this.allFlags) {
+				break;
+			}
+
+		}
+
+		return flags;
+	}
+
+	/**
+	 *
+	 * @param text   - Text to search in
+	 * @param length - Amount of characters to search in, starting at the first
+	 *               one
+	 * @return Flags of all patterns that are contained in the text as of
+	 *         {@link #match(CharSequence)}
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see ChatMessageAnalysis#match(PhraseMatcher)
+	 */
+	public final int match(@Nonnull char[] text, @Nonnull int length) {
+
+		int state = 0;
+		int flags = 0;
+
+		for (int i = 0; i < length; i++) {
+
+			state = this.advance(state, fold(text[i]));
+			flags |= this.output[state];
+
+			// Nothing more to find
+			if (flags == this.allFlags) {
+				break;
+			}
+
+		}
+
+		return flags;
+	}
+
+	/**
+	 *
+	 * @return Amount of registered patterns
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getPatternCount() {
+		return this.patterns;
+	}
+
+	/**
+	 *
+	 * @return Amount of states of the automaton
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getStateCount() {
+		return this.fail.length;
+	}
+
+	@Override
+	public String toString() {
+		return "PhraseMatcher[patterns=" + this.patterns + ",states=" + this.getStateCount() + "]";
+	}
+
+	/**
+	 * Builder for a {@link PhraseMatcher}
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final class Builder {
+
+		private final List<char[]> stateKeys;
+		private final List<int[]> stateTargets;
+		private final List<Integer> stateOutput;
+		private int allFlags;
+		private int patterns;
+
+		public Builder() {
+			this.stateKeys = new ArrayList<>();
+			this.stateTargets = new ArrayList<>();
+			this.stateOutput = new ArrayList<>();
+			this.newState();
+		}
+
+		private final int newState() {
+			this.stateKeys.add(NO_KEYS);
+			this.stateTargets.add(NO_TARGETS);
+			this.stateOutput.add(0);
+			return this.stateKeys.size() - 1;
+		}
+
+		/**
+		 * Register a pattern, empty patterns will be ignored
+		 *
+		 * @param pattern - Pattern
+		 * @param flags   - Flags that will be reported if the pattern matches, must
+		 *                not be <code>0</code>
+		 * @return Builder
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final Builder add(@Nonnull String pattern, @Nonnull int flags) {
+
+			if (flags == 0) {
+				throw new IllegalArgumentException("Flags must not be 0");
+			}
+
+			if (pattern.isEmpty()) {
+				return this;
+			}
+
+			int state = 0;
+
+			for (int i = 0; i < pattern.length(); i++) {
+
+				final char c = fold(pattern.charAt(i));
+				final char[] k = this.stateKeys.get(state);
+				int index = Arrays.binarySearch(k, c);
+
+				if (index >= 0) {
+					state = this.stateTargets.get(state)[index];
+					continue;
+				}
+
+				// Insert the new transition while keeping the keys sorted
+				index = -index - 1;
+				final int target = this.newState();
+				final int[] t = this.stateTargets.get(state);
+
+				char[] newKeys = new char[k.length + 1];
+				int[] newTargets = new int[t.length + 1];
+
+				System.arraycopy(k, 0, newKeys, 0, index);
+				System.arraycopy(t, 0, newTargets, 0, index);
+				newKeys[index] = c;
+				newTargets[index] = target;
+				System.arraycopy(k, index, newKeys, index + 1, k.length - index);
+				System.arraycopy(t, index, newTargets, index + 1, t.length - index);
+
+				this.stateKeys.set(state, newKeys);
+				this.stateTargets.set(state, newTargets);
+				state = target;
+			}
+
+			this.stateOutput.set(state, this.stateOutput.get(state) | flags);
+			this.allFlags |= flags;
+			this.patterns++;
+			return this;
+		}
+
+		/**
+		 *
+		 * @return Compiled matcher
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final PhraseMatcher build() {
+
+			final int size = this.stateKeys.size();
+			final char[][] keys = this.stateKeys.toArray(new char[size][]);
+			final int[][] targets = this.stateTargets.toArray(new int[size][]);
+			final int[] fail = new int[size];
+			final int[] output = new int[size];
+
+			for (int i = 0; i < size; i++) {
+				output[i] = this.stateOutput.get(i);
+			}
+
+			// Breadth-first, the failure state of a parent is always resolved first
+			final int[] queue = new int[size];
+			int head = 0;
+			int tail = 0;
+
+			for (int target : targets[0]) {
+				fail[target] = 0;
+				queue[tail++] = target;
+			}
+
+			while (head < tail) {
+
+				final int state = queue[head++];
+
+				for (int i = 0; i < keys[state].length; i++) {
+
+					final char c = keys[state][i];
+					final int target = targets[state][i];
+					int f = fail[state];
+					int index;
+
+					while ((index = Arrays.binarySearch(keys[f], c)) < 0 && f != 0) {
+						f = fail[f];
+					}
+
+					fail[target] = index < 0 ? 0 : targets[f][index];
+					output[target] |= output[fail[target]];
+					queue[tail++] = target;
+				}
+
+			}
+
+			return new PhraseMatcher(keys, targets, fail, output, this.allFlags, this.patterns);
+		}
+
+	}
+
+}
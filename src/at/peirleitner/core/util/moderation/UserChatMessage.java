@@ -1,5 +1,6 @@
 package at.peirleitner.core.util.moderation;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -157,9 +158,9 @@ public class UserChatMessage {
 
 	public final ChatLog getChatLog() {
 		
-		try {
+		try (Connection connection = Core.getInstance().getMySQL().lease()) {
 			
-			PreparedStatement stmt = Core.getInstance().getMySQL().getConnection().prepareStatement("SELECT * FROM " + TableType.MODERATION_CHATLOGS.getTableName(true) + " WHERE message = ?");
+			PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + TableType.MODERATION_CHATLOGS.getTableName(true) + " WHERE message = ?");
 			stmt.setInt(1, this.getID());
 			
 			ResultSet rs = stmt.executeQuery();
@@ -16,12 +16,14 @@ public class LanguageMessage {
 	private final Language language;
 	private final String key;
 	private final String value;
+	private final MessageTemplate template;
 
 	public LanguageMessage(String pluginName, Language language, String key, String value) {
 		this.pluginName = pluginName;
 		this.language = language;
 		this.key = key;
 		this.value = value;
+		this.template = MessageTemplate.compile(value);
 	}
 
 	public final String getPluginName() {
@@ -40,6 +42,38 @@ public class LanguageMessage {
 		return value;
 	}
 	
+	/**
+	 * 
+	 * @return Precompiled version of {@link #getValue()} with translated color
+	 *         codes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final MessageTemplate getTemplate() {
+		return template;
+	}
+
+	/**
+	 * 
+	 * @param replacements - Replacements
+	 * @return Message with replaced placeholders and translated color codes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see MessageTemplate#render(List)
+	 */
+	public final String getColoredMessage(@Nullable List<String> replacements) {
+		return this.getTemplate().render(replacements);
+	}
+
+	/**
+	 * 
+	 * @param replacements - Replacements
+	 * @return Message with replaced placeholders. Color codes will not be
+	 *         translated.
+	 * @since 1.0.5
+	 * @author Markus Peirleitner (Rengobli)
+	 * @see #getColoredMessage(List)
+	 */
 	public final String getMessage(@Nullable List<String> replacements) {
 		
 		String message = this.getValue();
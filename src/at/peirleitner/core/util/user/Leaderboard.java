@@ -0,0 +1,201 @@
+package at.peirleitner.core.util.user;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded ranking of the highest amounts of a single
+ * {@link AvailableUserStatistic}. Only the best {@link #getCapacity()} Users
+ * are being kept, all others are dropped once they fall below the last
+ * place.<br>
+ * <br>
+ * Entries are kept inside a sorted tree and indexed by their UUID, updates and
+ * inserts are performed in <code>O(log n)</code>. All methods are synchronized
+ * on the instance.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ */
+public final class Leaderboard {
+
+	/**
+	 * Single ranking entry
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static final class Entry {
+
+		private final UUID uuid;
+		private final String name;
+		private final int amount;
+
+		public Entry(@Nonnull UUID uuid, @Nullable String name, @Nonnull int amount) {
+			this.uuid = uuid;
+			this.name = name;
+			this.amount = amount;
+		}
+
+		public final UUID getUUID() {
+			return uuid;
+		}
+
+		/**
+		 *
+		 * @return Last known name or <code>null</code> if it has not been resolved yet
+		 * @since 1.0.19
+		 * @author Markus Peirleitner (Rengobli)
+		 */
+		public final String getName() {
+			return name;
+		}
+
+		public final int getAmount() {
+			return amount;
+		}
+
+		@Override
+		public String toString() {
+			return "Leaderboard.Entry [uuid=" + uuid + ", name=" + name + ", amount=" + amount + "]";
+		}
+
+	}
+
+	private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::getAmount).reversed()
+			.thenComparing(Entry::getUUID);
+
+	private final int statistic;
+	private final int capacity;
+	private final TreeSet<Entry> ranking;
+	private final HashMap<UUID, Entry> index;
+	private final long lastRefresh;
+
+	/**
+	 *
+	 * @param statistic - ID of the Statistic
+	 * @param capacity  - Amount of places
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public Leaderboard(@Nonnull int statistic, @Nonnull int capacity) {
+		this.statistic = statistic;
+		this.capacity = Math.max(1, capacity);
+		this.ranking = new TreeSet<>(ORDER);
+		this.index = new HashMap<>();
+		this.lastRefresh = System.currentTimeMillis();
+	}
+
+	/**
+	 * Update the amount of a User. The User will be added if the amount is high
+	 * enough to reach a place, the previous last place will be removed in that
+	 * case.
+	 *
+	 * @param uuid   - UUID of the User
+	 * @param name   - Name of the User, <code>null</code> keeps the known name
+	 * @param amount - Current total amount
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void offer(@Nonnull UUID uuid, @Nullable String name, @Nonnull int amount) {
+
+		Entry current = this.index.get(uuid);
+
+		if (current != null) {
+
+			if (current.getAmount() == amount && (name == null || name.equals(current.getName()))) {
+				return;
+			}
+
+			this.ranking.remove(current);
+			this.insert(new Entry(uuid, name == null ? current.getName() : name, amount));
+			return;
+
+		}
+
+		if (this.ranking.size() >= this.capacity) {
+
+			Entry last = this.ranking.last();
+
+			if (ORDER.compare(new Entry(uuid, name, amount), last) >= 0) {
+				return;
+			}
+
+			this.ranking.pollLast();
+			this.index.remove(last.getUUID());
+
+		}
+
+		this.insert(new Entry(uuid, name, amount));
+
+	}
+
+	private final void insert(@Nonnull Entry entry) {
+		this.ranking.add(entry);
+		this.index.put(entry.getUUID(), entry);
+	}
+
+	/**
+	 *
+	 * @return Snapshot of all places, starting with the first one
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized List<Entry> getEntries() {
+		return new ArrayList<>(this.ranking);
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Place of the User starting at <code>1</code> or <code>-1</code> if
+	 *         the User is not ranked
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized int getRank(@Nonnull UUID uuid) {
+
+		Entry entry = this.index.get(uuid);
+
+		if (entry == null) {
+			return -1;
+		}
+
+		return this.ranking.headSet(entry).size() + 1;
+	}
+
+	public final int getStatistic() {
+		return statistic;
+	}
+
+	public final int getCapacity() {
+		return capacity;
+	}
+
+	public final synchronized int getSize() {
+		return this.ranking.size();
+	}
+
+	/**
+	 *
+	 * @return Timestamp of the last reconciliation with the database
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final long getLastRefresh() {
+		return lastRefresh;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Leaderboard [statistic=" + statistic + ", capacity=" + capacity + ", size=" + this.ranking.size()
+				+ ", lastRefresh=" + lastRefresh + "]";
+	}
+
+}
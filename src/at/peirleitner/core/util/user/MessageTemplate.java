@@ -0,0 +1,151 @@
+package at.peirleitner.core.util.user;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.md_5.bungee.api.ChatColor;
+
+/**
+ * Precompiled form of a {@link LanguageMessage}. The message is split into
+ * literal segments and placeholder slots (<code>{0}</code>, <code>{1}</code>,
+ * ..) once, color codes using <code>&amp;</code> have already been translated.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see #render(List)
+ */
+public final class MessageTemplate {
+
+	private final String[] segments;
+	private final int[] slots;
+	private final int literalLength;
+
+	private MessageTemplate(String[] segments, int[] slots) {
+		this.segments = segments;
+		this.slots = slots;
+
+		int length = 0;
+
+		for (String segment : segments) {
+			length += segment.length();
+		}
+
+		this.literalLength = length;
+	}
+
+	/**
+	 *
+	 * @param value - Raw message
+	 * @return Compiled template with translated color codes
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public static MessageTemplate compile(@Nonnull String value) {
+
+		final String message = ChatColor.translateAlternateColorCodes('&', value);
+		final List<String> segments = new ArrayList<>();
+		final List<Integer> slots = new ArrayList<>();
+
+		int start = 0;
+		int i = 0;
+
+		while (i < message.length()) {
+
+			if (message.charAt(i) != '{') {
+				i++;
+				continue;
+			}
+
+			// Only digits are allowed between the brackets
+			int end = i + 1;
+			int index = 0;
+
+			while (end < message.length() && message.charAt(end) >= '0' && message.charAt(end) <= '9'
+					&& end - i <= 9) {
+				index = index * 10 + (message.charAt(end) - '0');
+				end++;
+			}
+
+			if (end == i + 1 || end >= message.length() || message.charAt(end) != '}'
+					|| (end - i > 2 && message.charAt(i + 1) == '0')) {
+				i++;
+				continue;
+			}
+
+			segments.add(message.substring(start, i));
+			slots.add(index);
+
+			i = end + 1;
+			start = i;
+
+		}
+
+		segments.add(message.substring(start));
+
+		int[] slotArray = new int[slots.size()];
+
+		for (int j = 0; j < slotArray.length; j++) {
+			slotArray[j] = slots.get(j);
+		}
+
+		return new MessageTemplate(segments.toArray(new String[segments.size()]), slotArray);
+	}
+
+	/**
+	 *
+	 * @param replacements - Replacements, the index inside the list refers to the
+	 *                     placeholder
+	 * @return Message with all placeholders replaced. Placeholders without a
+	 *         replacement will stay as they are.
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final String render(@Nullable List<String> replacements) {
+
+		// Nothing to replace, the message is constant
+		if (this.slots.length == 0) {
+			return this.segments[0];
+		}
+
+		final int size = replacements == null ? 0 : replacements.size();
+		int capacity = this.literalLength;
+
+		for (int slot : this.slots) {
+			capacity += slot < size && replacements.get(slot) != null ? replacements.get(slot).length() : 3;
+		}
+
+		StringBuilder sb = new StringBuilder(capacity);
+
+		for (int i = 0; i < this.slots.length; i++) {
+
+			sb.append(this.segments[i]);
+
+			int slot = this.slots[i];
+
+			if (slot < size) {
+				sb.append(replacements.get(slot));
+			} else {
+				sb.append('{').append(slot).append('}');
+			}
+
+		}
+
+		sb.append(this.segments[this.segments.length - 1]);
+
+		return sb.toString();
+	}
+
+	/**
+	 *
+	 * @return Amount of placeholders inside this template
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int getSlotCount() {
+		return this.slots.length;
+	}
+
+}
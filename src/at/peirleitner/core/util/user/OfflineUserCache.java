@@ -0,0 +1,247 @@
+package at.peirleitner.core.util.user;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import at.peirleitner.core.system.UserSystem;
+
+/**
+ * Bounded cache of {@link User}s that are not online, indexed by their UUID and
+ * their lower case last known name. Entries expire after a fixed time since
+ * they have been added, the least recently used entry is evicted once the
+ * maximum size has been reached.<br>
+ * <br>
+ * All methods are synchronized on the instance.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see UserSystem#getOfflineUserCache()
+ */
+public final class OfflineUserCache {
+
+	private static final class Entry {
+
+		private final User user;
+		private final String name;
+		private final long expires;
+
+		private Entry(User user, long expires) {
+			this.user = user;
+			this.name = toKey(user.getLastKnownName());
+			this.expires = expires;
+		}
+
+	}
+
+	private final int maximumSize;
+	private final long ttl;
+	private final LinkedHashMap<UUID, Entry> entries;
+	private final HashMap<String, UUID> names;
+
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
+	private final LongAdder expirations;
+
+	/**
+	 *
+	 * @param maximumSize - Maximum amount of Users, <code>0</code> disables the
+	 *                    cache
+	 * @param ttl         - Seconds after which a User has to be loaded again
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public OfflineUserCache(@Nonnull int maximumSize, @Nonnull int ttl) {
+		this.maximumSize = Math.max(0, maximumSize);
+		this.ttl = TimeUnit.SECONDS.toNanos(Math.max(0, ttl));
+
+		// Access order, the eldest entry is the least recently used one
+		this.entries = new LinkedHashMap<>(16, 0.75F, true);
+		this.names = new HashMap<>();
+
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		this.expirations = new LongAdder();
+	}
+
+	private static String toKey(@Nonnull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 *
+	 * @param uuid - UUID of the User
+	 * @return Cached User or <code>null</code> if none is cached or it has
+	 *         expired
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final synchronized User get(@Nonnull UUID uuid) {
+		return this.hit(this.entries.get(uuid));
+	}
+
+	/**
+	 *
+	 * @param lastKnownName - Last known name of the User, case-insensitive
+	 * @return Cached User or <code>null</code> if none is cached or it has
+	 *         expired
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final synchronized User getByLastKnownName(@Nonnull String lastKnownName) {
+		final UUID uuid = this.names.get(toKey(lastKnownName));
+		return this.hit(uuid == null ? null : this.entries.get(uuid));
+	}
+
+	private final User hit(@Nullable Entry entry) {
+
+		if (entry == null) {
+			this.misses.increment();
+			return null;
+		}
+
+		if (entry.expires - System.nanoTime() <= 0) {
+			this.remove(entry);
+			this.expirations.increment();
+			this.misses.increment();
+			return null;
+		}
+
+		this.hits.increment();
+		return entry.user;
+	}
+
+	/**
+	 * Add a User, replacing a previous instance
+	 *
+	 * @param user - User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void put(@Nonnull User user) {
+
+		if (this.maximumSize == 0 || this.ttl == 0) {
+			return;
+		}
+
+		final Entry previous = this.entries.remove(user.getUUID());
+
+		if (previous != null) {
+			this.names.remove(previous.name, user.getUUID());
+		}
+
+		final Entry entry = new Entry(user, System.nanoTime() + this.ttl);
+		this.entries.put(user.getUUID(), entry);
+		this.names.put(entry.name, user.getUUID());
+
+		if (this.entries.size() > this.maximumSize) {
+			this.evict();
+		}
+
+	}
+
+	private final void evict() {
+
+		final long now = System.nanoTime();
+		final Iterator<Map.Entry<UUID, Entry>> iterator = this.entries.entrySet().iterator();
+
+		while (this.entries.size() > this.maximumSize && iterator.hasNext()) {
+
+			final Entry entry = iterator.next().getValue();
+			iterator.remove();
+			this.names.remove(entry.name, entry.user.getUUID());
+
+			if (entry.expires - now <= 0) {
+				this.expirations.increment();
+			} else {
+				this.evictions.increment();
+			}
+
+		}
+
+	}
+
+	/**
+	 * Remove a User, should be called whenever it has been changed
+	 *
+	 * @param uuid - UUID of the User
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void invalidate(@Nonnull UUID uuid) {
+
+		final Entry entry = this.entries.get(uuid);
+
+		if (entry != null) {
+			this.remove(entry);
+		}
+
+	}
+
+	private final void remove(@Nonnull Entry entry) {
+		this.entries.remove(entry.user.getUUID());
+		this.names.remove(entry.name, entry.user.getUUID());
+	}
+
+	public final synchronized void clear() {
+		this.entries.clear();
+		this.names.clear();
+	}
+
+	public final synchronized int size() {
+		return this.entries.size();
+	}
+
+	public final int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public final long getHits() {
+		return this.hits.sum();
+	}
+
+	public final long getMisses() {
+		return this.misses.sum();
+	}
+
+	public final long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	public final long getExpirations() {
+		return this.expirations.sum();
+	}
+
+	/**
+	 *
+	 * @return Share of lookups that have been served from the cache between
+	 *         <code>0</code> and <code>1</code>
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final double getHitRate() {
+		final long hits = this.getHits();
+		final long total = hits + this.getMisses();
+		return total == 0 ? 0D : (hits * 1D) / (total * 1D);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "OfflineUserCache[size=" + this.entries.size() + "/" + this.maximumSize + ",hits=" + this.getHits()
+				+ ",misses=" + this.getMisses() + ",evictions=" + this.getEvictions() + ",expirations="
+				+ this.getExpirations() + "]";
+	}
+
+}
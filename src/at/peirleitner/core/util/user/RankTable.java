@@ -0,0 +1,133 @@
+package at.peirleitner.core.util.user;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import at.peirleitner.core.Core;
+
+/**
+ * Immutable lookup table of all {@link Rank}s, ordered by their priority
+ * starting with the highest one. The permission of every Rank is built once
+ * so resolving the Rank of a User only performs the permission checks.<br>
+ * <br>
+ * A new table is created whenever the ranks file has been loaded.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see Core#getRankTable()
+ */
+public final class RankTable {
+
+	private final Rank[] ranks;
+	private final String[] permissions;
+	private final List<Rank> view;
+	private final IdentityHashMap<Rank, Integer> index;
+	private final HashMap<Integer, Rank> byPriority;
+	private final Rank defaultRank;
+
+	/**
+	 *
+	 * @param ranks - All Ranks, in any order
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public RankTable(@Nonnull Collection<Rank> ranks) {
+
+		this.ranks = ranks.toArray(new Rank[ranks.size()]);
+		this.defaultRank = ranks.stream().filter(Rank::isDefault).findFirst().orElse(null);
+
+		// Stable, equal priorities keep the order of the file
+		Arrays.sort(this.ranks, Comparator.comparingInt(Rank::getPriority).reversed());
+
+		this.permissions = new String[this.ranks.length];
+		this.index = new IdentityHashMap<>(this.ranks.length);
+		this.byPriority = new HashMap<>(this.ranks.length * 2);
+
+		for (int i = 0; i < this.ranks.length; i++) {
+
+			final Rank rank = this.ranks[i];
+
+			this.permissions[i] = "Core.rank." + rank.getName().toLowerCase(Locale.ROOT);
+			this.index.put(rank, i);
+			this.byPriority.putIfAbsent(rank.getPriority(), rank);
+		}
+
+		this.view = Collections.unmodifiableList(Arrays.asList(this.ranks));
+	}
+
+	/**
+	 *
+	 * @param hasPermission - Permission check of the User
+	 * @return Rank with the highest priority the User has the permission for or
+	 *         the default Rank if there is none
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@Nullable
+	public final Rank resolve(@Nonnull Predicate<String> hasPermission) {
+
+		for (int i = 0; i < this.ranks.length; i++) {
+
+			if (hasPermission.test(this.permissions[i])) {
+				return this.ranks[i];
+			}
+
+		}
+
+		return this.defaultRank;
+	}
+
+	/**
+	 *
+	 * @return All Ranks starting with the highest priority
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final List<Rank> getRanks() {
+		return this.view;
+	}
+
+	/**
+	 *
+	 * @param rank - Rank
+	 * @return Position of the Rank inside this table starting at <code>0</code>
+	 *         or <code>-1</code> if it is not part of it
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final int indexOf(@Nonnull Rank rank) {
+		final Integer i = this.index.get(rank);
+		return i == null ? -1 : i;
+	}
+
+	@Nullable
+	public final Rank getByPriority(@Nonnull int priority) {
+		return this.byPriority.get(priority);
+	}
+
+	@Nullable
+	public final Rank getDefaultRank() {
+		return this.defaultRank;
+	}
+
+	public final int size() {
+		return this.ranks.length;
+	}
+
+	@Override
+	public String toString() {
+		return "RankTable[ranks=" + this.ranks.length + ",default="
+				+ (this.defaultRank == null ? null : this.defaultRank.getName()) + "]";
+	}
+
+}
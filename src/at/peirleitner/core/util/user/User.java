@@ -168,6 +168,14 @@ public final class User {
 
 		} else {
 
+			// The event may only be called on the main thread, ex. after an asynchronous
+			// database task has been completed (v1.0.19)
+			if (!org.bukkit.Bukkit.isPrimaryThread()) {
+				org.bukkit.Bukkit.getScheduler().runTask(at.peirleitner.core.SpigotMain.getInstance(),
+						() -> this.sendMessage(pluginName, key, replacements, prefix));
+				return;
+			}
+
 			org.bukkit.entity.Player p = org.bukkit.Bukkit.getPlayer(this.getUUID());
 
 			// TODO: Add message to cache, up to a maximum and display it on joining
@@ -270,15 +278,8 @@ public final class User {
 		if (p == null)
 			return Core.getInstance().getDefaultRank();
 
-		for (Rank rank : Core.getInstance().getInRightOrder()) {
-
-			if (p.hasPermission("Core.rank." + rank.getName().toLowerCase())) {
-				return rank;
-			}
-
-		}
-
-		return Core.getInstance().getDefaultRank();
+		// Cached until the Rank is invalidated, v1.0.19
+		return Core.getInstance().getRank(p.getUniqueId(), p::hasPermission);
 	}
 
 	public final String getDisplayName() {
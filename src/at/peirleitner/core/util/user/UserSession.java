@@ -0,0 +1,81 @@
+package at.peirleitner.core.util.user;
+
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+
+import at.peirleitner.core.system.UserSystem;
+
+/**
+ * A {@link User} whose data has been loaded while logging in, so joining does
+ * not have to access the database anymore. Economy, Experience and Statistics
+ * are held by the caches of their systems, the session only tracks the User
+ * until it has joined. Sessions are created on the asynchronous login thread
+ * and discarded on disconnect.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see UserSystem#loadSession(UUID, String, boolean)
+ */
+public final class UserSession {
+
+	private final User user;
+	private final boolean loginRecorded;
+	private final long created;
+	private volatile boolean joined;
+
+	/**
+	 *
+	 * @param user          - User
+	 * @param loginRecorded - If the last login has already been written
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public UserSession(@Nonnull User user, @Nonnull boolean loginRecorded) {
+		this.user = user;
+		this.loginRecorded = loginRecorded;
+		this.created = System.currentTimeMillis();
+	}
+
+	public final UUID getUUID() {
+		return this.user.getUUID();
+	}
+
+	public final User getUser() {
+		return user;
+	}
+
+	/**
+	 *
+	 * @return If the last login has been written while loading this session
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean isLoginRecorded() {
+		return loginRecorded;
+	}
+
+	public final long getCreated() {
+		return created;
+	}
+
+	/**
+	 *
+	 * @return If the User has joined the server after logging in
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final boolean isJoined() {
+		return joined;
+	}
+
+	public final void setJoined() {
+		this.joined = true;
+	}
+
+	@Override
+	public String toString() {
+		return "UserSession [uuid=" + this.getUUID() + ", joined=" + joined + ", created=" + created + "]";
+	}
+
+}
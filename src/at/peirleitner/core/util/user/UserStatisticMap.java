@@ -0,0 +1,268 @@
+package at.peirleitner.core.util.user;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Statistics of a single {@link User}, mapped by the ID of their
+ * {@link AvailableUserStatistic}. Values are stored inside primitive arrays
+ * using open addressing, no object is being created per entry.<br>
+ * <br>
+ * All methods are synchronized on the instance, every User has their own map.
+ *
+ * @since 1.0.19
+ * @author Markus Peirleitner (Rengobli)
+ * @see UserStatistic
+ */
+public final class UserStatisticMap {
+
+	/**
+	 * Consumer for the entries of this map
+	 *
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	@FunctionalInterface
+	public interface Visitor {
+		void accept(int statistic, int amount, long firstAdded, long lastAdded);
+	}
+
+	// IDs are generated by AUTO_INCREMENT and start at 1
+	private static final int EMPTY = 0;
+
+	private int[] keys;
+	private int[] amounts;
+	private long[] firstAdded;
+	private long[] lastAdded;
+	private int size;
+
+	public UserStatisticMap() {
+		this(8);
+	}
+
+	/**
+	 *
+	 * @param expected - Expected amount of entries
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public UserStatisticMap(@Nonnull int expected) {
+		this.allocate(capacityFor(expected));
+	}
+
+	private static int capacityFor(int expected) {
+		int capacity = 8;
+
+		// Keep the load factor below 0.5
+		while (capacity < expected * 2) {
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+
+	private final void allocate(int capacity) {
+		this.keys = new int[capacity];
+		this.amounts = new int[capacity];
+		this.firstAdded = new long[capacity];
+		this.lastAdded = new long[capacity];
+	}
+
+	private static int hash(int key) {
+		// Spread sequential IDs over the table
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private final int indexOf(int statistic) {
+
+		final int mask = this.keys.length - 1;
+		int i = hash(statistic) & mask;
+
+		while (this.keys[i] != EMPTY) {
+
+			if (this.keys[i] == statistic) {
+				return i;
+			}
+
+			i = (i + 1) & mask;
+		}
+
+		return -(i + 1);
+	}
+
+	private final int slotFor(int statistic) {
+
+		if (statistic == EMPTY) {
+			throw new IllegalArgumentException("Statistic ID must not be " + EMPTY);
+		}
+
+		int index = this.indexOf(statistic);
+
+		if (index >= 0) {
+			return index;
+		}
+
+		if ((this.size + 1) * 2 > this.keys.length) {
+			this.resize(this.keys.length << 1);
+			index = this.indexOf(statistic);
+		}
+
+		index = -index - 1;
+		this.keys[index] = statistic;
+		this.size++;
+		return index;
+	}
+
+	private final void resize(int capacity) {
+
+		final int[] oldKeys = this.keys;
+		final int[] oldAmounts = this.amounts;
+		final long[] oldFirstAdded = this.firstAdded;
+		final long[] oldLastAdded = this.lastAdded;
+
+		this.allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+
+			if (oldKeys[i] == EMPTY) {
+				continue;
+			}
+
+			int index = -this.indexOf(oldKeys[i]) - 1;
+			this.keys[index] = oldKeys[i];
+			this.amounts[index] = oldAmounts[i];
+			this.firstAdded[index] = oldFirstAdded[i];
+			this.lastAdded[index] = oldLastAdded[i];
+		}
+
+	}
+
+	/**
+	 * Set the values of a Statistic, used when loading from the database
+	 *
+	 * @param statistic  - ID of the Statistic
+	 * @param amount     - Amount
+	 * @param firstAdded - First time added
+	 * @param lastAdded  - Last time added
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void put(@Nonnull int statistic, @Nonnull int amount, @Nonnull long firstAdded,
+			@Nonnull long lastAdded) {
+		int index = this.slotFor(statistic);
+		this.amounts[index] = amount;
+		this.firstAdded[index] = firstAdded;
+		this.lastAdded[index] = lastAdded;
+	}
+
+	/**
+	 * Add an amount towards a Statistic
+	 *
+	 * @param statistic - ID of the Statistic
+	 * @param amount    - Amount
+	 * @param time      - Time of the increment
+	 * @return New amount
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized int add(@Nonnull int statistic, @Nonnull int amount, @Nonnull long time) {
+
+		int index = this.indexOf(statistic);
+
+		if (index < 0) {
+			index = this.slotFor(statistic);
+			this.firstAdded[index] = time;
+		}
+
+		this.amounts[index] += amount;
+		this.lastAdded[index] = Math.max(this.lastAdded[index], time);
+		return this.amounts[index];
+	}
+
+	/**
+	 *
+	 * @param statistic - ID of the Statistic
+	 * @return If a value for the given Statistic exists
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized boolean contains(@Nonnull int statistic) {
+		return statistic != EMPTY && this.indexOf(statistic) >= 0;
+	}
+
+	/**
+	 *
+	 * @param statistic - ID of the Statistic
+	 * @return Amount or <code>0</code> if the Statistic has no value
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized int getAmount(@Nonnull int statistic) {
+
+		if (statistic == EMPTY) {
+			return 0;
+		}
+
+		int index = this.indexOf(statistic);
+		return index < 0 ? 0 : this.amounts[index];
+	}
+
+	/**
+	 * Visit a single entry
+	 *
+	 * @param statistic - ID of the Statistic
+	 * @param visitor   - Visitor
+	 * @return If the Statistic has a value and the visitor has been called
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized boolean visit(@Nonnull int statistic, @Nonnull Visitor visitor) {
+
+		if (statistic == EMPTY) {
+			return false;
+		}
+
+		int index = this.indexOf(statistic);
+
+		if (index < 0) {
+			return false;
+		}
+
+		visitor.accept(statistic, this.amounts[index], this.firstAdded[index], this.lastAdded[index]);
+		return true;
+	}
+
+	/**
+	 * Visit all entries
+	 *
+	 * @param visitor - Visitor
+	 * @since 1.0.19
+	 * @author Markus Peirleitner (Rengobli)
+	 */
+	public final synchronized void forEach(@Nonnull Visitor visitor) {
+
+		for (int i = 0; i < this.keys.length; i++) {
+
+			if (this.keys[i] != EMPTY) {
+				visitor.accept(this.keys[i], this.amounts[i], this.firstAdded[i], this.lastAdded[i]);
+			}
+
+		}
+
+	}
+
+	public final synchronized int size() {
+		return this.size;
+	}
+
+	public final synchronized void clear() {
+		Arrays.fill(this.keys, EMPTY);
+		Arrays.fill(this.amounts, 0);
+		Arrays.fill(this.firstAdded, 0L);
+		Arrays.fill(this.lastAdded, 0L);
+		this.size = 0;
+	}
+
+}